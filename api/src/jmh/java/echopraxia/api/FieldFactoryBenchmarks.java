@@ -0,0 +1,42 @@
+package echopraxia.api;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class FieldFactoryBenchmarks {
+  private static final Value<String> value = Value.string("value");
+  private static final Attributes attributes = Attributes.empty();
+
+  @Benchmark
+  public void defaultField(Blackhole blackhole) {
+    blackhole.consume(Field.keyValue("name", value, DefaultField.class));
+  }
+
+  @Benchmark
+  public void customFieldReflective(Blackhole blackhole) throws Exception {
+    // what Field.create used to do for every custom field
+    Constructor<CustomField> constructor =
+        CustomField.class.getConstructor(String.class, Value.class, Attributes.class);
+    blackhole.consume(constructor.newInstance("name", value, attributes));
+  }
+
+  @Benchmark
+  public void customFieldCached(Blackhole blackhole) {
+    blackhole.consume(Field.keyValue("name", value, CustomField.class));
+  }
+
+  public static class CustomField extends DefaultField {
+    public CustomField(
+        @NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes) {
+      super(name, value, attributes);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package echopraxia.api;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ObjectRendererBenchmarks {
+  private static final Person person =
+      new Person("Alice", 42, true, new Address("1 Main Street", "Springfield"));
+
+  private static final List<Person> people = List.of(person, person, person);
+
+  @Benchmark
+  public void handWritten(Blackhole blackhole) {
+    blackhole.consume(personValue(person));
+  }
+
+  @Benchmark
+  public void fromObject(Blackhole blackhole) {
+    blackhole.consume(Value.fromObject(person));
+  }
+
+  @Benchmark
+  public void fromObjectList(Blackhole blackhole) {
+    blackhole.consume(Value.fromObject(people));
+  }
+
+  private static Value<?> personValue(Person p) {
+    final Address a = p.address();
+    return Value.object(
+        Field.keyValue("name", Value.string(p.name())),
+        Field.keyValue("age", Value.number(p.age())),
+        Field.keyValue("active", Value.bool(p.active())),
+        Field.keyValue(
+            "address",
+            Value.object(
+                Field.keyValue("street", Value.string(a.street())),
+                Field.keyValue("city", Value.string(a.city())))));
+  }
+
+  public record Person(String name, int age, boolean active, Address address) {}
+
+  public record Address(String street, String city) {}
+}
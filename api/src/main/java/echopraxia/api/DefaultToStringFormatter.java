@@ -68,6 +68,11 @@ public class DefaultToStringFormatter implements ToStringFormatter {
       return getToStringValue(attributes);
     }
 
+    // only compute a lazy value once it is known to be rendered.
+    if (value instanceof Value.LazyValue) {
+      return formatValue(value.resolve());
+    }
+
     if (value.type() == Value.Type.OBJECT) {
       StringBuilder b = new StringBuilder();
       formatObject(b, value.asObject());
@@ -94,6 +99,12 @@ public class DefaultToStringFormatter implements ToStringFormatter {
       return;
     }
 
+    if (v instanceof Value.LazyValue) {
+      final Value<?> resolved = v.resolve();
+      formatValue(b, resolved, attributes.plusAll(resolved.attributes()));
+      return;
+    }
+
     if (v.type() == Value.Type.OBJECT) {
       formatObject(b, v.asObject());
     } else {
@@ -127,6 +138,12 @@ public class DefaultToStringFormatter implements ToStringFormatter {
         }
       case ARRAY:
         List<Value<?>> elements = v.asArray().raw();
+        if (elements instanceof PrimitiveArrayList) {
+          // render the backing array without creating a value per element.
+          StringBuilder b = new StringBuilder();
+          ((PrimitiveArrayList) elements).appendTo(b, maxWidth);
+          return b.toString();
+        }
         if (elements.size() > maxWidth) {
           String limited =
               elements.stream()
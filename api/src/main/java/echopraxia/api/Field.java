@@ -1,7 +1,5 @@
 package echopraxia.api;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.atomic.LongAdder;
 import org.jetbrains.annotations.NotNull;
 
@@ -90,7 +88,8 @@ public interface Field
   }
 
   /**
-   * The base create method for fields.
+   * The base create method for fields. Custom field classes are created through the {@link
+   * FieldFactory} cached for the class.
    *
    * @param name the name of the field
    * @param value the value of the field
@@ -105,16 +104,7 @@ public interface Field
       //noinspection unchecked
       return (F) new DefaultField(name, value, attributes);
     } else {
-      try {
-        Constructor<F> constructor =
-            fieldClass.getConstructor(String.class, Value.class, Attributes.class);
-        return constructor.newInstance(name, value, attributes);
-      } catch (NoSuchMethodException
-          | InstantiationException
-          | IllegalAccessException
-          | InvocationTargetException e) {
-        throw new RuntimeException(e);
-      }
+      return FieldFactory.forClass(fieldClass).create(name, value, attributes);
     }
   }
 
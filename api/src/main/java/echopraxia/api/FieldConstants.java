@@ -11,6 +11,9 @@ public final class FieldConstants {
   public static final String MESSAGE = bundle.getString("message");
   public static final String CAUSE = bundle.getString("cause");
   public static final String STACK_TRACE = bundle.getString("stackTrace");
+  public static final String SUPPRESSED = bundle.getString("suppressed");
+  public static final String FRAMES_IN_COMMON = bundle.getString("framesInCommon");
+  public static final String FRAMES_OMITTED = bundle.getString("framesOmitted");
   public static final String FILE_NAME = bundle.getString("fileName");
   public static final String LINE_NUMBER = bundle.getString("lineNumber");
   public static final String METHOD_NAME = bundle.getString("methodName");
@@ -0,0 +1,96 @@
+package echopraxia.api;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/** The registry behind {@link FieldFactory}, with a factory per field class. */
+final class FieldFactories {
+
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(void.class, String.class, Value.class, Attributes.class);
+
+  private static final MethodType CREATE_TYPE =
+      MethodType.methodType(Field.class, String.class, Value.class, Attributes.class);
+
+  private static final ConcurrentHashMap<Class<?>, FieldFactory<?>> registered =
+      new ConcurrentHashMap<>();
+
+  private static final ClassValue<FieldFactory<?>> factories =
+      new ClassValue<>() {
+        @Override
+        protected FieldFactory<?> computeValue(Class<?> type) {
+          final FieldFactory<?> factory = registered.get(type);
+          return factory != null ? factory : resolve(type);
+        }
+      };
+
+  static {
+    registered.put(DefaultField.class, DefaultField::new);
+  }
+
+  private FieldFactories() {}
+
+  @SuppressWarnings("unchecked")
+  static <F extends Field> @NotNull FieldFactory<F> forClass(@NotNull Class<F> fieldClass) {
+    return (FieldFactory<F>) factories.get(fieldClass);
+  }
+
+  static <F extends Field> void register(
+      @NotNull Class<F> fieldClass, @NotNull FieldFactory<F> factory) {
+    registered.put(fieldClass, factory);
+    factories.remove(fieldClass);
+  }
+
+  private static FieldFactory<?> resolve(Class<?> fieldClass) {
+    final MethodHandle constructor;
+    try {
+      constructor = MethodHandles.publicLookup().findConstructor(fieldClass, CONSTRUCTOR_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalArgumentException(
+          fieldClass.getName() + " has no public (String, Value, Attributes) constructor", e);
+    }
+    try {
+      // spin the factory next to the field class, so that it links against the class's own loader.
+      final MethodHandles.Lookup lookup =
+          MethodHandles.privateLookupIn(fieldClass, MethodHandles.lookup());
+      final CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "create",
+              MethodType.methodType(FieldFactory.class),
+              CREATE_TYPE,
+              constructor,
+              constructor.type());
+      return (FieldFactory<?>) site.getTarget().invoke();
+    } catch (Throwable e) {
+      // the field class's package is not open to echopraxia, so call the constructor handle.
+      return new HandleFieldFactory(constructor.asType(CREATE_TYPE));
+    }
+  }
+
+  /** A factory calling a constructor through its method handle. */
+  private static final class HandleFieldFactory implements FieldFactory<Field> {
+    private final MethodHandle constructor;
+
+    HandleFieldFactory(MethodHandle constructor) {
+      this.constructor = constructor;
+    }
+
+    @Override
+    public @NotNull Field create(
+        @NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes) {
+      try {
+        return (Field) constructor.invokeExact(name, value, attributes);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package echopraxia.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates fields of a given class, used by {@link Field#create} and {@link SimpleFieldVisitor} for
+ * custom field classes.
+ *
+ * <p>A field class is resolved once to a factory calling its public {@code (String, Value,
+ * Attributes)} constructor, and the factory is cached with the class, so custom fields cost no more
+ * to create than {@link DefaultField}. Classes without that constructor can register a factory of
+ * their own.
+ *
+ * @param <F> the field type.
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface FieldFactory<F extends Field> {
+
+  /**
+   * Creates a field.
+   *
+   * @param name the name of the field
+   * @param value the value of the field
+   * @param attributes the attributes of the field
+   * @return a new instance of the field.
+   */
+  @NotNull
+  F create(@NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes);
+
+  /**
+   * Returns the factory for a field class, resolving it on first use.
+   *
+   * @param fieldClass the field class.
+   * @return the factory.
+   * @param <F> the field type.
+   * @throws IllegalArgumentException if no factory is registered and the class has no public {@code
+   *     (String, Value, Attributes)} constructor.
+   */
+  static <F extends Field> @NotNull FieldFactory<F> forClass(@NotNull Class<F> fieldClass) {
+    return FieldFactories.forClass(fieldClass);
+  }
+
+  /**
+   * Registers the factory for a field class, replacing the resolved or registered factory.
+   *
+   * @param fieldClass the field class.
+   * @param factory the factory.
+   * @param <F> the field type.
+   */
+  static <F extends Field> void register(
+      @NotNull Class<F> fieldClass, @NotNull FieldFactory<F> factory) {
+    FieldFactories.register(fieldClass, factory);
+  }
+}
@@ -0,0 +1,469 @@
+package echopraxia.api;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Renders arbitrary objects as values, for types that have no field builder method of their own.
+ *
+ * <p>Strings, numbers, booleans, enums and throwables map to the matching values, and maps, arrays
+ * and iterables to objects and arrays. Records are rendered by their components and other classes
+ * by their public getters, and classes in {@code java.*} and {@code javax.*} or without properties
+ * are rendered with {@code toString}.
+ *
+ * <p>Each class is introspected once, and its accessors are compiled to functions that are kept in
+ * a {@code ClassValue}, so rendering an instance does no reflection. Nested objects are rendered up
+ * to a maximum depth, and arrays, iterables and maps up to a maximum number of elements. Properties
+ * that would go deeper, refer back to an enclosing object or throw are left out. This class is
+ * thread safe.
+ *
+ * @since 4.0
+ */
+public final class ObjectRenderer {
+
+  public static final int DEFAULT_MAX_DEPTH = 8;
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private static final ObjectRenderer DEFAULT =
+      new ObjectRenderer(DEFAULT_MAX_DEPTH, DEFAULT_MAX_SIZE);
+
+  private static final ClassValue<Plan> plans =
+      new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+          return Plan.resolve(type);
+        }
+      };
+
+  private final int maxDepth;
+  private final int maxSize;
+
+  /**
+   * @param maxDepth the number of nested objects and arrays to render.
+   * @param maxSize the number of elements to render per array, iterable or map.
+   */
+  public ObjectRenderer(int maxDepth, int maxSize) {
+    if (maxDepth < 0 || maxSize < 0) {
+      throw new IllegalArgumentException("Limits must not be negative");
+    }
+    this.maxDepth = maxDepth;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the renderer with the default limits.
+   */
+  public static @NotNull ObjectRenderer defaultRenderer() {
+    return DEFAULT;
+  }
+
+  public int maxDepth() {
+    return maxDepth;
+  }
+
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Renders an object.
+   *
+   * @param object the object, may be null.
+   * @return the value, an object value for records and beans.
+   */
+  public @NotNull Value<?> render(@Nullable Object object) {
+    final Value<?> value = render(object, new Object[maxDepth], 0);
+    return value == null ? Value.nullValue() : value;
+  }
+
+  // returns null if the object should be left out. path holds the enclosing objects.
+  private @Nullable Value<?> render(@Nullable Object object, Object[] path, int depth) {
+    if (object == null) {
+      return Value.nullValue();
+    }
+    if (object instanceof Value) {
+      return (Value<?>) object;
+    }
+    if (object instanceof String) {
+      return Value.string((String) object);
+    }
+    if (object instanceof Number) {
+      return number((Number) object);
+    }
+    if (object instanceof Boolean) {
+      return Value.bool((Boolean) object);
+    }
+    if (object instanceof CharSequence || object instanceof Character) {
+      return Value.string(object.toString());
+    }
+    if (object instanceof Enum) {
+      return Value.string(((Enum<?>) object).name());
+    }
+    if (object instanceof Throwable) {
+      return Value.exception((Throwable) object);
+    }
+    if (object instanceof Optional) {
+      final Optional<?> optional = (Optional<?>) object;
+      return optional.isPresent() ? render(optional.get(), path, depth) : Value.nullValue();
+    }
+
+    final boolean container =
+        object instanceof Map || object instanceof Iterable || object.getClass().isArray();
+    final Plan plan = container ? null : plans.get(object.getClass());
+    if (plan != null && plan.isEmpty()) {
+      return Value.string(object.toString());
+    }
+    if (depth >= maxDepth) {
+      return null;
+    }
+    for (int i = 0; i < depth; i++) {
+      if (path[i] == object) {
+        return null;
+      }
+    }
+    path[depth] = object;
+    try {
+      if (plan != null) {
+        return renderProperties(object, plan, path, depth + 1);
+      } else if (object instanceof Map) {
+        return renderMap((Map<?, ?>) object, path, depth + 1);
+      } else if (object instanceof Iterable) {
+        return renderIterable((Iterable<?>) object, path, depth + 1);
+      } else {
+        return renderArray(object, path, depth + 1);
+      }
+    } finally {
+      path[depth] = null;
+    }
+  }
+
+  private Value.ObjectValue renderProperties(Object object, Plan plan, Object[] path, int depth) {
+    final Field[] fields = new Field[plan.names.length];
+    for (int i = 0; i < fields.length; i++) {
+      final Object property;
+      try {
+        property = plan.accessors[i].apply(object);
+      } catch (Exception e) {
+        // generated accessors rethrow checked exceptions from getters declared to throw them.
+        continue;
+      }
+      final Value<?> value = render(property, path, depth);
+      if (value != null) {
+        fields[i] = Field.keyValue(plan.names[i], value);
+      }
+    }
+    // left out properties are null, and dropped by Value.object.
+    return Value.object(fields);
+  }
+
+  private Value.ObjectValue renderMap(Map<?, ?> map, Object[] path, int depth) {
+    final List<Field> fields = new ArrayList<>(Math.min(map.size(), maxSize));
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      if (fields.size() == maxSize) {
+        break;
+      }
+      final Value<?> value = render(entry.getValue(), path, depth);
+      if (value != null) {
+        fields.add(Field.keyValue(String.valueOf(entry.getKey()), value));
+      }
+    }
+    return Value.object(fields);
+  }
+
+  private Value.ArrayValue renderIterable(Iterable<?> iterable, Object[] path, int depth) {
+    final int size = iterable instanceof Collection ? ((Collection<?>) iterable).size() : 16;
+    final List<Value<?>> values = new ArrayList<>(Math.min(size, maxSize));
+    for (Object element : iterable) {
+      if (values.size() == maxSize) {
+        break;
+      }
+      final Value<?> value = render(element, path, depth);
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    return Value.array(values);
+  }
+
+  private Value.ArrayValue renderArray(Object array, Object[] path, int depth) {
+    final int length = Math.min(Array.getLength(array), maxSize);
+    // copied, as the object may change before an async appender writes it.
+    if (array instanceof int[]) {
+      return Value.array(Arrays.copyOf((int[]) array, length));
+    } else if (array instanceof long[]) {
+      return Value.array(Arrays.copyOf((long[]) array, length));
+    } else if (array instanceof double[]) {
+      return Value.array(Arrays.copyOf((double[]) array, length));
+    } else if (array instanceof boolean[]) {
+      return Value.array(Arrays.copyOf((boolean[]) array, length));
+    }
+    final List<Value<?>> values = new ArrayList<>(length);
+    if (array instanceof Object[]) {
+      final Object[] elements = (Object[]) array;
+      for (int i = 0; i < length; i++) {
+        final Value<?> value = render(elements[i], path, depth);
+        if (value != null) {
+          values.add(value);
+        }
+      }
+    } else {
+      // primitive elements are never left out.
+      for (int i = 0; i < length; i++) {
+        values.add(render(Array.get(array, i), path, depth));
+      }
+    }
+    return Value.array(values);
+  }
+
+  private static Value<?> number(Number number) {
+    if (number instanceof Integer) {
+      return Value.number((Integer) number);
+    }
+    if (number instanceof Long) {
+      return Value.number((Long) number);
+    }
+    if (number instanceof Double) {
+      return Value.number((Double) number);
+    }
+    if (number instanceof Float) {
+      return Value.number((Float) number);
+    }
+    if (number instanceof BigDecimal) {
+      return Value.number((BigDecimal) number);
+    }
+    if (number instanceof BigInteger) {
+      return Value.number((BigInteger) number);
+    }
+    if (number instanceof Short) {
+      return Value.number((Short) number);
+    }
+    if (number instanceof Byte) {
+      return Value.number((Byte) number);
+    }
+    // atomics and other mutable numbers.
+    return Value.string(number.toString());
+  }
+
+  /** The properties of a record or bean class, with an accessor function per property. */
+  private static final class Plan {
+    private static final MethodType APPLY_TYPE =
+        MethodType.methodType(Object.class, Object.class);
+
+    // Class.isRecord and Class.getRecordComponents are not in the JDK 11 API.
+    private static final MethodHandle IS_RECORD;
+    private static final MethodHandle RECORD_COMPONENTS;
+    private static final MethodHandle COMPONENT_ACCESSOR;
+
+    static {
+      MethodHandle isRecord = null;
+      MethodHandle recordComponents = null;
+      MethodHandle componentAccessor = null;
+      try {
+        // getRecordComponents is caller sensitive, so it needs a full lookup.
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Class<?> componentClass = Class.forName("java.lang.reflect.RecordComponent");
+        isRecord =
+            lookup.findVirtual(Class.class, "isRecord", MethodType.methodType(boolean.class));
+        recordComponents =
+            lookup
+                .findVirtual(
+                    Class.class,
+                    "getRecordComponents",
+                    MethodType.methodType(Array.newInstance(componentClass, 0).getClass()))
+                .asType(MethodType.methodType(Object[].class, Class.class));
+        componentAccessor =
+            lookup
+                .findVirtual(componentClass, "getAccessor", MethodType.methodType(Method.class))
+                .asType(MethodType.methodType(Method.class, Object.class));
+      } catch (ReflectiveOperationException e) {
+        // records are not supported before JDK 16.
+      }
+      IS_RECORD = isRecord;
+      RECORD_COMPONENTS = recordComponents;
+      COMPONENT_ACCESSOR = componentAccessor;
+    }
+
+    private static final Plan EMPTY = new Plan(new String[0], newAccessors(0));
+
+    final String[] names;
+    final Function<Object, Object>[] accessors;
+
+    private Plan(String[] names, Function<Object, Object>[] accessors) {
+      this.names = names;
+      this.accessors = accessors;
+    }
+
+    boolean isEmpty() {
+      return names.length == 0;
+    }
+
+    static Plan resolve(Class<?> type) {
+      final String className = type.getName();
+      if (className.startsWith("java.") || className.startsWith("javax.")) {
+        return EMPTY;
+      }
+      final List<Method> methods = isRecord(type) ? recordAccessors(type) : getters(type);
+      if (methods.isEmpty()) {
+        return EMPTY;
+      }
+      MethodHandles.Lookup lookup;
+      try {
+        lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      } catch (IllegalAccessException e) {
+        // the package is not open to echopraxia, so only public classes can be read.
+        lookup = MethodHandles.publicLookup();
+      }
+      final List<String> names = new ArrayList<>(methods.size());
+      final List<Function<Object, Object>> accessors = new ArrayList<>(methods.size());
+      for (Method method : methods) {
+        final Function<Object, Object> accessor = accessor(lookup, type, method);
+        if (accessor != null) {
+          names.add(propertyName(method, isRecord(type)));
+          accessors.add(accessor);
+        }
+      }
+      if (names.isEmpty()) {
+        return EMPTY;
+      }
+      return new Plan(names.toArray(new String[0]), accessors.toArray(newAccessors(0)));
+    }
+
+    private static @Nullable Function<Object, Object> accessor(
+        MethodHandles.Lookup lookup, Class<?> type, Method method) {
+      final MethodHandle getter;
+      try {
+        getter = lookup.unreflect(method);
+      } catch (IllegalAccessException e) {
+        return null;
+      }
+      try {
+        final CallSite site =
+            LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                APPLY_TYPE,
+                getter,
+                MethodType.methodType(Object.class, type));
+        @SuppressWarnings("unchecked")
+        final Function<Object, Object> function =
+            (Function<Object, Object>) site.getTarget().invoke();
+        return function;
+      } catch (Throwable e) {
+        // no private access to the class, so call the getter handle.
+        return new HandleAccessor(getter.asType(APPLY_TYPE));
+      }
+    }
+
+    private static boolean isRecord(Class<?> type) {
+      if (IS_RECORD == null) {
+        return false;
+      }
+      try {
+        return (boolean) IS_RECORD.invokeExact(type);
+      } catch (Throwable e) {
+        return false;
+      }
+    }
+
+    private static List<Method> recordAccessors(Class<?> type) {
+      try {
+        final Object[] components = (Object[]) RECORD_COMPONENTS.invokeExact(type);
+        final List<Method> accessors = new ArrayList<>(components.length);
+        for (Object component : components) {
+          accessors.add((Method) COMPONENT_ACCESSOR.invokeExact(component));
+        }
+        return accessors;
+      } catch (Throwable e) {
+        return List.of();
+      }
+    }
+
+    private static List<Method> getters(Class<?> type) {
+      // sorted by property name, as getMethods has no particular order.
+      final Map<String, Method> getters = new TreeMap<>();
+      for (Method method : type.getMethods()) {
+        if (Modifier.isStatic(method.getModifiers())
+            || method.getParameterCount() != 0
+            || method.getDeclaringClass() == Object.class
+            || method.isBridge()) {
+          continue;
+        }
+        final String name = propertyName(method, false);
+        // as in java.beans.Introspector, isX wins over getX for the same property.
+        if (name != null && (!getters.containsKey(name) || method.getName().startsWith("is"))) {
+          getters.put(name, method);
+        }
+      }
+      return new ArrayList<>(getters.values());
+    }
+
+    // as in java.beans.Introspector, "getURL" is "URL" and "getName" is "name".
+    private static @Nullable String propertyName(Method method, boolean record) {
+      final String name = method.getName();
+      if (record) {
+        return name;
+      }
+      final Class<?> returnType = method.getReturnType();
+      final int prefix;
+      if (name.startsWith("get") && returnType != void.class) {
+        prefix = 3;
+      } else if (name.startsWith("is")
+          && (returnType == boolean.class || returnType == Boolean.class)) {
+        prefix = 2;
+      } else {
+        return null;
+      }
+      if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) {
+        return null;
+      }
+      if (name.length() > prefix + 1 && Character.isUpperCase(name.charAt(prefix + 1))) {
+        return name.substring(prefix);
+      }
+      return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] newAccessors(int length) {
+      return (Function<Object, Object>[]) new Function<?, ?>[length];
+    }
+  }
+
+  /** An accessor calling a getter through its method handle. */
+  private static final class HandleAccessor implements Function<Object, Object> {
+    private final MethodHandle getter;
+
+    HandleAccessor(MethodHandle getter) {
+      this.getter = getter;
+    }
+
+    @Override
+    public Object apply(Object object) {
+      try {
+        return getter.invokeExact(object);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package echopraxia.api;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only list of values backed by a primitive array. Elements are created when they are
+ * accessed, so an array value holds one object instead of one per element, and serializers that
+ * know about the array can write it without creating any.
+ */
+abstract class PrimitiveArrayList extends AbstractList<Value<?>> implements RandomAccess {
+
+  /**
+   * @return the backing array, an int[], long[], double[] or boolean[].
+   */
+  abstract @NotNull Object array();
+
+  /**
+   * Renders the first elements in the same format as {@code toString}, without creating values.
+   *
+   * @param b the builder to append to.
+   * @param limit the number of elements to render before appending "...".
+   */
+  void appendTo(@NotNull StringBuilder b, int limit) {
+    final int size = size();
+    final int length = Math.min(size, limit);
+    b.append('[');
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        b.append(", ");
+      }
+      appendElement(b, i);
+    }
+    if (size > length) {
+      b.append("...");
+    }
+    b.append(']');
+  }
+
+  abstract void appendElement(@NotNull StringBuilder b, int index);
+
+  static final class Ints extends PrimitiveArrayList {
+    private final int[] array;
+
+    Ints(int[] array) {
+      this.array = array;
+    }
+
+    @Override
+    @NotNull
+    Object array() {
+      return array;
+    }
+
+    @Override
+    public Value<?> get(int index) {
+      return Value.number(array[index]);
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    void appendElement(@NotNull StringBuilder b, int index) {
+      b.append(array[index]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+
+  static final class Longs extends PrimitiveArrayList {
+    private final long[] array;
+
+    Longs(long[] array) {
+      this.array = array;
+    }
+
+    @Override
+    @NotNull
+    Object array() {
+      return array;
+    }
+
+    @Override
+    public Value<?> get(int index) {
+      return Value.number(array[index]);
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    void appendElement(@NotNull StringBuilder b, int index) {
+      b.append(array[index]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+
+  static final class Doubles extends PrimitiveArrayList {
+    private final double[] array;
+
+    Doubles(double[] array) {
+      this.array = array;
+    }
+
+    @Override
+    @NotNull
+    Object array() {
+      return array;
+    }
+
+    @Override
+    public Value<?> get(int index) {
+      return Value.number(array[index]);
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    void appendElement(@NotNull StringBuilder b, int index) {
+      b.append(array[index]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+
+  static final class Booleans extends PrimitiveArrayList {
+    private final boolean[] array;
+
+    Booleans(boolean[] array) {
+      this.array = array;
+    }
+
+    @Override
+    @NotNull
+    Object array() {
+      return array;
+    }
+
+    @Override
+    public Value<?> get(int index) {
+      return Value.bool(array[index]);
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    void appendElement(@NotNull StringBuilder b, int index) {
+      b.append(array[index]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package echopraxia.api;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 public class SimpleFieldVisitor implements FieldVisitor {
 
   protected final Class<? extends Field> fieldClass;
+  private final FieldFactory<? extends Field> fieldFactory;
   protected Attributes attributes;
   protected String name;
 
@@ -22,6 +22,7 @@ public class SimpleFieldVisitor implements FieldVisitor {
 
   public <F extends Field> SimpleFieldVisitor(Class<F> fieldClass) {
     this.fieldClass = fieldClass;
+    this.fieldFactory = FieldFactory.forClass(fieldClass);
   }
 
   @Override
@@ -93,13 +94,7 @@ public class SimpleFieldVisitor implements FieldVisitor {
     if (fieldClass == DefaultField.class) {
       return new DefaultField(name, value, attributes);
     } else {
-      try {
-        Constructor<? extends Field> constructor =
-            fieldClass.getConstructor(String.class, Value.class, Attributes.class);
-        return constructor.newInstance(name, value, attributes);
-      } catch (Exception e) {
-        throw new RuntimeException(e);
-      }
+      return fieldFactory.create(name, value, attributes);
     }
   }
 
@@ -0,0 +1,205 @@
+package echopraxia.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Renders a throwable as a structured value, so that every backend writes exceptions the same way
+ * without going through {@link Throwable#printStackTrace()}.
+ *
+ * <p>The rendered object has the class name, the message, the stack trace as an array of frame
+ * objects with the class name, method name, file name and line number, the cause and any suppressed
+ * exceptions. As with {@code printStackTrace}, frames that a cause or suppressed exception has in
+ * common with the enclosing trace are folded into a count. Causes and suppressed exceptions are
+ * rendered up to a maximum depth, and each trace up to a maximum number of frames.
+ *
+ * <p>Rendered frames are kept in a bounded cache keyed on the frames themselves, so the same
+ * exception thrown over and over from the same place is only rendered once. This class is thread
+ * safe.
+ */
+public final class ThrowableRenderer {
+
+  public static final int DEFAULT_MAX_DEPTH = 8;
+  public static final int DEFAULT_MAX_FRAMES = 64;
+  public static final int DEFAULT_CACHE_SIZE = 512;
+
+  private static final ThrowableRenderer DEFAULT =
+      new ThrowableRenderer(DEFAULT_MAX_DEPTH, DEFAULT_MAX_FRAMES, DEFAULT_CACHE_SIZE);
+
+  private final int maxDepth;
+  private final int maxFrames;
+  private final int cacheSize;
+  private final ConcurrentHashMap<FramesKey, Value.ArrayValue> cache;
+
+  /**
+   * @param maxDepth the number of nested causes and suppressed exceptions to render.
+   * @param maxFrames the number of frames to render per stack trace.
+   * @param cacheSize the number of rendered stack traces to keep, 0 to not cache.
+   */
+  public ThrowableRenderer(int maxDepth, int maxFrames, int cacheSize) {
+    if (maxDepth < 0 || maxFrames < 0 || cacheSize < 0) {
+      throw new IllegalArgumentException("Limits must not be negative");
+    }
+    this.maxDepth = maxDepth;
+    this.maxFrames = maxFrames;
+    this.cacheSize = cacheSize;
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return the renderer with the default limits.
+   */
+  public static @NotNull ThrowableRenderer defaultRenderer() {
+    return DEFAULT;
+  }
+
+  public int maxDepth() {
+    return maxDepth;
+  }
+
+  public int maxFrames() {
+    return maxFrames;
+  }
+
+  /**
+   * Renders a throwable.
+   *
+   * @param throwable the throwable.
+   * @return an object value with the keys in {@link FieldConstants}.
+   */
+  public @NotNull Value.ObjectValue render(@NotNull Throwable throwable) {
+    final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    seen.add(throwable);
+    return render(throwable, null, 0, seen);
+  }
+
+  private Value.ObjectValue render(
+      Throwable throwable,
+      StackTraceElement @Nullable [] enclosing,
+      int depth,
+      Set<Throwable> seen) {
+    final StackTraceElement[] trace = throwable.getStackTrace();
+    final int inCommon = enclosing == null ? 0 : framesInCommon(trace, enclosing);
+    final int unique = trace.length - inCommon;
+
+    final List<Field> fields = new ArrayList<>(7);
+    final String className = throwable.getClass().getName();
+    fields.add(Field.keyValue(FieldConstants.CLASS_NAME, Value.string(className)));
+    final String message = throwable.getMessage();
+    fields.add(
+        Field.keyValue(
+            FieldConstants.MESSAGE, message == null ? Value.nullValue() : Value.string(message)));
+    fields.add(Field.keyValue(FieldConstants.STACK_TRACE, frames(trace, unique)));
+    if (unique > maxFrames) {
+      fields.add(Field.keyValue(FieldConstants.FRAMES_OMITTED, Value.number(unique - maxFrames)));
+    }
+    if (inCommon > 0) {
+      fields.add(Field.keyValue(FieldConstants.FRAMES_IN_COMMON, Value.number(inCommon)));
+    }
+
+    if (depth < maxDepth) {
+      final Throwable cause = throwable.getCause();
+      if (cause != null && seen.add(cause)) {
+        fields.add(Field.keyValue(FieldConstants.CAUSE, render(cause, trace, depth + 1, seen)));
+      }
+      final Throwable[] suppressed = throwable.getSuppressed();
+      if (suppressed.length > 0) {
+        final List<Value<?>> values = new ArrayList<>(suppressed.length);
+        for (Throwable s : suppressed) {
+          if (seen.add(s)) {
+            values.add(render(s, trace, depth + 1, seen));
+          }
+        }
+        fields.add(Field.keyValue(FieldConstants.SUPPRESSED, Value.array(values)));
+      }
+    }
+    return Value.object(fields);
+  }
+
+  private Value.ArrayValue frames(StackTraceElement[] trace, int unique) {
+    final int length = Math.min(unique, maxFrames);
+    if (cacheSize == 0) {
+      return renderFrames(trace, length);
+    }
+    final FramesKey key = new FramesKey(trace, length);
+    Value.ArrayValue frames = cache.get(key);
+    if (frames == null) {
+      frames = renderFrames(trace, length);
+      // start over when full rather than track usage, traces in a storm repeat quickly.
+      if (cache.size() >= cacheSize) {
+        cache.clear();
+      }
+      cache.put(key, frames);
+    }
+    return frames;
+  }
+
+  private static Value.ArrayValue renderFrames(StackTraceElement[] trace, int length) {
+    final List<Value<?>> frames = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      frames.add(renderFrame(trace[i]));
+    }
+    return Value.array(frames);
+  }
+
+  // the same keys as a StackTraceElement has in JSONPath, i.e. $.exception.stackTrace[0].methodName
+  private static Value.ObjectValue renderFrame(StackTraceElement frame) {
+    final String fileName = frame.getFileName();
+    return Value.object(
+        Field.keyValue(FieldConstants.CLASS_NAME, Value.string(frame.getClassName())),
+        Field.keyValue(FieldConstants.METHOD_NAME, Value.string(frame.getMethodName())),
+        Field.keyValue(
+            FieldConstants.FILE_NAME,
+            fileName == null ? Value.nullValue() : Value.string(fileName)),
+        Field.keyValue(FieldConstants.LINE_NUMBER, Value.number(frame.getLineNumber())));
+  }
+
+  private static int framesInCommon(StackTraceElement[] trace, StackTraceElement[] enclosing) {
+    int m = trace.length - 1;
+    int n = enclosing.length - 1;
+    while (m >= 0 && n >= 0 && trace[m].equals(enclosing[n])) {
+      m--;
+      n--;
+    }
+    return trace.length - 1 - m;
+  }
+
+  /** The first frames of a stack trace, compared by value. */
+  private static final class FramesKey {
+    private final StackTraceElement[] trace;
+    private final int length;
+    private final int hash;
+
+    FramesKey(StackTraceElement[] trace, int length) {
+      this.trace = trace;
+      this.length = length;
+      int h = length;
+      for (int i = 0; i < length; i++) {
+        h = 31 * h + trace[i].hashCode();
+      }
+      this.hash = h;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof FramesKey)) return false;
+      final FramesKey that = (FramesKey) o;
+      return hash == that.hash
+          && length == that.length
+          && Arrays.equals(trace, 0, length, that.trace, 0, length);
+    }
+  }
+}
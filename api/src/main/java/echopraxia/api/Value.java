@@ -4,8 +4,10 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The Value class. This consists of the basic JSON infoset values, and the throwable exception.
@@ -125,6 +127,19 @@ public abstract class Value<V> {
     return (BooleanValue) this;
   }
 
+  /**
+   * Returns the value to render. This is the value itself, except for a {@link LazyValue}, which is
+   * computed on the first call.
+   *
+   * <p>Code that casts values to their concrete classes should resolve them first.
+   *
+   * @return the resolved value.
+   */
+  @NotNull
+  public Value<?> resolve() {
+    return this;
+  }
+
   @NotNull
   public String toString() {
     return ToStringFormatter.getInstance().formatValue(this);
@@ -343,6 +358,70 @@ public abstract class Value<V> {
     return new ArrayValue(asList(values, Value::number));
   }
 
+  /**
+   * Wraps an int array with an array value backed by it. Elements are only turned into number
+   * values when they are accessed, and serializers write the array directly.
+   *
+   * <p>The array is not copied, and must not be modified after it is passed in.
+   *
+   * @param values the array.
+   * @return the Value.
+   */
+  public static ArrayValue array(int @NotNull [] values) {
+    if (values.length == 0) {
+      return ArrayValue.EMPTY;
+    }
+    return new ArrayValue(new PrimitiveArrayList.Ints(values));
+  }
+
+  /**
+   * Wraps a long array with an array value backed by it. Elements are only turned into number
+   * values when they are accessed, and serializers write the array directly.
+   *
+   * <p>The array is not copied, and must not be modified after it is passed in.
+   *
+   * @param values the array.
+   * @return the Value.
+   */
+  public static ArrayValue array(long @NotNull [] values) {
+    if (values.length == 0) {
+      return ArrayValue.EMPTY;
+    }
+    return new ArrayValue(new PrimitiveArrayList.Longs(values));
+  }
+
+  /**
+   * Wraps a double array with an array value backed by it. Elements are only turned into number
+   * values when they are accessed, and serializers write the array directly.
+   *
+   * <p>The array is not copied, and must not be modified after it is passed in.
+   *
+   * @param values the array.
+   * @return the Value.
+   */
+  public static ArrayValue array(double @NotNull [] values) {
+    if (values.length == 0) {
+      return ArrayValue.EMPTY;
+    }
+    return new ArrayValue(new PrimitiveArrayList.Doubles(values));
+  }
+
+  /**
+   * Wraps a boolean array with an array value backed by it. Elements are only turned into boolean
+   * values when they are accessed, and serializers write the array directly.
+   *
+   * <p>The array is not copied, and must not be modified after it is passed in.
+   *
+   * @param values the array.
+   * @return the Value.
+   */
+  public static ArrayValue array(boolean @NotNull [] values) {
+    if (values.length == 0) {
+      return ArrayValue.EMPTY;
+    }
+    return new ArrayValue(new PrimitiveArrayList.Booleans(values));
+  }
+
   /**
    * Returns a list of values as a Value.
    *
@@ -404,8 +483,12 @@ public abstract class Value<V> {
       return ObjectValue.EMPTY;
     }
     // Null fields are not allowed.
-    final List<Field> nonNullList =
-        Arrays.stream(fields).filter(Objects::nonNull).collect(Collectors.toList());
+    final List<Field> nonNullList = new ArrayList<>(fields.length);
+    for (Field field : fields) {
+      if (field != null) {
+        nonNullList.add(field);
+      }
+    }
     return new ObjectValue(nonNullList);
   }
 
@@ -490,6 +573,34 @@ public abstract class Value<V> {
     return nullValue();
   }
 
+  /**
+   * Converts an arbitrary object to a value, rendering records by their components and other
+   * classes by their public getters.
+   *
+   * <p>Prefer a field builder method for types you own, this is a fallback for third party types.
+   * See {@link ObjectRenderer} for the mapping and its limits.
+   *
+   * @param object the object, may be null.
+   * @return the value, an object value for records and beans.
+   */
+  @NotNull
+  public static Value<?> fromObject(@Nullable Object object) {
+    return ObjectRenderer.defaultRenderer().render(object);
+  }
+
+  /**
+   * Wraps a supplier with a value that is computed the first time it is needed, i.e. when the field
+   * is rendered or a condition looks at it. If the event is not logged, or the field is elided, the
+   * supplier is never called.
+   *
+   * @param supplier the supplier, called at most once.
+   * @return the lazy value.
+   */
+  @NotNull
+  public static LazyValue lazy(@NotNull Supplier<? extends Value<?>> supplier) {
+    return new LazyValue(new LazyValue.Memo(supplier), Attributes.empty());
+  }
+
   public static <T> boolean equals(Value<? extends T> value1, Value<? extends T> value2) {
     return Objects.equals(value1, value2);
   }
@@ -917,6 +1028,17 @@ public abstract class Value<V> {
       return raw;
     }
 
+    /**
+     * Returns the primitive array behind this value, so that serializers can write it without going
+     * through element values.
+     *
+     * @return an int[], long[], double[] or boolean[] if the value was created from one, otherwise
+     *     null. The array must not be modified.
+     */
+    public @Nullable Object primitiveArray() {
+      return raw instanceof PrimitiveArrayList ? ((PrimitiveArrayList) raw).array() : null;
+    }
+
     @Override
     public @NotNull Value.Type type() {
       return Type.ARRAY;
@@ -1286,4 +1408,184 @@ public abstract class Value<V> {
       return attributes;
     }
   }
+
+  /**
+   * A value computed by a supplier the first time it is needed.
+   *
+   * <p>{@link #type()}, {@link #raw()} and the {@code asX} methods resolve the value and delegate
+   * to it, so code going through them sees the computed value. Attributes are kept on the lazy
+   * value without resolving it, so that an elided value is never computed, and are added to the
+   * computed value. The supplier is called at most once even when several threads render the value,
+   * and a supplier that throws resolves to an exception value.
+   */
+  public static final class LazyValue extends Value<Object> {
+    private final Memo memo;
+    private final Attributes attributes;
+
+    // the computed value with this value's attributes, racing threads compute the same thing.
+    private volatile Value<?> resolved;
+
+    private LazyValue(Memo memo, Attributes attributes) {
+      this.memo = memo;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public @NotNull Value<?> resolve() {
+      Value<?> value = resolved;
+      if (value == null) {
+        value = memo.get();
+        if (attributes != Attributes.empty()) {
+          value = value.withAttributes(attributes);
+        }
+        resolved = value;
+      }
+      return value;
+    }
+
+    /**
+     * @return true if the supplier has been called.
+     */
+    public boolean isResolved() {
+      return memo.isDone();
+    }
+
+    @Override
+    public Object raw() {
+      return resolve().raw();
+    }
+
+    @Override
+    public @NotNull Value.Type type() {
+      return resolve().type();
+    }
+
+    @Override
+    public Attributes attributes() {
+      return attributes;
+    }
+
+    @Override
+    public @NotNull <A> LazyValue withAttribute(@NotNull Attribute<A> attr) {
+      return newAttributes(attributes().plus(attr));
+    }
+
+    @Override
+    public @NotNull LazyValue withAttributes(@NotNull Attributes attrs) {
+      return newAttributes(attributes().plusAll(attrs));
+    }
+
+    @Override
+    public @NotNull <A> LazyValue withoutAttribute(@NotNull AttributeKey<A> key) {
+      return newAttributes(attributes().minus(key));
+    }
+
+    @Override
+    public @NotNull LazyValue withoutAttributes(@NotNull Collection<AttributeKey<?>> keys) {
+      return newAttributes(attributes().minusAll(keys));
+    }
+
+    @Override
+    public @NotNull LazyValue clearAttributes() {
+      return new LazyValue(memo, Attributes.empty());
+    }
+
+    @Override
+    protected @NotNull LazyValue newAttributes(@NotNull Attributes newAttributes) {
+      // copies share the memo, so the supplier still runs once.
+      return new LazyValue(memo, newAttributes);
+    }
+
+    @Override
+    public @NotNull LazyValue withToStringValue(String stringValue) {
+      return withAttribute(PresentationHintAttributes.withToStringValue(stringValue));
+    }
+
+    @Override
+    public @NotNull ObjectValue asObject() {
+      return resolve().asObject();
+    }
+
+    @Override
+    public @NotNull ArrayValue asArray() {
+      return resolve().asArray();
+    }
+
+    @Override
+    public @NotNull StringValue asString() {
+      return resolve().asString();
+    }
+
+    @Override
+    public @NotNull <T extends Number & Comparable<T>> NumberValue<T> asNumber() {
+      return resolve().asNumber();
+    }
+
+    @Override
+    public ExceptionValue asException() {
+      return resolve().asException();
+    }
+
+    @Override
+    public NullValue asNull() {
+      return resolve().asNull();
+    }
+
+    @Override
+    public BooleanValue asBoolean() {
+      return resolve().asBoolean();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o instanceof LazyValue) {
+        return resolve().equals(((LazyValue) o).resolve());
+      }
+      return resolve().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return resolve().hashCode();
+    }
+
+    /** Calls the supplier once, and lets go of it afterwards. */
+    private static final class Memo {
+      private Supplier<? extends Value<?>> supplier;
+      private volatile Value<?> value;
+
+      Memo(Supplier<? extends Value<?>> supplier) {
+        this.supplier = Objects.requireNonNull(supplier, "supplier");
+      }
+
+      boolean isDone() {
+        return value != null;
+      }
+
+      Value<?> get() {
+        Value<?> v = value;
+        if (v == null) {
+          synchronized (this) {
+            v = value;
+            if (v == null) {
+              v = compute(supplier);
+              value = v;
+              supplier = null;
+            }
+          }
+        }
+        return v;
+      }
+
+      private static Value<?> compute(Supplier<? extends Value<?>> supplier) {
+        try {
+          final Value<?> computed = supplier.get();
+          return computed == null ? nullValue() : computed.resolve();
+        } catch (RuntimeException e) {
+          return exception(e);
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,67 @@
+package echopraxia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class FieldFactoryTests {
+
+  @Test
+  public void testCustomField() {
+    UppercaseField field = Field.keyValue("name", Value.string("value"), UppercaseField.class);
+    assertThat(field.name()).isEqualTo("NAME");
+  }
+
+  @Test
+  public void testFactoryIsCached() {
+    assertThat(FieldFactory.forClass(UppercaseField.class))
+        .isSameAs(FieldFactory.forClass(UppercaseField.class));
+  }
+
+  @Test
+  public void testFieldVisitor() {
+    Field field = Field.keyValue("name", Value.string("value"));
+    Field visited = new SimpleFieldVisitor(UppercaseField.class).visit(field);
+    assertThat(visited).isInstanceOf(UppercaseField.class);
+  }
+
+  @Test
+  public void testNoPublicConstructor() {
+    assertThatThrownBy(() -> Field.keyValue("name", Value.string("value"), PrivateField.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testRegisteredFactory() {
+    FieldFactory.register(RegisteredField.class, RegisteredField::new);
+    Field field = Field.keyValue("name", Value.string("value"), RegisteredField.class);
+    assertThat(field).isInstanceOf(RegisteredField.class);
+  }
+
+  public static class UppercaseField extends DefaultField {
+    public UppercaseField(
+        @NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes) {
+      super(name, value, attributes);
+    }
+
+    @Override
+    public @NotNull String name() {
+      return super.name().toUpperCase();
+    }
+  }
+
+  static class PrivateField extends DefaultField {
+    private PrivateField(
+        @NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes) {
+      super(name, value, attributes);
+    }
+  }
+
+  static class RegisteredField extends DefaultField {
+    RegisteredField(@NotNull String name, @NotNull Value<?> value, @NotNull Attributes attributes) {
+      super(name, value, attributes);
+    }
+  }
+}
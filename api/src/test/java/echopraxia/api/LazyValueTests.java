@@ -0,0 +1,120 @@
+package echopraxia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class LazyValueTests {
+
+  @Test
+  void testNotResolvedOnCreation() {
+    AtomicInteger calls = new AtomicInteger();
+    Value.LazyValue value = Value.lazy(() -> Value.number(calls.incrementAndGet()));
+    Field field = Field.keyValue("count", value);
+
+    assertThat(field.name()).isEqualTo("count");
+    assertThat(value.isResolved()).isFalse();
+    assertThat(calls.get()).isZero();
+  }
+
+  @Test
+  void testResolvedOnce() {
+    AtomicInteger calls = new AtomicInteger();
+    Value.LazyValue value = Value.lazy(() -> Value.number(calls.incrementAndGet()));
+
+    assertThat(value.type()).isEqualTo(Value.Type.NUMBER);
+    assertThat(value.raw()).isEqualTo(1);
+    assertThat(value.toString()).isEqualTo("1");
+    assertThat(value.isResolved()).isTrue();
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testResolvedOnceAcrossThreads() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Value.LazyValue value = Value.lazy(() -> Value.number(calls.incrementAndGet()));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Value<?>>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return value.resolve();
+                }));
+      }
+      start.countDown();
+      for (Future<Value<?>> future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS).raw()).isEqualTo(1);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(value.resolve().raw()).isEqualTo(1);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testElidedIsNotResolved() {
+    AtomicInteger calls = new AtomicInteger();
+    Value.LazyValue value = Value.lazy(() -> Value.number(calls.incrementAndGet()));
+    Field field = Field.keyValue("count", value).asElided();
+
+    assertThat(Value.object(field).toString()).isEqualTo("{}");
+    assertThat(calls.get()).isZero();
+  }
+
+  @Test
+  void testAttributesAreKept() {
+    Value.LazyValue value = Value.lazy(() -> Value.string("computed")).withToStringValue("[lazy]");
+
+    assertThat(value.toString()).isEqualTo("[lazy]");
+    assertThat(value.isResolved()).isFalse();
+    assertThat(value.resolve().attributes().containsKey(PresentationHintAttributes.TOSTRING_VALUE))
+        .isTrue();
+  }
+
+  @Test
+  void testCopiesShareSupplier() {
+    AtomicInteger calls = new AtomicInteger();
+    Value.LazyValue value = Value.lazy(() -> Value.number(calls.incrementAndGet()));
+    Value.LazyValue copy = value.withToStringValue("copy");
+
+    assertThat(value.raw()).isEqualTo(1);
+    assertThat(copy.resolve().raw()).isEqualTo(1);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testNestedObject() {
+    Value<?> details = Value.lazy(() -> Value.object(Field.keyValue("a", Value.number(1))));
+    Value<?> value =
+        Value.object(
+            Field.keyValue("name", Value.string("foo")), Field.keyValue("details", details));
+
+    assertThat(value.toString()).isEqualTo("{name=foo, details={a=1}}");
+  }
+
+  @Test
+  void testNullAndThrowingSuppliers() {
+    assertThat(Value.lazy(() -> null).resolve()).isEqualTo(Value.nullValue());
+
+    Value<?> failed =
+        Value.lazy(
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+    assertThat(failed.type()).isEqualTo(Value.Type.EXCEPTION);
+    assertThat(failed.asException().raw()).hasMessage("boom");
+  }
+}
@@ -0,0 +1,183 @@
+package echopraxia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class ObjectRendererTests {
+
+  @Test
+  void testRecord() {
+    Value<?> value = Value.fromObject(new Point(1, 2, List.of("a"), Optional.empty()));
+
+    assertThat(value.type()).isEqualTo(Value.Type.OBJECT);
+    List<Field> fields = value.asObject().raw();
+    assertThat(fields).extracting(Field::name).containsExactly("x", "y", "tags", "label");
+    assertThat(find(value, "x").raw()).isEqualTo(1);
+    assertThat(find(value, "tags").type()).isEqualTo(Value.Type.ARRAY);
+    assertThat(find(value, "label").type()).isEqualTo(Value.Type.NULL);
+  }
+
+  @Test
+  void testBean() {
+    Value<?> value = Value.fromObject(new Bean());
+
+    assertThat(value.asObject().raw())
+        .extracting(Field::name)
+        .containsExactly("URL", "active", "color", "created", "scores");
+    assertThat(find(value, "active").raw()).isEqualTo(true);
+    assertThat(find(value, "color").raw()).isEqualTo("RED");
+    // JDK classes are rendered with toString.
+    assertThat(find(value, "created").raw()).isEqualTo("1970-01-01T00:00:00Z");
+    assertThat(find(value, "scores").asObject().raw()).hasSize(1);
+  }
+
+  @Test
+  void testCycle() {
+    Node first = new Node("first");
+    Node second = new Node("second");
+    first.next = second;
+    second.next = first;
+
+    Value<?> value = Value.fromObject(first);
+    Value<?> next = find(value, "next");
+    assertThat(find(next, "name").raw()).isEqualTo("second");
+    assertThat(find(next, "next")).isNull();
+  }
+
+  @Test
+  void testSharedReferenceIsNotCycle() {
+    Node shared = new Node("shared");
+    Value<?> value = Value.fromObject(List.of(shared, shared));
+    assertThat(value.asArray().raw()).hasSize(2);
+  }
+
+  @Test
+  void testThrowingGetterIsLeftOut() {
+    Value<?> value = Value.fromObject(new Node("node"));
+    assertThat(find(value, "boom")).isNull();
+    assertThat(find(value, "name").raw()).isEqualTo("node");
+  }
+
+  @Test
+  void testCheckedExceptionGetterIsLeftOut() {
+    Value<?> value = Value.fromObject(new Checked());
+    assertThat(value.asObject().raw()).hasSize(1);
+    assertThat(find(value, "file")).isNull();
+    assertThat(find(value, "name").raw()).isEqualTo("checked");
+  }
+
+  @Test
+  void testIsGetterWinsOverGetGetter() {
+    Value<?> value = Value.fromObject(new Flag());
+    assertThat(value.asObject().raw()).hasSize(1);
+    assertThat(find(value, "enabled").raw()).isEqualTo(true);
+  }
+
+  @Test
+  void testLimits() {
+    ObjectRenderer renderer = new ObjectRenderer(2, 2);
+
+    Value<?> value = renderer.render(List.of(List.of(List.of(1)), 2, 3));
+    List<Value<?>> elements = value.asArray().raw();
+    assertThat(elements).hasSize(2);
+    assertThat(elements.get(0).asArray().raw()).isEmpty();
+  }
+
+  @Test
+  void testScalars() {
+    assertThat(Value.fromObject(null)).isEqualTo(Value.nullValue());
+    assertThat(Value.fromObject("foo")).isEqualTo(Value.string("foo"));
+    assertThat(Value.fromObject(1L)).isEqualTo(Value.number(1L));
+    assertThat(Value.fromObject(new Object()).type()).isEqualTo(Value.Type.STRING);
+    Value<?> value = Value.string("bar");
+    assertThat(Value.fromObject(value)).isSameAs(value);
+  }
+
+  private static Value<?> find(Value<?> object, String name) {
+    for (Field field : object.asObject().raw()) {
+      if (field.name().equals(name)) {
+        return field.value();
+      }
+    }
+    return null;
+  }
+
+  record Point(int x, int y, List<String> tags, Optional<String> label) {}
+
+  enum Color {
+    RED
+  }
+
+  public static class Bean {
+    public boolean isActive() {
+      return true;
+    }
+
+    public Color getColor() {
+      return Color.RED;
+    }
+
+    public Instant getCreated() {
+      return Instant.EPOCH;
+    }
+
+    public Map<String, Integer> getScores() {
+      return Map.of("math", 1);
+    }
+
+    public String getURL() {
+      return "https://example.com";
+    }
+
+    public static String getIgnored() {
+      return "static";
+    }
+  }
+
+  public static class Checked {
+    public String getName() {
+      return "checked";
+    }
+
+    public String getFile() throws IOException {
+      throw new IOException("no file");
+    }
+  }
+
+  public static class Flag {
+    public boolean isEnabled() {
+      return true;
+    }
+
+    public boolean getEnabled() {
+      return false;
+    }
+  }
+
+  static class Node {
+    final String name;
+    Node next;
+
+    Node(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Node getNext() {
+      return next;
+    }
+
+    public int getBoom() {
+      throw new IllegalStateException("boom");
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package echopraxia.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ThrowableRendererTests {
+
+  @Test
+  void testRender() {
+    IllegalStateException e = new IllegalStateException("oh noes");
+    Value.ObjectValue rendered = ThrowableRenderer.defaultRenderer().render(e);
+
+    assertThat(find(rendered, FieldConstants.CLASS_NAME).raw())
+        .isEqualTo("java.lang.IllegalStateException");
+    assertThat(find(rendered, FieldConstants.MESSAGE).raw()).isEqualTo("oh noes");
+    List<Value<?>> frames = ((Value.ArrayValue) find(rendered, FieldConstants.STACK_TRACE)).raw();
+    Value.ObjectValue frame = (Value.ObjectValue) frames.get(0);
+    assertThat(find(frame, FieldConstants.CLASS_NAME).raw())
+        .isEqualTo(ThrowableRendererTests.class.getName());
+    assertThat(find(frame, FieldConstants.METHOD_NAME).raw()).isEqualTo("testRender");
+    assertThat(find(frame, FieldConstants.FILE_NAME).raw())
+        .isEqualTo("ThrowableRendererTests.java");
+    assertThat(find(frame, FieldConstants.LINE_NUMBER).type()).isEqualTo(Value.Type.NUMBER);
+  }
+
+  @Test
+  void testNullMessage() {
+    Value.ObjectValue rendered = ThrowableRenderer.defaultRenderer().render(new RuntimeException());
+    assertThat(find(rendered, FieldConstants.MESSAGE).type()).isEqualTo(Value.Type.NULL);
+  }
+
+  @Test
+  void testCauseFoldsCommonFrames() {
+    RuntimeException cause = new RuntimeException("cause");
+    RuntimeException e = new RuntimeException("outer", cause);
+    Value.ObjectValue rendered = ThrowableRenderer.defaultRenderer().render(e);
+
+    Value.ObjectValue renderedCause = (Value.ObjectValue) find(rendered, FieldConstants.CAUSE);
+    assertThat(find(renderedCause, FieldConstants.MESSAGE).raw()).isEqualTo("cause");
+    // both were created in this method, so only the top frame differs.
+    assertThat(((Value.ArrayValue) find(renderedCause, FieldConstants.STACK_TRACE)).raw())
+        .hasSize(1);
+    assertThat(find(renderedCause, FieldConstants.FRAMES_IN_COMMON).raw())
+        .isEqualTo(e.getStackTrace().length - 1);
+  }
+
+  @Test
+  void testSuppressed() {
+    RuntimeException e = new RuntimeException("outer");
+    e.addSuppressed(new IllegalArgumentException("suppressed"));
+    Value.ObjectValue rendered = ThrowableRenderer.defaultRenderer().render(e);
+
+    Value.ArrayValue suppressedValue = (Value.ArrayValue) find(rendered, FieldConstants.SUPPRESSED);
+    List<Value<?>> suppressed = suppressedValue.raw();
+    assertThat(suppressed).hasSize(1);
+    assertThat(find((Value.ObjectValue) suppressed.get(0), FieldConstants.MESSAGE).raw())
+        .isEqualTo("suppressed");
+  }
+
+  @Test
+  void testLimits() {
+    ThrowableRenderer renderer = new ThrowableRenderer(1, 2, 0);
+    RuntimeException e =
+        new RuntimeException("one", new RuntimeException("two", new RuntimeException("three")));
+    Value.ObjectValue rendered = renderer.render(e);
+
+    assertThat(((Value.ArrayValue) find(rendered, FieldConstants.STACK_TRACE)).raw()).hasSize(2);
+    assertThat(find(rendered, FieldConstants.FRAMES_OMITTED).raw())
+        .isEqualTo(e.getStackTrace().length - 2);
+    Value.ObjectValue cause = (Value.ObjectValue) find(rendered, FieldConstants.CAUSE);
+    assertThat(find(cause, FieldConstants.CAUSE)).isNull();
+  }
+
+  @Test
+  void testCircularCause() {
+    RuntimeException first = new RuntimeException("first");
+    RuntimeException second = new RuntimeException("second", first);
+    first.initCause(second);
+    Value.ObjectValue rendered = ThrowableRenderer.defaultRenderer().render(first);
+
+    Value.ObjectValue cause = (Value.ObjectValue) find(rendered, FieldConstants.CAUSE);
+    assertThat(find(cause, FieldConstants.CAUSE)).isNull();
+  }
+
+  @Test
+  void testRepeatedTracesShareFrames() {
+    ThrowableRenderer renderer = new ThrowableRenderer(8, 64, 16);
+    Value<?> first = null;
+    for (int i = 0; i < 2; i++) {
+      Value.ObjectValue rendered = renderer.render(new RuntimeException("storm " + i));
+      Value<?> frames = find(rendered, FieldConstants.STACK_TRACE);
+      if (first == null) {
+        first = frames;
+      } else {
+        assertThat(frames).isSameAs(first);
+      }
+    }
+  }
+
+  private static Value<?> find(Value.ObjectValue object, String name) {
+    for (Field field : object.raw()) {
+      if (field.name().equals(name)) {
+        return field.value();
+      }
+    }
+    return null;
+  }
+}
@@ -49,6 +49,29 @@ public class ValueTests {
     assertThat(arrayPlus.raw()).hasSize(2);
   }
 
+  @Test
+  void testPrimitiveArrays() {
+    Value.ArrayValue ints = Value.array(new int[] {1, 2, 3});
+    assertThat(ints.raw()).hasSize(3);
+    assertThat(ints.raw().get(1)).isEqualTo(Value.number(2));
+    assertThat(ints).isEqualTo(Value.array(1, 2, 3));
+    assertThat(ints.toString()).isEqualTo("[1, 2, 3]");
+
+    assertThat(Value.array(new long[] {1L}).primitiveArray()).isEqualTo(new long[] {1L});
+    assertThat(Value.array(new double[] {1.5d}).toString()).isEqualTo("[1.5]");
+    assertThat(Value.array(new boolean[] {true}).raw()).containsExactly(Value.bool(true));
+    assertThat(Value.array(new int[0])).isSameAs(Value.ArrayValue.EMPTY);
+    assertThat(Value.array(1, 2).primitiveArray()).isNull();
+  }
+
+  @Test
+  void testPrimitiveArrayPresentation() {
+    Value.ArrayValue ints = Value.array(new int[] {1, 2, 3});
+    assertThat(ints.abbreviateAfter(2).toString()).isEqualTo("[1, 2...]");
+    assertThat(ints.asCardinal().toString()).isEqualTo("|3|");
+    assertThat(ints.add(Value.number(4)).raw()).hasSize(4);
+  }
+
   @Test
   void testOptionalWithNull() {
     Value<?> optional = optional(null);
@@ -0,0 +1,46 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares writing and reading the deep tree from {@link SerializerBenchmarks} as JSON, Smile and
+ * CBOR. See {@code BinaryFormatTest} for the encoded sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmarks {
+  private static final Value<?> deep = SerializerBenchmarks.level(5, 20);
+
+  @Param({"json", "smile", "cbor"})
+  public String format;
+
+  private ObjectMapper mapper;
+  private byte[] bytes;
+
+  @Setup
+  public void setup() throws IOException {
+    mapper =
+        format.equals("json")
+            ? DefaultObjectMapper.OBJECT_MAPPER
+            : BinaryFormat.fromName(format).newObjectMapper();
+    bytes = mapper.writeValueAsBytes(deep);
+  }
+
+  @Benchmark
+  public byte[] write() throws IOException {
+    return mapper.writeValueAsBytes(deep);
+  }
+
+  @Benchmark
+  public Value<?> read() throws IOException {
+    return mapper.readValue(bytes, Value.class);
+  }
+}
@@ -0,0 +1,79 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the streaming {@link ValueDeserializer} with reading a {@code JsonNode} tree first, on
+ * documents of about 1KB, 100KB and 10MB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializerBenchmarks {
+  private static final ObjectMapper streamingMapper = DefaultObjectMapper.OBJECT_MAPPER;
+
+  private static final ObjectMapper treeMapper =
+      JsonMapper.builder()
+          .addModule(new SimpleModule().addDeserializer(Value.class, new TreeValueDeserializer()))
+          .build();
+
+  @Param({"1024", "102400", "10485760"})
+  public int size;
+
+  private byte[] json;
+
+  @Setup
+  public void setup() throws IOException {
+    final List<Value<?>> events = new ArrayList<>();
+    int i = 0;
+    do {
+      events.add(event(i++));
+      json = streamingMapper.writeValueAsBytes(Value.array(events));
+    } while (json.length < size && i < 64);
+    // grow in bigger steps once the size of a single event is known.
+    final int perEvent = json.length / events.size();
+    while (json.length < size) {
+      final int missing = (size - json.length) / perEvent + 1;
+      for (int j = 0; j < missing; j++) {
+        events.add(event(i++));
+      }
+      json = streamingMapper.writeValueAsBytes(Value.array(events));
+    }
+  }
+
+  @Benchmark
+  public Value<?> streaming() throws IOException {
+    return streamingMapper.readValue(json, Value.class);
+  }
+
+  @Benchmark
+  public Value<?> tree() throws IOException {
+    return treeMapper.readValue(json, Value.class);
+  }
+
+  private static Value<?> event(int i) {
+    return Value.object(
+        Field.keyValue("message", Value.string("event number " + i)),
+        Field.keyValue("count", Value.number(i)),
+        Field.keyValue("ratio", Value.number(i / 7.0d)),
+        Field.keyValue("enabled", Value.bool(i % 2 == 0)),
+        Field.keyValue("tags", Value.array(Value.string("one"), Value.string("two"))),
+        Field.keyValue(
+            "person",
+            Value.object(
+                Field.keyValue("name", Value.string("person " + i)),
+                Field.keyValue("age", Value.number(i % 100)))));
+  }
+}
@@ -0,0 +1,73 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import echopraxia.api.ThrowableRenderer;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Writes the same exception with a cause over and over, as in an incident storm, comparing {@link
+ * ThrowableRenderer} with and without its frame cache against {@code printStackTrace}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionBenchmarks {
+  private static final ObjectMapper mapper = DefaultObjectMapper.OBJECT_MAPPER;
+
+  private static final ThrowableRenderer uncached =
+      new ThrowableRenderer(
+          ThrowableRenderer.DEFAULT_MAX_DEPTH, ThrowableRenderer.DEFAULT_MAX_FRAMES, 0);
+
+  private static final Throwable exception =
+      new IllegalStateException("outer", nested(40, new RuntimeException("cause")));
+
+  private JsonGenerator generator;
+
+  @Setup
+  public void setup() throws IOException {
+    generator = mapper.createGenerator(OutputStream.nullOutputStream());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    generator.close();
+  }
+
+  @Benchmark
+  public void cached() throws IOException {
+    generator.writeObject(Value.exception(exception));
+    generator.flush();
+  }
+
+  @Benchmark
+  public void uncached() throws IOException {
+    generator.writeObject(uncached.render(exception));
+    generator.flush();
+  }
+
+  @Benchmark
+  public void printStackTrace() throws IOException {
+    final StringWriter writer = new StringWriter();
+    exception.printStackTrace(new PrintWriter(writer));
+    generator.writeString(writer.toString());
+    generator.flush();
+  }
+
+  // creates the throwable some calls deep, so its trace is closer to one from an application.
+  private static Throwable nested(int depth, Throwable cause) {
+    if (depth == 0) {
+      return new RuntimeException("nested", cause);
+    }
+    return nested(depth - 1, cause);
+  }
+}
@@ -0,0 +1,112 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serializes deep and wide trees of fields through an {@link ObjectMapper} with the {@link
+ * EchopraxiaModule}. Run with {@code -prof gc} to see {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializerBenchmarks {
+  private static final ObjectMapper mapper = DefaultObjectMapper.OBJECT_MAPPER;
+
+  // 5 levels of 20 fields, each level nesting the next.
+  private static final Value<?> deep = level(5, 20);
+
+  // 100 fields in a single object.
+  private static final Value<?> wide = level(1, 100);
+
+  private static final Value<?> array =
+      Value.array(Value.string("one"), Value.number(2), Value.number(3.0f), Value.bool(true));
+
+  // 1000 histogram buckets.
+  private static final long[] buckets = new long[1000];
+
+  private static final Long[] boxedBuckets = new Long[buckets.length];
+
+  static {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = i * 31L;
+      boxedBuckets[i] = buckets[i];
+    }
+  }
+
+  private JsonGenerator generator;
+
+  @Setup
+  public void setup() throws IOException {
+    generator = mapper.createGenerator(OutputStream.nullOutputStream());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    generator.close();
+  }
+
+  @Benchmark
+  public void deep() throws IOException {
+    generator.writeObject(deep);
+    generator.flush();
+  }
+
+  @Benchmark
+  public void wide() throws IOException {
+    generator.writeObject(wide);
+    generator.flush();
+  }
+
+  @Benchmark
+  public void array() throws IOException {
+    generator.writeObject(array);
+    generator.flush();
+  }
+
+  @Benchmark
+  public void boxedBuckets() throws IOException {
+    generator.writeObject(Value.array(boxedBuckets));
+    generator.flush();
+  }
+
+  @Benchmark
+  public void primitiveBuckets() throws IOException {
+    generator.writeObject(Value.array(buckets));
+    generator.flush();
+  }
+
+  static Value<?> level(int depth, int width) {
+    final List<Field> fields = new ArrayList<>(width);
+    for (int i = 0; i < width - 1; i++) {
+      switch (i % 3) {
+        case 0:
+          fields.add(Field.keyValue("string" + i, Value.string("value" + i)));
+          break;
+        case 1:
+          fields.add(Field.keyValue("number" + i, Value.number(i)));
+          break;
+        default:
+          fields.add(Field.keyValue("bool" + i, Value.bool(i % 2 == 0)));
+          break;
+      }
+    }
+    if (depth > 1) {
+      fields.add(Field.keyValue("child", level(depth - 1, width)));
+    } else {
+      fields.add(Field.keyValue("leaf", Value.nullValue()));
+    }
+    return Value.object(fields);
+  }
+}
@@ -0,0 +1,83 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binary encodings for fields and values, as an alternative to JSON text.
+ *
+ * <p>{@link #SMILE} needs {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} and
+ * {@link #CBOR} needs {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} on the
+ * classpath. Neither is pulled in by this module.
+ */
+public enum BinaryFormat {
+
+  /**
+   * Smile, with back references for repeated field names and short string values, so keys that
+   * repeat within a document are only written once.
+   */
+  SMILE("application/x-jackson-smile") {
+    @Override
+    public @NotNull ObjectMapper newObjectMapper() {
+      return Smile.newObjectMapper();
+    }
+  },
+
+  /** CBOR, as defined by RFC 8949. */
+  CBOR("application/cbor") {
+    @Override
+    public @NotNull ObjectMapper newObjectMapper() {
+      return Cbor.newObjectMapper();
+    }
+  };
+
+  private final String contentType;
+
+  BinaryFormat(String contentType) {
+    this.contentType = contentType;
+  }
+
+  /**
+   * @return a new object mapper for this format, with the {@link EchopraxiaModule} registered.
+   */
+  public abstract @NotNull ObjectMapper newObjectMapper();
+
+  /**
+   * @return the MIME type of this format.
+   */
+  public @NotNull String contentType() {
+    return contentType;
+  }
+
+  /**
+   * Looks up a format by name, ignoring case.
+   *
+   * @param name "smile" or "cbor".
+   * @return the format.
+   * @throws IllegalArgumentException if there is no format with that name.
+   */
+  public static @NotNull BinaryFormat fromName(@NotNull String name) {
+    return BinaryFormat.valueOf(name.trim().toUpperCase(Locale.ROOT));
+  }
+
+  // Kept in their own classes so that only the dataformat actually used has to be present.
+  private static final class Smile {
+    static ObjectMapper newObjectMapper() {
+      return SmileMapper.builder()
+          .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+          .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+          .addModule(new EchopraxiaModule())
+          .build();
+    }
+  }
+
+  private static final class Cbor {
+    static ObjectMapper newObjectMapper() {
+      return CBORMapper.builder().addModule(new EchopraxiaModule()).build();
+    }
+  }
+}
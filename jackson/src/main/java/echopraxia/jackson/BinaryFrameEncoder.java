@@ -0,0 +1,152 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes log events as binary documents in a {@link BinaryFormat}, for use by logging framework
+ * encoders and layouts.
+ *
+ * <p>Each event is a separate document. With length prefixes on, it is preceded by its length as a
+ * four byte big-endian integer, so that a stream of frames can be split without parsing them. This
+ * class is thread safe.
+ */
+public final class BinaryFrameEncoder {
+
+  /** Writes the content of one event into a generator. */
+  @FunctionalInterface
+  public interface EventWriter<E> {
+    void write(E event, JsonGenerator generator) throws IOException;
+  }
+
+  private static final int PREFIX_LENGTH = 4;
+
+  private final BinaryFormat format;
+  private final ObjectMapper mapper;
+  private final SerializerProvider provider;
+  private final boolean lengthPrefixed;
+
+  public BinaryFrameEncoder(@NotNull BinaryFormat format, boolean lengthPrefixed) {
+    this.format = format;
+    this.mapper = format.newObjectMapper();
+    this.provider = mapper.getSerializerProviderInstance();
+    this.lengthPrefixed = lengthPrefixed;
+  }
+
+  public @NotNull BinaryFormat format() {
+    return format;
+  }
+
+  /**
+   * @return the object mapper used to write documents, which can also read them.
+   */
+  public @NotNull ObjectMapper mapper() {
+    return mapper;
+  }
+
+  public boolean isLengthPrefixed() {
+    return lengthPrefixed;
+  }
+
+  /**
+   * Encodes an event.
+   *
+   * @param event the event.
+   * @param writer writes the event's content, between the start and end of the root object.
+   * @return the encoded frame.
+   * @throws IOException if the event cannot be encoded.
+   */
+  public <E> byte[] encode(E event, @NotNull EventWriter<E> writer) throws IOException {
+    final ByteArrayBuilder bytes = new ByteArrayBuilder(512);
+    if (lengthPrefixed) {
+      for (int i = 0; i < PREFIX_LENGTH; i++) {
+        bytes.write(0);
+      }
+    }
+    try (JsonGenerator generator = mapper.createGenerator(bytes)) {
+      generator.writeStartObject();
+      writer.write(event, generator);
+      generator.writeEndObject();
+    }
+    final byte[] frame = bytes.toByteArray();
+    if (lengthPrefixed) {
+      final int length = frame.length - PREFIX_LENGTH;
+      frame[0] = (byte) (length >>> 24);
+      frame[1] = (byte) (length >>> 16);
+      frame[2] = (byte) (length >>> 8);
+      frame[3] = (byte) length;
+    }
+    return frame;
+  }
+
+  /**
+   * Writes fields as properties of the current object. Exception fields are left out.
+   *
+   * @param fields the fields.
+   * @param generator the generator passed to the {@link EventWriter}.
+   * @throws IOException if the fields cannot be written.
+   */
+  public void writeFields(@NotNull List<Field> fields, @NotNull JsonGenerator generator)
+      throws IOException {
+    for (int i = 0; i < fields.size(); i++) {
+      writeField(fields.get(i), generator);
+    }
+  }
+
+  /**
+   * Writes a field as a property of the current object. Exception fields are left out.
+   *
+   * @param field the field.
+   * @param generator the generator passed to the {@link EventWriter}.
+   * @throws IOException if the field cannot be written.
+   */
+  public void writeField(@NotNull Field field, @NotNull JsonGenerator generator)
+      throws IOException {
+    FieldWriter.writeField(field, generator, provider);
+  }
+
+  /**
+   * Writes a value, for example a throwable rendered by {@link echopraxia.api.ThrowableRenderer}.
+   *
+   * @param value the value.
+   * @param generator the generator passed to the {@link EventWriter}.
+   * @throws IOException if the value cannot be written.
+   */
+  public void writeValue(@NotNull Value<?> value, @NotNull JsonGenerator generator)
+      throws IOException {
+    FieldWriter.writeValue(value, generator, provider);
+  }
+
+  /**
+   * Reads the next length prefixed frame from a stream.
+   *
+   * @param in the stream.
+   * @return the document in the frame without its prefix, or null at the end of the stream.
+   * @throws IOException if the stream ends in the middle of a frame.
+   */
+  @Nullable
+  public static byte[] readFrame(@NotNull InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+    final int first = data.read();
+    if (first < 0) {
+      return null;
+    }
+    final int length = (first << 24) | (data.readUnsignedByte() << 16) | data.readUnsignedShort();
+    if (length < 0) {
+      throw new IOException("Invalid frame length " + length);
+    }
+    final byte[] document = new byte[length];
+    data.readFully(document);
+    return document;
+  }
+}
@@ -0,0 +1,173 @@
+package echopraxia.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import echopraxia.api.DefaultField;
+import echopraxia.api.Field;
+import echopraxia.api.FieldVisitor;
+import echopraxia.api.PresentationHintAttributes;
+import echopraxia.api.ThrowableRenderer;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes fields and values with a single recursive pass over the tree, switching on {@link
+ * Value.Type} instead of going back through the {@link SerializerProvider} for every child.
+ *
+ * <p>The provider is only consulted for {@link Field} implementations other than {@link
+ * DefaultField}, in case a more specific serializer has been registered for them.
+ */
+final class FieldWriter {
+
+  // Field names are nearly always constants, so keep their encoded form around.
+  private static final int NAME_CACHE_SIZE = 1024;
+  private static final ConcurrentHashMap<String, SerializedString> NAME_CACHE =
+      new ConcurrentHashMap<>();
+
+  private FieldWriter() {}
+
+  static void writeField(Field input, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    final Field field = structuredField(input);
+    final Value<?> value = field.value();
+    // top level exceptions are rendered by the backend, not as a field.
+    if (value.type() == Value.Type.EXCEPTION && value.raw() != null) {
+      return;
+    }
+    writeNamed(field, gen, provider);
+  }
+
+  private static void writeNamed(Field field, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeFieldName(fieldName(field.name()));
+    writeValue(field.value(), gen, provider);
+  }
+
+  static void writeValue(Value<?> input, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    // lazy values are computed here, when they are written.
+    final Value<?> value = input == null ? null : input.resolve();
+    // short circuit if a null value's been passed in, so we can keep logging.
+    if (value == null || value.raw() == null) {
+      gen.writeNull();
+      return;
+    }
+    switch (value.type()) {
+      case ARRAY:
+        final Object primitives = ((Value.ArrayValue) value).primitiveArray();
+        if (primitives != null) {
+          writePrimitiveArray(primitives, gen);
+          break;
+        }
+        final List<Value<?>> values = ((Value.ArrayValue) value).raw();
+        gen.writeStartArray();
+        for (int i = 0; i < values.size(); i++) {
+          writeValue(values.get(i), gen, provider);
+        }
+        gen.writeEndArray();
+        break;
+      case OBJECT:
+        final List<Field> fields = ((Value.ObjectValue) value).raw();
+        gen.writeStartObject();
+        for (int i = 0; i < fields.size(); i++) {
+          writeChild(fields.get(i), gen, provider);
+        }
+        gen.writeEndObject();
+        break;
+      case STRING:
+        gen.writeString(((Value.StringValue) value).raw());
+        break;
+      case NUMBER:
+        writeNumber(((Value.NumberValue<?>) value).raw(), gen);
+        break;
+      case BOOLEAN:
+        gen.writeBoolean(((Value.BooleanValue) value).raw());
+        break;
+      case EXCEPTION:
+        final Throwable throwable = ((Value.ExceptionValue) value).raw();
+        writeValue(ThrowableRenderer.defaultRenderer().render(throwable), gen, provider);
+        break;
+      case NULL:
+        gen.writeNull();
+        break;
+    }
+  }
+
+  private static void writeChild(Field field, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    if (field.getClass() != DefaultField.class && provider != null) {
+      final JsonSerializer<Object> serializer = provider.findValueSerializer(field.getClass());
+      if (serializer.getClass() != FieldSerializer.class) {
+        serializer.serialize(field, gen, provider);
+        return;
+      }
+    }
+    writeNamed(structuredField(field), gen, provider);
+  }
+
+  private static void writeNumber(Number n, JsonGenerator gen) throws IOException {
+    if (n instanceof Integer) {
+      gen.writeNumber(n.intValue());
+    } else if (n instanceof Long) {
+      gen.writeNumber(n.longValue());
+    } else if (n instanceof Double) {
+      gen.writeNumber(n.doubleValue());
+    } else if (n instanceof Float) {
+      gen.writeNumber(n.floatValue());
+    } else if (n instanceof Short || n instanceof Byte) {
+      gen.writeNumber(n.shortValue());
+    } else if (n instanceof BigInteger) {
+      gen.writeNumber((BigInteger) n);
+    } else if (n instanceof BigDecimal) {
+      gen.writeNumber((BigDecimal) n);
+    } else {
+      gen.writeNumber(n.doubleValue());
+    }
+  }
+
+  // writes an array from Value.array(int[]) etc. without creating a value per element.
+  private static void writePrimitiveArray(Object array, JsonGenerator gen) throws IOException {
+    if (array instanceof int[]) {
+      final int[] ints = (int[]) array;
+      gen.writeArray(ints, 0, ints.length);
+    } else if (array instanceof long[]) {
+      final long[] longs = (long[]) array;
+      gen.writeArray(longs, 0, longs.length);
+    } else if (array instanceof double[]) {
+      final double[] doubles = (double[]) array;
+      gen.writeArray(doubles, 0, doubles.length);
+    } else {
+      final boolean[] booleans = (boolean[]) array;
+      gen.writeStartArray();
+      for (boolean b : booleans) {
+        gen.writeBoolean(b);
+      }
+      gen.writeEndArray();
+    }
+  }
+
+  private static Field structuredField(Field field) {
+    final FieldVisitor visitor =
+        field.attributes().get(PresentationHintAttributes.STRUCTURED_FORMAT);
+    return visitor == null ? field : visitor.visit(field);
+  }
+
+  static SerializableString fieldName(String name) {
+    SerializedString serialized = NAME_CACHE.get(name);
+    if (serialized == null) {
+      if (NAME_CACHE.size() >= NAME_CACHE_SIZE) {
+        NAME_CACHE.clear();
+      }
+      serialized = new SerializedString(name);
+      NAME_CACHE.put(name, serialized);
+    }
+    return serialized;
+  }
+}
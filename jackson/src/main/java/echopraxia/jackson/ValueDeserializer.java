@@ -2,20 +2,26 @@ package echopraxia.jackson;
 
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import echopraxia.api.Field;
 import echopraxia.api.Value;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Reads JSON into values straight from the parser's tokens, without building a {@code JsonNode}
+ * tree first.
+ *
+ * <p>Integers are read as {@code int} or {@code long} and floating point numbers as {@code double},
+ * unless {@link DeserializationFeature#USE_LONG_FOR_INTS}, {@link
+ * DeserializationFeature#USE_BIG_INTEGER_FOR_INTS} or {@link
+ * DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS} are enabled.
+ */
 public class ValueDeserializer extends StdDeserializer<Value<?>> {
   static final ValueDeserializer INSTANCE = new ValueDeserializer();
 
@@ -26,66 +32,119 @@ public class ValueDeserializer extends StdDeserializer<Value<?>> {
   @Override
   public Value<?> deserialize(JsonParser p, DeserializationContext ctxt)
       throws IOException, JacksonException {
-    final JsonNode jsonNode = p.readValueAs(JsonNode.class);
-    return processNode(jsonNode);
+    return readValue(p, ctxt, p.currentToken(), new Buffers(), 0);
   }
 
-  private Value<?> processNode(JsonNode jsonNode) {
-    switch (jsonNode.getNodeType()) {
-      case ARRAY:
-        return processArrayValue(jsonNode);
-      case BINARY:
-        return Value.string(jsonNode.textValue());
-      case BOOLEAN:
-        return Value.bool(jsonNode.booleanValue());
-      case MISSING:
-        return Value.nullValue();
-      case NULL:
+  private Value<?> readValue(
+      JsonParser p, DeserializationContext ctxt, JsonToken token, Buffers buffers, int depth)
+      throws IOException {
+    if (token == null) {
+      throw new IllegalStateException("Unexpected end of input");
+    }
+    switch (token) {
+      case START_OBJECT:
+      case FIELD_NAME:
+        return readObject(p, ctxt, token, buffers, depth);
+      case START_ARRAY:
+        return readArray(p, ctxt, buffers, depth);
+      case VALUE_STRING:
+      case VALUE_EMBEDDED_OBJECT:
+        return Value.string(p.getText());
+      case VALUE_NUMBER_INT:
+        return readInteger(p, ctxt);
+      case VALUE_NUMBER_FLOAT:
+        return readFloatingPoint(p, ctxt);
+      case VALUE_TRUE:
+        return Value.bool(true);
+      case VALUE_FALSE:
+        return Value.bool(false);
+      case VALUE_NULL:
         return Value.nullValue();
-      case NUMBER:
-        switch (jsonNode.numberType()) {
-          case INT:
-            return Value.number(jsonNode.asInt());
-          case LONG:
-            return Value.number(jsonNode.asLong());
-          case BIG_INTEGER:
-            return Value.number((BigInteger) jsonNode.numberValue());
-          case FLOAT:
-            return Value.number(jsonNode.floatValue());
-          case DOUBLE:
-            return Value.number(jsonNode.asDouble());
-          case BIG_DECIMAL:
-            return Value.number((BigDecimal) jsonNode.numberValue());
+      default:
+        throw new IllegalStateException("Unexpected token " + token);
+    }
+  }
+
+  private Value<?> readObject(
+      JsonParser p, DeserializationContext ctxt, JsonToken token, Buffers buffers, int depth)
+      throws IOException {
+    final List<Field> fields = buffers.fields(depth);
+    // FIELD_NAME if the caller has already consumed the START_OBJECT.
+    String name = token == JsonToken.FIELD_NAME ? p.currentName() : p.nextFieldName();
+    while (name != null) {
+      final Value<?> value = readValue(p, ctxt, p.nextToken(), buffers, depth + 1);
+      fields.add(Field.keyValue(name, value));
+      name = p.nextFieldName();
+    }
+    // Value.object copies the fields into a list of the right size.
+    final Value<?> objectValue = Value.object(fields);
+    fields.clear();
+    return objectValue;
+  }
+
+  private Value<?> readArray(
+      JsonParser p, DeserializationContext ctxt, Buffers buffers, int depth) throws IOException {
+    final List<Value<?>> values = buffers.values(depth);
+    JsonToken token;
+    while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+      values.add(readValue(p, ctxt, token, buffers, depth + 1));
+    }
+    if (values.isEmpty()) {
+      return Value.array(Collections.emptyList());
+    }
+    final Value<?> arrayValue = Value.array(new ArrayList<>(values));
+    values.clear();
+    return arrayValue;
+  }
+
+  private Value<?> readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (ctxt.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+      return Value.number(p.getBigIntegerValue());
+    }
+    switch (p.getNumberType()) {
+      case INT:
+        if (ctxt.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)) {
+          return Value.number(p.getLongValue());
         }
-      case OBJECT:
-        return processObjectValue(jsonNode);
-      case POJO:
-        throw new IllegalStateException("No POJO accepted for " + jsonNode);
-      case STRING:
-        return Value.string(jsonNode.textValue());
+        return Value.number(p.getIntValue());
+      case LONG:
+        return Value.number(p.getLongValue());
       default:
-        throw new IllegalStateException("Unknown node type " + jsonNode.getNodeType());
+        return Value.number(p.getBigIntegerValue());
     }
   }
 
-  private Value<?> processObjectValue(JsonNode jsonNode) {
-    ObjectNode node = (ObjectNode) jsonNode;
-    List<Field> fields = new ArrayList<>();
-    for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
-      Map.Entry<String, JsonNode> entry = it.next();
-      Value<?> value = processNode(entry.getValue());
-      Field field = Field.keyValue(entry.getKey(), value);
-      fields.add(field);
+  private Value<?> readFloatingPoint(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+      return Value.number(p.getDecimalValue());
+    }
+    switch (p.getNumberType()) {
+      case FLOAT:
+        return Value.number(p.getFloatValue());
+      case BIG_DECIMAL:
+        return Value.number(p.getDecimalValue());
+      default:
+        return Value.number(p.getDoubleValue());
     }
-    return Value.object(fields);
   }
 
-  private Value<?> processArrayValue(JsonNode jsonNode) {
-    final List<Value<?>> values = new ArrayList<>();
-    for (JsonNode arrayItem : jsonNode) {
-      Value<?> value = processNode(arrayItem);
-      values.add(value);
+  /** Scratch lists for each level of nesting, reused across siblings within one document. */
+  private static final class Buffers {
+    private final List<List<Field>> fields = new ArrayList<>();
+    private final List<List<Value<?>>> values = new ArrayList<>();
+
+    List<Field> fields(int depth) {
+      while (fields.size() <= depth) {
+        fields.add(new ArrayList<>());
+      }
+      return fields.get(depth);
+    }
+
+    List<Value<?>> values(int depth) {
+      while (values.size() <= depth) {
+        values.add(new ArrayList<>());
+      }
+      return values.get(depth);
     }
-    return Value.array(values);
   }
 }
@@ -0,0 +1,101 @@
+package echopraxia.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BinaryFormatTest {
+
+  private static final ObjectMapper jsonMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private final Value<?> value =
+      Value.object(
+          Field.keyValue("name", Value.string("value")),
+          Field.keyValue("age", Value.number(13)),
+          Field.keyValue("ratio", Value.number(0.25d)),
+          Field.keyValue("citizen", Value.bool(true)),
+          Field.keyValue("nothing", Value.nullValue()),
+          Field.keyValue(
+              "people",
+              Value.array(
+                  Value.object(Field.keyValue("name", Value.string("will"))),
+                  Value.object(Field.keyValue("name", Value.string("eloise"))))));
+
+  @Test
+  public void testSmileRoundTrip() throws IOException {
+    assertRoundTrip(BinaryFormat.SMILE);
+  }
+
+  @Test
+  public void testCborRoundTrip() throws IOException {
+    assertRoundTrip(BinaryFormat.CBOR);
+  }
+
+  @Test
+  public void testFrames() throws IOException {
+    BinaryFrameEncoder encoder = new BinaryFrameEncoder(BinaryFormat.SMILE, true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < 3; i++) {
+      out.write(
+          encoder.encode(
+              i,
+              (count, gen) -> {
+                gen.writeNumberField("count", count);
+                encoder.writeFields(((Value.ObjectValue) value).raw(), gen);
+              }));
+    }
+
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    List<Value<?>> values = new ArrayList<>();
+    byte[] frame;
+    while ((frame = BinaryFrameEncoder.readFrame(in)) != null) {
+      values.add(encoder.mapper().readValue(frame, Value.class));
+    }
+    assertThat(values).hasSize(3);
+    Value.ObjectValue last = (Value.ObjectValue) values.get(2);
+    assertThat(last.raw().get(0).name()).isEqualTo("count");
+    assertThat(last.raw().get(0).value().raw()).isEqualTo(2);
+    assertThat(last.raw().get(1).name()).isEqualTo("name");
+  }
+
+  @Test
+  public void testSmileSharesRepeatedNames() throws IOException {
+    List<Value<?>> people = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      people.add(
+          Value.object(
+              Field.keyValue("request_id", Value.string("abc")),
+              Field.keyValue("session_id", Value.string("def")),
+              Field.keyValue("index", Value.number(i))));
+    }
+    Value<?> repeated = Value.array(people);
+
+    byte[] json = jsonMapper.writeValueAsBytes(repeated);
+    byte[] smile = BinaryFormat.SMILE.newObjectMapper().writeValueAsBytes(repeated);
+    byte[] cbor = BinaryFormat.CBOR.newObjectMapper().writeValueAsBytes(repeated);
+    assertThat(smile.length).isLessThan(cbor.length).isLessThan(json.length / 2);
+  }
+
+  @Test
+  public void testFromName() {
+    assertThat(BinaryFormat.fromName(" Smile ")).isEqualTo(BinaryFormat.SMILE);
+    assertThat(BinaryFormat.fromName("cbor")).isEqualTo(BinaryFormat.CBOR);
+  }
+
+  private void assertRoundTrip(BinaryFormat format) throws IOException {
+    ObjectMapper mapper = format.newObjectMapper();
+    byte[] bytes = mapper.writeValueAsBytes(value);
+    Value<?> result = mapper.readValue(bytes, Value.class);
+    assertThat(jsonMapper.writeValueAsString(result))
+        .isEqualTo(jsonMapper.writeValueAsString(value));
+  }
+}
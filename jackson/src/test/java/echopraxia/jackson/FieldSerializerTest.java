@@ -0,0 +1,107 @@
+package echopraxia.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import echopraxia.api.Attributes;
+import echopraxia.api.DefaultField;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+public class FieldSerializerTest {
+
+  private static final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Test
+  public void testNumbers() throws JsonProcessingException {
+    Value<?> value =
+        Value.object(
+            Field.keyValue("byte", Value.number((byte) 1)),
+            Field.keyValue("short", Value.number((short) 2)),
+            Field.keyValue("int", Value.number(3)),
+            Field.keyValue("long", Value.number(4L)),
+            Field.keyValue("float", Value.number(5.5f)),
+            Field.keyValue("double", Value.number(6.5d)));
+
+    JsonNode node = mapper.readTree(mapper.writeValueAsString(value));
+    assertThat(node.get("byte").asInt()).isEqualTo(1);
+    assertThat(node.get("short").asInt()).isEqualTo(2);
+    assertThat(node.get("int").asInt()).isEqualTo(3);
+    assertThat(node.get("long").asLong()).isEqualTo(4L);
+    assertThat(node.get("float").asDouble()).isEqualTo(5.5d);
+    assertThat(node.get("double").asDouble()).isEqualTo(6.5d);
+  }
+
+  @Test
+  public void testNested() throws JsonProcessingException {
+    Value<?> inner = Value.object(Field.keyValue("bool", Value.bool(true)));
+    Value<?> value =
+        Value.object(
+            Field.keyValue(
+                "outer",
+                Value.object(
+                    Field.keyValue("array", Value.array(Value.string("a"), Value.nullValue())),
+                    Field.keyValue("exception", Value.exception(new RuntimeException("oops"))),
+                    Field.keyValue("inner", inner))));
+
+    String json = mapper.writeValueAsString(value);
+    assertThat(json).isEqualTo("{\"outer\":{\"array\":[\"a\",null],\"inner\":{\"bool\":true}}}");
+  }
+
+  @Test
+  public void testPrimitiveArrays() throws JsonProcessingException {
+    Value<?> value =
+        Value.object(
+            Field.keyValue("ints", Value.array(new int[] {1, 2})),
+            Field.keyValue("longs", Value.array(new long[] {3L})),
+            Field.keyValue("doubles", Value.array(new double[] {4.5d})),
+            Field.keyValue("booleans", Value.array(new boolean[] {true, false})));
+
+    String json = mapper.writeValueAsString(value);
+    assertThat(json)
+        .isEqualTo(
+            "{\"ints\":[1,2],\"longs\":[3],\"doubles\":[4.5],\"booleans\":[true,false]}");
+  }
+
+  @Test
+  public void testCustomFieldSerializer() throws JsonProcessingException {
+    SimpleModule module = new SimpleModule();
+    module.addSerializer(CustomField.class, new CustomFieldSerializer());
+    ObjectMapper customMapper = JsonMapper.builder().findAndAddModules().addModule(module).build();
+
+    Value<?> value =
+        Value.object(
+            new CustomField("custom", Value.string("value")),
+            Field.keyValue("plain", Value.string("value")));
+
+    String json = customMapper.writeValueAsString(value);
+    assertThat(json).isEqualTo("{\"custom\":\"CUSTOM\",\"plain\":\"value\"}");
+  }
+
+  static class CustomField extends DefaultField {
+    CustomField(String name, Value<?> value) {
+      super(name, value, Attributes.empty());
+    }
+  }
+
+  static class CustomFieldSerializer extends StdSerializer<CustomField> {
+    CustomFieldSerializer() {
+      super(CustomField.class);
+    }
+
+    @Override
+    public void serialize(CustomField field, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStringField(field.name(), "CUSTOM");
+    }
+  }
+}
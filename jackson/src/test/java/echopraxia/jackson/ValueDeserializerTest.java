@@ -0,0 +1,71 @@
+package echopraxia.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ValueDeserializerTest {
+
+  private static final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Test
+  public void testRoundTrip() throws JsonProcessingException {
+    Value<?> value =
+        Value.object(
+            Field.keyValue("name", Value.string("value")),
+            Field.keyValue("age", Value.number(13)),
+            Field.keyValue("big", Value.number(Long.MAX_VALUE)),
+            Field.keyValue("ratio", Value.number(0.5d)),
+            Field.keyValue("citizen", Value.bool(true)),
+            Field.keyValue("nothing", Value.nullValue()),
+            Field.keyValue("empty", Value.array(Collections.emptyList())),
+            Field.keyValue(
+                "nested",
+                Value.array(
+                    Value.object(Field.keyValue("a", Value.array(Value.number(1)))),
+                    Value.object(Field.keyValue("b", Value.array(Value.number(2)))))));
+
+    String json = mapper.writeValueAsString(value);
+    Value<?> result = mapper.readValue(json, Value.class);
+    assertThat(mapper.writeValueAsString(result)).isEqualTo(json);
+
+    List<Field> fields = ((Value.ObjectValue) result).raw();
+    assertThat(fields.get(1).value().raw()).isEqualTo(13);
+    assertThat(fields.get(2).value().raw()).isEqualTo(Long.MAX_VALUE);
+    assertThat(fields.get(3).value().raw()).isEqualTo(0.5d);
+    assertThat(fields.get(5).value().type()).isEqualTo(Value.Type.NULL);
+  }
+
+  @Test
+  public void testBigNumbers() throws JsonProcessingException {
+    Value<?> result = mapper.readValue("[123456789012345678901234567890, 1.5]", Value.class);
+    List<Value<?>> values = ((Value.ArrayValue) result).raw();
+    assertThat(values.get(0).raw()).isEqualTo(new BigInteger("123456789012345678901234567890"));
+    assertThat(values.get(1).raw()).isEqualTo(1.5d);
+  }
+
+  @Test
+  public void testDeserializationFeatures() throws JsonProcessingException {
+    ObjectMapper featureMapper =
+        JsonMapper.builder()
+            .findAndAddModules()
+            .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    Value<?> result = featureMapper.readValue("[1, 1.5]", Value.class);
+    List<Value<?>> values = ((Value.ArrayValue) result).raw();
+    assertThat(values.get(0).raw()).isEqualTo(1L);
+    assertThat(values.get(1).raw()).isEqualTo(new BigDecimal("1.5"));
+  }
+}
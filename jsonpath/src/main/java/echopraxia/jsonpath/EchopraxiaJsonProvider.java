@@ -85,7 +85,7 @@ public class EchopraxiaJsonProvider implements JsonProvider {
       return ((Iterable) obj);
     }
     if (obj instanceof Value.ArrayValue) {
-      return ((Value.ArrayValue) obj).raw();
+      return resolveAll(((Value.ArrayValue) obj).raw());
     } else
       throw new JsonPathException(
           "Cannot iterate over " + obj != null ? obj.getClass().getName() : "null");
@@ -167,7 +167,7 @@ public class EchopraxiaJsonProvider implements JsonProvider {
   public Object getArrayIndex(Object obj, int idx) {
     if (obj instanceof Value.ArrayValue) {
       final List<Value<?>> raw = ((Value.ArrayValue) obj).raw();
-      return raw.get(idx);
+      return raw.get(idx).resolve();
     }
     if (obj instanceof List) {
       return ((List<?>) obj).get(idx);
@@ -255,9 +255,23 @@ public class EchopraxiaJsonProvider implements JsonProvider {
   @NotNull
   private Object findValue(String key, List<Field> fields) {
     // This is O(N), so it will be slower when there are large lists.
+    // lazy values are computed when a path reaches them.
     final Optional<? extends Value<?>> first =
         fields.stream().filter(f -> f.name().equals(key)).map(Field::value).findFirst();
-    return first.isPresent() ? first.get() : UNDEFINED;
+    return first.isPresent() ? first.get().resolve() : UNDEFINED;
+  }
+
+  private static List<Value<?>> resolveAll(List<Value<?>> values) {
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i) instanceof Value.LazyValue) {
+        final List<Value<?>> resolved = new ArrayList<>(values.size());
+        for (Value<?> value : values) {
+          resolved.add(value.resolve());
+        }
+        return resolved;
+      }
+    }
+    return values;
   }
 
   @Override
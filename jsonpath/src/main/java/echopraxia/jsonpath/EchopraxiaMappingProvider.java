@@ -74,10 +74,11 @@ public class EchopraxiaMappingProvider implements MappingProvider {
 
   @SuppressWarnings("unchecked")
   @Nullable
-  private Object mapToObject(@Nullable Object source) {
-    if (source == null) {
+  private Object mapToObject(@Nullable Object input) {
+    if (input == null) {
       return null;
     }
+    final Object source = input instanceof Value ? ((Value<?>) input).resolve() : input;
     if (source == Value.NullValue.instance) {
       return null;
     }
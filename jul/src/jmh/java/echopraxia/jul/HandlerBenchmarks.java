@@ -0,0 +1,77 @@
+package echopraxia.jul;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares JUL's {@code FileHandler} with {@link AsyncFileHandler}, both writing JSON to a
+ * temporary file. Run with several threads ({@code -t 4}) to see contention on the handler lock.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerBenchmarks {
+
+  private static final Field[] arguments = {
+    Field.keyValue("name", Value.string("value")),
+    Field.keyValue("age", Value.number(13))
+  };
+
+  private Path directory;
+  private FileHandler fileHandler;
+  private AsyncFileHandler asyncFileHandler;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("echopraxia-jmh");
+    fileHandler = new FileHandler(directory.resolve("file.log").toString(), true);
+    fileHandler.setFormatter(new JULJSONFormatter());
+    asyncFileHandler =
+        new AsyncFileHandler(
+            directory.resolve("async.log"),
+            65536,
+            256 * 1024,
+            64 * 1024,
+            1000,
+            AsyncFileHandler.OverflowPolicy.BLOCK,
+            AsyncFileHandler.Rotation.NONE,
+            null);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    fileHandler.close();
+    asyncFileHandler.close();
+    try (var files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Benchmark
+  public void fileHandler() {
+    fileHandler.publish(newRecord());
+  }
+
+  @Benchmark
+  public void asyncFileHandler() {
+    asyncFileHandler.publish(newRecord());
+  }
+
+  private static EchopraxiaLogRecord newRecord() {
+    return new EchopraxiaLogRecord(
+        "benchmark", Level.INFO, "hello {0} {1}", arguments, new Field[0], null);
+  }
+}
@@ -0,0 +1,50 @@
+package echopraxia.jul;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class JULJSONFormatterBenchmarks {
+  private static final JULJSONFormatter formatter = new JULJSONFormatter(true);
+
+  private static final Field[] loggerFields = {
+    Field.keyValue("context_name", Value.string("context_value"))
+  };
+
+  private static final Field[] arguments = {
+    Field.keyValue("name", Value.string("value")),
+    Field.keyValue("age", Value.number(13)),
+    Field.keyValue("citizen", Value.bool(true))
+  };
+
+  private static final EchopraxiaLogRecord record =
+      new EchopraxiaLogRecord(
+          "benchmark", Level.INFO, "hello {0} {1} {2}", arguments, loggerFields, null);
+
+  private static final EchopraxiaLogRecord recordWithException =
+      new EchopraxiaLogRecord(
+          "benchmark",
+          Level.SEVERE,
+          "hello {0} {1} {2}",
+          arguments,
+          loggerFields,
+          new RuntimeException("oh noes"));
+
+  @Benchmark
+  public void format(Blackhole blackhole) {
+    blackhole.consume(formatter.format(record));
+  }
+
+  @Benchmark
+  public void formatWithException(Blackhole blackhole) {
+    blackhole.consume(formatter.format(recordWithException));
+  }
+}
@@ -0,0 +1,78 @@
+package echopraxia.jul;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class LoggerBenchmarks {
+
+  static {
+    LogManager.getLogManager().reset();
+    final java.util.logging.Logger root = java.util.logging.Logger.getLogger("");
+    root.setLevel(Level.INFO);
+    root.addHandler(new FormattingHandler());
+  }
+
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> contextLogger =
+      logger.withFields(fb -> fb.string("context_name", "context_value"));
+
+  private static final Logger<FieldBuilder> inferSourceLogger =
+      LoggerFactory.getLogger(
+          ((JULCoreLogger) logger.core()).withInferSource(true), FieldBuilder.instance());
+
+  @Benchmark
+  public void info() {
+    logger.info("Message");
+  }
+
+  @Benchmark
+  public void infoWithArgument() {
+    logger.info("Message {0}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void infoWithContext() {
+    contextLogger.info("Message {0}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void infoWithInferSource() {
+    inferSourceLogger.info("Message");
+  }
+
+  @Benchmark
+  public void debug() {
+    logger.debug("Message");
+  }
+
+  /** Formats every record to JSON and discards it. */
+  static final class FormattingHandler extends Handler {
+    private final Formatter formatter = new JULJSONFormatter(true);
+    volatile int length;
+
+    @Override
+    public void publish(LogRecord record) {
+      length = formatter.format(record).length();
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+}
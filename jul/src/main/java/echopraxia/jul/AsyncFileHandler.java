@@ -0,0 +1,517 @@
+package echopraxia.jul;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A JUL handler that appends records to a file from a background thread.
+ *
+ * <p>{@link #publish(LogRecord)} puts the record on a bounded lock-free queue and returns. A single
+ * writer thread encodes records into a direct buffer, using {@link JULJSONFormatter}'s streaming
+ * encoder when that is the formatter, and writes the buffer with one {@code FileChannel.write} once
+ * it holds {@code flushBytes}, or when {@code flushInterval} has passed since the last write.
+ *
+ * <p>Configured through {@code logging.properties} like {@code FileHandler}:
+ *
+ * <pre>{@code
+ * handlers=echopraxia.jul.AsyncFileHandler
+ * echopraxia.jul.AsyncFileHandler.path=application.log
+ * echopraxia.jul.AsyncFileHandler.capacity=8192
+ * echopraxia.jul.AsyncFileHandler.bufferSize=262144
+ * echopraxia.jul.AsyncFileHandler.flushBytes=65536
+ * echopraxia.jul.AsyncFileHandler.flushInterval=1000
+ * echopraxia.jul.AsyncFileHandler.overflowPolicy=DROP
+ * echopraxia.jul.AsyncFileHandler.maxFileSize=0
+ * echopraxia.jul.AsyncFileHandler.virtual=false
+ * }</pre>
+ *
+ * <p>{@code flushInterval} is in milliseconds. {@code maxFileSize} turns on {@link
+ * Rotation#bySize(long)} when greater than zero, and {@code virtual} runs the writer on a virtual
+ * thread when the JVM supports them.
+ */
+public class AsyncFileHandler extends Handler {
+
+  /** What {@link #publish(LogRecord)} does when the queue is full. */
+  public enum OverflowPolicy {
+    /** Drop the record and count it, see {@link #getDroppedCount()}. */
+    DROP,
+    /** Wait until the writer thread has made room. */
+    BLOCK
+  }
+
+  /** Decides when the file is rotated, and how. Called from the writer thread only. */
+  public interface Rotation {
+
+    /** Never rotates. */
+    Rotation NONE = (path, size) -> false;
+
+    /**
+     * @param path the file being written.
+     * @param size the current size of the file, including the pending batch.
+     * @return true if the file should be rotated before writing the batch.
+     */
+    boolean shouldRotate(@NotNull Path path, long size);
+
+    /**
+     * Moves the file out of the way. The handler opens a new file at {@code path} afterwards. The
+     * default renames it with a timestamp suffix.
+     *
+     * @param path the file to rotate, which has been closed.
+     * @throws IOException if the file cannot be moved.
+     */
+    default void rotate(@NotNull Path path) throws IOException {
+      final String name = path.getFileName() + "." + System.currentTimeMillis();
+      Path target = path.resolveSibling(name);
+      for (int i = 1; Files.exists(target); i++) {
+        target = path.resolveSibling(name + "." + i);
+      }
+      Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param maxBytes the maximum size of a file.
+     * @return a rotation that rotates when the file would grow past {@code maxBytes}.
+     */
+    static Rotation bySize(long maxBytes) {
+      return (path, size) -> size > maxBytes;
+    }
+  }
+
+  private static final int DEFAULT_CAPACITY = 8192;
+  private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+  private static final int DEFAULT_FLUSH_BYTES = 64 * 1024;
+  private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+  private final Path path;
+  private final int capacity;
+  private final int flushBytes;
+  private final long flushIntervalNanos;
+  private final OverflowPolicy overflowPolicy;
+  private final Rotation rotation;
+
+  private final Queue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final LongAdder dropped = new LongAdder();
+  private final Thread writer;
+
+  private volatile boolean writerParked;
+  private volatile boolean flushRequested;
+  private volatile boolean rotateRequested;
+  private volatile boolean closed;
+
+  // Only touched by the writer thread.
+  private final ByteBuffer buffer;
+  private final ByteBufferOutputStream out;
+  private JsonGenerator generator;
+  private FileChannel channel;
+  private long fileSize;
+
+  /** Creates a handler configured from the {@code LogManager} properties. */
+  public AsyncFileHandler() throws IOException {
+    this(new Config(AsyncFileHandler.class.getName()));
+  }
+
+  private AsyncFileHandler(Config config) throws IOException {
+    this(
+        Paths.get(config.getString("path", "echopraxia.log")),
+        config.getInt("capacity", DEFAULT_CAPACITY),
+        config.getInt("bufferSize", DEFAULT_BUFFER_SIZE),
+        config.getInt("flushBytes", DEFAULT_FLUSH_BYTES),
+        config.getLong("flushInterval", DEFAULT_FLUSH_INTERVAL_MILLIS),
+        OverflowPolicy.valueOf(config.getString("overflowPolicy", OverflowPolicy.DROP.name())),
+        config.getLong("maxFileSize", 0) > 0
+            ? Rotation.bySize(config.getLong("maxFileSize", 0))
+            : Rotation.NONE,
+        config.getBoolean("virtual", false) ? virtualThreadFactory() : null);
+    config.configure(this);
+  }
+
+  /**
+   * Creates a handler.
+   *
+   * @param path the file to append to.
+   * @param capacity the maximum number of queued records.
+   * @param bufferSize the size of the direct buffer records are encoded into.
+   * @param flushBytes write once this many bytes are pending, at most {@code bufferSize}.
+   * @param flushIntervalMillis write pending bytes after this many milliseconds.
+   * @param overflowPolicy what to do when the queue is full.
+   * @param rotation when and how to rotate the file.
+   * @param threadFactory creates the writer thread, or null for a daemon platform thread.
+   * @throws IOException if the file cannot be opened.
+   */
+  public AsyncFileHandler(
+      @NotNull Path path,
+      int capacity,
+      int bufferSize,
+      int flushBytes,
+      long flushIntervalMillis,
+      @NotNull OverflowPolicy overflowPolicy,
+      @NotNull Rotation rotation,
+      ThreadFactory threadFactory)
+      throws IOException {
+    if (capacity <= 0 || bufferSize <= 0 || flushBytes <= 0 || flushIntervalMillis <= 0) {
+      throw new IllegalArgumentException("capacity, sizes and interval must be positive");
+    }
+    this.path = path;
+    this.capacity = capacity;
+    this.flushBytes = Math.min(flushBytes, bufferSize);
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    this.rotation = Objects.requireNonNull(rotation);
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    this.out = new ByteBufferOutputStream();
+    this.channel = openChannel();
+    setFormatter(new JULJSONFormatter());
+
+    final Runnable task = this::runWriter;
+    this.writer =
+        threadFactory != null
+            ? threadFactory.newThread(task)
+            : new Thread(task, "echopraxia-async-file-handler");
+    if (threadFactory == null) {
+      writer.setDaemon(true);
+    }
+    writer.start();
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+    // JUL's source inference looks at the current stack, so it has to happen here.
+    if (!(record instanceof EchopraxiaLogRecord)
+        || !((EchopraxiaLogRecord) record).hasCallerFrame()) {
+      record.getSourceMethodName();
+    }
+
+    if (queueSize.incrementAndGet() > capacity) {
+      queueSize.decrementAndGet();
+      if (overflowPolicy == OverflowPolicy.DROP || !awaitRoom()) {
+        dropped.increment();
+        return;
+      }
+    }
+    queue.offer(record);
+    if (writerParked) {
+      LockSupport.unpark(writer);
+    }
+  }
+
+  private boolean awaitRoom() {
+    while (!closed) {
+      if (queueSize.incrementAndGet() <= capacity) {
+        return true;
+      }
+      queueSize.decrementAndGet();
+      LockSupport.unpark(writer);
+      LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(50));
+    }
+    return false;
+  }
+
+  /** Asks the writer thread to write pending records now. Does not wait for the write. */
+  @Override
+  public void flush() {
+    flushRequested = true;
+    LockSupport.unpark(writer);
+  }
+
+  /** Asks the writer thread to rotate the file before its next write. */
+  public void rotate() {
+    rotateRequested = true;
+    LockSupport.unpark(writer);
+  }
+
+  /** Writes all queued records and closes the file. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final long droppedCount = dropped.sum();
+    if (droppedCount > 0) {
+      reportError(
+          "Dropped " + droppedCount + " records because the queue was full",
+          null,
+          ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  /**
+   * @return the number of records dropped because the queue was full.
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * @return the file this handler appends to.
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  private void runWriter() {
+    long lastWrite = System.nanoTime();
+    while (true) {
+      LogRecord record;
+      while ((record = queue.poll()) != null) {
+        queueSize.decrementAndGet();
+        encode(record);
+        if (buffer.position() >= flushBytes) {
+          writeBuffer();
+          lastWrite = System.nanoTime();
+        }
+      }
+
+      final long now = System.nanoTime();
+      if (closed || flushRequested || rotateRequested || now - lastWrite >= flushIntervalNanos) {
+        flushRequested = false;
+        writeBuffer();
+        lastWrite = now;
+      }
+      if (closed && queue.isEmpty()) {
+        break;
+      }
+
+      writerParked = true;
+      if (queue.isEmpty() && !closed && !flushRequested && !rotateRequested) {
+        LockSupport.parkNanos(this, Math.max(1, flushIntervalNanos - (now - lastWrite)));
+      }
+      writerParked = false;
+    }
+    closeChannel();
+  }
+
+  private void encode(LogRecord record) {
+    final int start = buffer.position();
+    out.wroteThrough = false;
+    try {
+      final Formatter formatter = getFormatter();
+      if (formatter instanceof JULJSONFormatter) {
+        if (generator == null) {
+          generator = JULJSONFormatter.createGenerator(out);
+        }
+        ((JULJSONFormatter) formatter).writeRecord(record, generator);
+        generator.writeRaw(System.lineSeparator());
+        generator.flush();
+      } else {
+        out.write(formatter.format(record).getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (Exception e) {
+      // the generator may be in the middle of an object, so start over.
+      generator = null;
+      if (!out.wroteThrough) {
+        buffer.position(start);
+      }
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+    }
+  }
+
+  private void writeBuffer() {
+    try {
+      if (rotateRequested || rotation.shouldRotate(path, fileSize + buffer.position())) {
+        rotateRequested = false;
+        rotateFile();
+      }
+    } catch (RuntimeException e) {
+      reportError("Cannot rotate " + path, e, ErrorManager.GENERIC_FAILURE);
+    }
+    drainBuffer();
+  }
+
+  private void drainBuffer() {
+    if (buffer.position() == 0) {
+      return;
+    }
+    if (channel == null && !reopenChannel()) {
+      // drop the batch rather than keep it, so the buffer has room for the next records.
+      buffer.clear();
+      return;
+    }
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        fileSize += channel.write(buffer);
+      }
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  private void rotateFile() {
+    closeChannel();
+    fileSize = 0;
+    try {
+      if (Files.exists(path)) {
+        rotation.rotate(path);
+      }
+    } catch (IOException | RuntimeException e) {
+      reportError("Cannot rotate " + path, e, ErrorManager.GENERIC_FAILURE);
+    }
+    // the new file is opened by the next write.
+  }
+
+  /**
+   * Opens the file again after it was rotated, or after an earlier attempt failed.
+   *
+   * @return true if the file is open.
+   */
+  private boolean reopenChannel() {
+    try {
+      channel = openChannel();
+      return true;
+    } catch (IOException e) {
+      reportError(
+          "Cannot open " + path + ", dropping " + buffer.position() + " bytes",
+          e,
+          ErrorManager.OPEN_FAILURE);
+      return false;
+    }
+  }
+
+  private FileChannel openChannel() throws IOException {
+    final FileChannel fileChannel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    fileSize = fileChannel.size();
+    return fileChannel;
+  }
+
+  private void closeChannel() {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        reportError(null, e, ErrorManager.CLOSE_FAILURE);
+      }
+      channel = null;
+    }
+  }
+
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      // virtual threads need JDK 21, fall back to a platform thread.
+      return null;
+    }
+  }
+
+  /** Appends to the direct buffer, writing it out to the file when it fills up. */
+  private final class ByteBufferOutputStream extends OutputStream {
+    boolean wroteThrough;
+
+    @Override
+    public void write(int b) {
+      if (!buffer.hasRemaining()) {
+        wroteThrough = true;
+        drainBuffer();
+      }
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      while (len > 0) {
+        if (!buffer.hasRemaining()) {
+          wroteThrough = true;
+          drainBuffer();
+        }
+        final int n = Math.min(len, buffer.remaining());
+        buffer.put(b, off, n);
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public void flush() {
+      // batches are written by the writer thread, not on every record.
+    }
+  }
+
+  /** Reads handler properties from the {@code LogManager}. */
+  private static final class Config {
+    private final LogManager manager = LogManager.getLogManager();
+    private final String prefix;
+
+    Config(String prefix) {
+      this.prefix = prefix + ".";
+    }
+
+    String getString(String name, String defaultValue) {
+      final String value = manager.getProperty(prefix + name);
+      return value == null ? defaultValue : value.trim();
+    }
+
+    int getInt(String name, int defaultValue) {
+      return Integer.parseInt(getString(name, Integer.toString(defaultValue)));
+    }
+
+    long getLong(String name, long defaultValue) {
+      return Long.parseLong(getString(name, Long.toString(defaultValue)));
+    }
+
+    boolean getBoolean(String name, boolean defaultValue) {
+      return Boolean.parseBoolean(getString(name, Boolean.toString(defaultValue)));
+    }
+
+    void configure(AsyncFileHandler handler) {
+      final String level = manager.getProperty(prefix + "level");
+      if (level != null) {
+        handler.setLevel(Level.parse(level.trim()));
+      }
+      final String formatter = manager.getProperty(prefix + "formatter");
+      if (formatter != null) {
+        try {
+          handler.setFormatter(
+              (Formatter)
+                  ClassLoader.getSystemClassLoader()
+                      .loadClass(formatter.trim())
+                      .getDeclaredConstructor()
+                      .newInstance());
+        } catch (ReflectiveOperationException e) {
+          handler.reportError("Cannot create " + formatter, e, ErrorManager.GENERIC_FAILURE);
+        }
+      }
+    }
+  }
+}
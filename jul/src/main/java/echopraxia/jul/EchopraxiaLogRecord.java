@@ -5,16 +5,26 @@ import static java.lang.Boolean.parseBoolean;
 import echopraxia.api.Field;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import org.jetbrains.annotations.Nullable;
 
 public class EchopraxiaLogRecord extends LogRecord {
 
   // Disable infer source, true by default
-  private static final Boolean disableInferSource =
+  static final boolean disableInferSource =
       parseBoolean(
           System.getProperty("com.tersesystems.echopraxia.jul.disableInferSource", "true"));
 
+  // The caller is usually a handful of frames above the record, don't walk the whole stack.
+  private static final int MAX_CALLER_DEPTH = 32;
+
+  private static final StackWalker walker = StackWalker.getInstance();
+
   private Field[] loggerFields;
 
+  private String threadName;
+
+  private StackWalker.StackFrame callerFrame;
+
   public EchopraxiaLogRecord(
       String name,
       Level level,
@@ -22,11 +32,37 @@ public class EchopraxiaLogRecord extends LogRecord {
       Field[] parameters,
       Field[] loggerFields,
       Throwable thrown) {
+    this(name, level, msg, parameters, loggerFields, thrown, !disableInferSource, null);
+  }
+
+  /**
+   * Creates a record, capturing the caller's stack frame if {@code inferSource} is true.
+   *
+   * <p>The frame is found with a single bounded stack walk, and is only turned into a source class
+   * and method name when {@link #getSourceClassName()} or {@link #getSourceMethodName()} is called,
+   * which may be on another thread.
+   *
+   * @param inferSource true to infer the source class and method, false to leave them out.
+   * @param fqcn the fully qualified class name of the logger, the caller is the frame after it. If
+   *     null, JUL infers the source itself when it is asked for.
+   */
+  public EchopraxiaLogRecord(
+      String name,
+      Level level,
+      String msg,
+      Field[] parameters,
+      Field[] loggerFields,
+      Throwable thrown,
+      boolean inferSource,
+      @Nullable String fqcn) {
     super(level, msg);
     this.setLoggerName(name);
 
+    if (inferSource && fqcn != null) {
+      this.callerFrame = findCaller(fqcn);
+    }
     // JUL is really slow and calls sourceClassName lots when serializing.
-    if (disableInferSource) {
+    if (callerFrame == null && !(inferSource && fqcn == null)) {
       setSourceClassName(null);
       setSourceMethodName(null);
     }
@@ -34,6 +70,66 @@ public class EchopraxiaLogRecord extends LogRecord {
     this.setParameters(parameters);
     this.setLoggerFields(loggerFields);
     this.setThrown(thrown);
+
+    // JUL only keeps the thread id, which is expensive to turn back into a name.
+    this.threadName = Thread.currentThread().getName();
+  }
+
+  private static StackWalker.StackFrame findCaller(String fqcn) {
+    return walker.walk(
+        frames -> {
+          boolean inLogger = false;
+          for (StackWalker.StackFrame frame :
+              (Iterable<StackWalker.StackFrame>) frames.limit(MAX_CALLER_DEPTH)::iterator) {
+            if (fqcn.equals(frame.getClassName())) {
+              inLogger = true;
+            } else if (inLogger) {
+              return frame;
+            }
+          }
+          return null;
+        });
+  }
+
+  @Override
+  public String getSourceClassName() {
+    resolveCallerFrame();
+    return super.getSourceClassName();
+  }
+
+  @Override
+  public void setSourceClassName(String sourceClassName) {
+    callerFrame = null;
+    super.setSourceClassName(sourceClassName);
+  }
+
+  @Override
+  public String getSourceMethodName() {
+    resolveCallerFrame();
+    return super.getSourceMethodName();
+  }
+
+  @Override
+  public void setSourceMethodName(String sourceMethodName) {
+    callerFrame = null;
+    super.setSourceMethodName(sourceMethodName);
+  }
+
+  /**
+   * @return true if the caller was captured when the record was created, so the source can be
+   *     resolved later from any thread.
+   */
+  boolean hasCallerFrame() {
+    return callerFrame != null;
+  }
+
+  private void resolveCallerFrame() {
+    final StackWalker.StackFrame frame = callerFrame;
+    if (frame != null) {
+      callerFrame = null;
+      super.setSourceClassName(frame.getClassName());
+      super.setSourceMethodName(frame.getMethodName());
+    }
   }
 
   public void setLoggerFields(Field[] loggerFields) {
@@ -43,4 +139,15 @@ public class EchopraxiaLogRecord extends LogRecord {
   public Field[] getLoggerFields() {
     return loggerFields;
   }
+
+  public void setThreadName(String threadName) {
+    this.threadName = threadName;
+  }
+
+  /**
+   * @return the name of the thread that created this record.
+   */
+  public String getThreadName() {
+    return threadName;
+  }
 }
@@ -2,8 +2,12 @@ package echopraxia.jul;
 
 import echopraxia.api.*;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
+import echopraxia.logging.jfr.EventDispatched;
+import echopraxia.logging.jfr.FieldsBuilt;
+import echopraxia.logging.jfr.JfrEvents;
 import echopraxia.logging.spi.CoreLogger;
 import echopraxia.logging.spi.EchopraxiaService;
 import echopraxia.logging.spi.LoggerContext;
@@ -30,13 +34,20 @@ public class JULCoreLogger implements CoreLogger {
 
   private final Executor executor;
 
+  private final boolean inferSource;
+
   public JULCoreLogger(@NotNull String fqcn, @NotNull Logger logger) {
+    this(fqcn, logger, !EchopraxiaLogRecord.disableInferSource);
+  }
+
+  public JULCoreLogger(@NotNull String fqcn, @NotNull Logger logger, boolean inferSource) {
     this.fqcn = fqcn;
     this.logger = logger;
     this.context = JULLoggerContext.empty();
     this.condition = Condition.always();
     this.threadContextFunction = mdcContext();
     this.executor = ForkJoinPool.commonPool();
+    this.inferSource = inferSource;
   }
 
   protected JULCoreLogger(
@@ -46,12 +57,31 @@ public class JULCoreLogger implements CoreLogger {
       @NotNull Condition condition,
       @NotNull Supplier<Runnable> threadContextFunction,
       @NotNull Executor executor) {
+    this(
+        fqcn,
+        log4jLogger,
+        context,
+        condition,
+        threadContextFunction,
+        executor,
+        !EchopraxiaLogRecord.disableInferSource);
+  }
+
+  protected JULCoreLogger(
+      @NotNull String fqcn,
+      @NotNull Logger log4jLogger,
+      @NotNull JULLoggerContext context,
+      @NotNull Condition condition,
+      @NotNull Supplier<Runnable> threadContextFunction,
+      @NotNull Executor executor,
+      boolean inferSource) {
     this.fqcn = fqcn;
     this.logger = log4jLogger;
     this.context = context;
     this.condition = condition;
     this.threadContextFunction = threadContextFunction;
     this.executor = executor;
+    this.inferSource = inferSource;
   }
 
   @NotNull
@@ -84,7 +114,7 @@ public class JULCoreLogger implements CoreLogger {
   @Override
   public <FB> @NotNull JULCoreLogger withFields(
       @NotNull Function<FB, FieldBuilderResult> f, @NotNull FB builder) {
-    JULLoggerContext newContext = context.withFields(() -> convertToFields(f.apply(builder)));
+    JULLoggerContext newContext = context.withFields(() -> buildFields(f, builder));
     return newLogger(newContext);
   }
 
@@ -109,6 +139,11 @@ public class JULCoreLogger implements CoreLogger {
     return newLogger(joinedThreadContextFunction);
   }
 
+  @Override
+  public @NotNull Supplier<Runnable> threadLocal() {
+    return threadContextFunction;
+  }
+
   @Override
   public @NotNull JULCoreLogger withCondition(@NotNull Condition condition) {
     if (condition == Condition.always()) {
@@ -128,6 +163,30 @@ public class JULCoreLogger implements CoreLogger {
     return newLogger(fqcn);
   }
 
+  /**
+   * Returns a logger that does or does not fill in the source class and method of its records.
+   *
+   * <p>The caller's frame is captured with a short stack walk when the record is created, and only
+   * resolved if a formatter asks for the source.
+   *
+   * @param inferSource true to infer the source class and method.
+   * @return the core logger with source inference applied.
+   */
+  public @NotNull JULCoreLogger withInferSource(boolean inferSource) {
+    if (this.inferSource == inferSource) {
+      return this;
+    }
+    return new JULCoreLogger(
+        fqcn, logger, context, condition, threadContextFunction, executor, inferSource);
+  }
+
+  /**
+   * @return true if this logger infers the source class and method of its records.
+   */
+  public boolean isInferSource() {
+    return inferSource;
+  }
+
   @Override
   public boolean isEnabled(@NotNull Level level) {
     try {
@@ -139,7 +198,7 @@ public class JULCoreLogger implements CoreLogger {
       }
       if (logger.isLoggable(convertLevel(level))) {
         JULLoggingContext snapshotContext = new JULLoggingContext(this, context);
-        return condition.test(level, snapshotContext);
+        return JfrEvents.test(condition, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -160,7 +219,7 @@ public class JULCoreLogger implements CoreLogger {
       }
       if (logger.isLoggable(convertLevel(level))) {
         JULLoggingContext snapshotContext = new JULLoggingContext(this, context);
-        return bothConditions.test(level, snapshotContext);
+        return JfrEvents.test(bothConditions, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -175,7 +234,7 @@ public class JULCoreLogger implements CoreLogger {
       java.util.logging.Level julLevel = convertLevel(level);
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx = new JULLoggingContext(this, context.withFields(extraFields));
-        return condition.test(level, ctx);
+        return JfrEvents.test(condition, level, ctx);
       } else {
         return false;
       }
@@ -194,7 +253,7 @@ public class JULCoreLogger implements CoreLogger {
       final java.util.logging.Level julLevel = convertLevel(level);
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx = new JULLoggingContext(this, context.withFields(extraFields));
-        return this.condition.and(condition).test(level, ctx);
+        return JfrEvents.test(this.condition.and(condition), level, ctx);
       } else {
         return false;
       }
@@ -211,9 +270,11 @@ public class JULCoreLogger implements CoreLogger {
     try {
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx = new JULLoggingContext(this, context);
-        if (condition.test(level, ctx)) {
+        if (JfrEvents.test(condition, level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -229,9 +290,11 @@ public class JULCoreLogger implements CoreLogger {
       // the isLoggable check always goes before the condition check, as conditions can be expensive
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx = new JULLoggingContext(this, context.withFields(extraFields));
-        if (condition.test(level, ctx)) {
+        if (JfrEvents.test(condition, level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -248,11 +311,12 @@ public class JULCoreLogger implements CoreLogger {
     try {
       final java.util.logging.Level julLevel = convertLevel(level);
       if (logger.isLoggable(julLevel)) {
-        JULLoggingContext ctx =
-            new JULLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+        JULLoggingContext ctx = new JULLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -272,10 +336,12 @@ public class JULCoreLogger implements CoreLogger {
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx =
             new JULLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -290,9 +356,11 @@ public class JULCoreLogger implements CoreLogger {
       if (logger.isLoggable(julLevel)) {
         // We want to memoize context fields even if no argument...
         JULLoggingContext ctx = new JULLoggingContext(this, context);
-        if (this.condition.and(condition).test(level, ctx)) {
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -311,9 +379,11 @@ public class JULCoreLogger implements CoreLogger {
       if (logger.isLoggable(julLevel)) {
         // We want to memoize context fields even if no argument...
         JULLoggingContext ctx = new JULLoggingContext(this, context.withFields(extraFields));
-        if (this.condition.and(condition).test(level, ctx)) {
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -331,11 +401,12 @@ public class JULCoreLogger implements CoreLogger {
     try {
       final java.util.logging.Level julLevel = convertLevel(level);
       if (logger.isLoggable(julLevel)) {
-        JULLoggingContext ctx =
-            new JULLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, ctx)) {
+        JULLoggingContext ctx = new JULLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -356,10 +427,63 @@ public class JULCoreLogger implements CoreLogger {
       if (logger.isLoggable(julLevel)) {
         JULLoggingContext ctx =
             new JULLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, ctx)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final java.util.logging.Level julLevel = convertLevel(level);
+      if (logger.isLoggable(julLevel)) {
+        JULLoggingContext ctx =
+            new JULLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
+          LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final java.util.logging.Level julLevel = convertLevel(level);
+      if (logger.isLoggable(julLevel)) {
+        JULLoggingContext ctx =
+            new JULLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
+          LogRecord logRecord = createLogRecord(julLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -377,7 +501,9 @@ public class JULCoreLogger implements CoreLogger {
         try {
           JULLoggingContext ctx = new JULLoggingContext(JULCoreLogger.this, context);
           LogRecord logRecord = createLogRecord(log4jLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         } catch (Exception e) {
           handleException(e);
         }
@@ -387,10 +513,11 @@ public class JULCoreLogger implements CoreLogger {
       public void log(@Nullable String message, @NotNull Function<FB, FieldBuilderResult> f) {
         try {
           JULLoggingContext ctx =
-              new JULLoggingContext(
-                  JULCoreLogger.this, context, () -> convertToFields(f.apply(builder)));
+              new JULLoggingContext(JULCoreLogger.this, context, () -> buildFields(f, builder));
           LogRecord logRecord = createLogRecord(log4jLevel, message, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(logRecord);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         } catch (Exception e) {
           handleException(e);
         }
@@ -430,6 +557,21 @@ public class JULCoreLogger implements CoreLogger {
     };
   }
 
+  private <FB> List<Field> buildFields(Function<FB, FieldBuilderResult> f, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
+  private <FB, A, B> List<Field> buildFields(
+      FieldBuilderFunction2<FB, A, B> f, A a, B b, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder, a, b));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
   private List<Field> convertToFields(FieldBuilderResult result) {
     if (result == null) {
       handleException(new NullPointerException("Null result!"));
@@ -462,9 +604,8 @@ public class JULCoreLogger implements CoreLogger {
     Throwable thrown = null;
     for (Field f : argumentFields) {
       arguments[i++] = f;
-      if (f.value() instanceof Value.ExceptionValue) {
+      if (thrown == null && f.value() instanceof Value.ExceptionValue) {
         thrown = (Throwable) f.value().raw();
-        break;
       }
     }
 
@@ -474,29 +615,35 @@ public class JULCoreLogger implements CoreLogger {
     for (Field f : loggerFields) {
       fields[i++] = f;
     }
-    return new EchopraxiaLogRecord(getName(), julLevel, messageTemplate, arguments, fields, thrown);
+    return new EchopraxiaLogRecord(
+        getName(), julLevel, messageTemplate, arguments, fields, thrown, inferSource, fqcn);
   }
 
   @NotNull
   private JULCoreLogger newLogger(JULLoggerContext newContext) {
-    return new JULCoreLogger(fqcn, logger, newContext, condition, threadContextFunction, executor);
+    return new JULCoreLogger(
+        fqcn, logger, newContext, condition, threadContextFunction, executor, inferSource);
   }
 
   private JULCoreLogger newLogger(Supplier<Runnable> newThreadContextFunction) {
-    return new JULCoreLogger(fqcn, logger, context, condition, newThreadContextFunction, executor);
+    return new JULCoreLogger(
+        fqcn, logger, context, condition, newThreadContextFunction, executor, inferSource);
   }
 
   @NotNull
   private JULCoreLogger newLogger(@NotNull Condition condition) {
-    return new JULCoreLogger(fqcn, logger, context, condition, threadContextFunction, executor);
+    return new JULCoreLogger(
+        fqcn, logger, context, condition, threadContextFunction, executor, inferSource);
   }
 
   private JULCoreLogger newLogger(Executor executor) {
-    return new JULCoreLogger(fqcn, logger, context, condition, threadContextFunction, executor);
+    return new JULCoreLogger(
+        fqcn, logger, context, condition, threadContextFunction, executor, inferSource);
   }
 
   private JULCoreLogger newLogger(String fqcn) {
-    return new JULCoreLogger(fqcn, logger, context, condition, threadContextFunction, executor);
+    return new JULCoreLogger(
+        fqcn, logger, context, condition, threadContextFunction, executor, inferSource);
   }
 
   private Supplier<Runnable> mdcContext() {
@@ -505,7 +652,9 @@ public class JULCoreLogger implements CoreLogger {
       final Map<String, String> copyOfContextMap = MDC.getCopyOfContextMap();
       // function runs in executor thread (applying context to new thread)
       return () -> {
-        if (copyOfContextMap != null) {
+        if (copyOfContextMap == null || copyOfContextMap.isEmpty()) {
+          MDC.clear();
+        } else {
           MDC.setContextMap(copyOfContextMap);
         }
       };
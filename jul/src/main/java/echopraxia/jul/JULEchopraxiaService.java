@@ -2,6 +2,7 @@ package echopraxia.jul;
 
 import echopraxia.logging.spi.AbstractEchopraxiaService;
 import echopraxia.logging.spi.CoreLogger;
+import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import org.jetbrains.annotations.NotNull;
 
@@ -15,6 +16,11 @@ public class JULEchopraxiaService extends AbstractEchopraxiaService {
   @Override
   public @NotNull CoreLogger getCoreLogger(@NotNull String fqcn, @NotNull String name) {
     Logger logger = Logger.getLogger(name);
+    // i.e. "com.example.Foo.inferSource=true" in logging.properties, like "com.example.Foo.level".
+    final String inferSource = LogManager.getLogManager().getProperty(name + ".inferSource");
+    if (inferSource != null) {
+      return new JULCoreLogger(fqcn, logger, Boolean.parseBoolean(inferSource.trim()));
+    }
     return new JULCoreLogger(fqcn, logger);
   }
 }
@@ -1,10 +1,16 @@
 package echopraxia.jul;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import echopraxia.api.Field;
-import java.io.PrintWriter;
+import echopraxia.api.FieldConstants;
+import echopraxia.api.ThrowableRenderer;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
@@ -12,10 +18,11 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Formatter;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * Shamelessly inspired by <a
@@ -65,21 +72,29 @@ public class JULJSONFormatter extends Formatter {
     stack_trace
   }
 
+  private static final SerializedString TIMESTAMP = new SerializedString(KEY_TIMESTAMP);
+  private static final SerializedString LOGGER_NAME = new SerializedString(KEY_LOGGER_NAME);
+  private static final SerializedString LOG_LEVEL = new SerializedString(KEY_LOG_LEVEL);
+  private static final SerializedString THREAD_NAME = new SerializedString(KEY_THREAD_NAME);
+  private static final SerializedString LOGGER_CLASS = new SerializedString(KEY_LOGGER_CLASS);
+  private static final SerializedString LOGGER_METHOD = new SerializedString(KEY_LOGGER_METHOD);
+  private static final SerializedString MESSAGE = new SerializedString(KEY_MESSAGE);
+  private static final SerializedString EXCEPTION = new SerializedString(KEY_EXCEPTION);
+
   private static final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
 
-  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  // A generator per thread that is reused across records unless format is reentered, see format.
+  private static final ThreadLocal<StringEncoder> encoders =
+      ThreadLocal.withInitial(StringEncoder::new);
 
-  /** Cache of thread names */
-  private static final Map<Integer, String> THREAD_NAME_CACHE =
-      new LinkedHashMap<Integer, String>() {
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
 
-        private static final long serialVersionUID = 1L;
+  /** Cache of thread names, cleared when it grows past {@link #THREAD_NAME_CACHE_SIZE}. */
+  private static final ConcurrentMap<Integer, String> THREAD_NAME_CACHE = new ConcurrentHashMap<>();
 
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
-          return (size() > THREAD_NAME_CACHE_SIZE);
-        }
-      };
+  /** The last formatted timestamp, records logged in the same millisecond share it. */
+  private static volatile CachedTimestamp cachedTimestamp =
+      new CachedTimestamp(Long.MIN_VALUE, new SerializedString(""));
 
   private final boolean useSlf4jLevelNames;
 
@@ -97,48 +112,158 @@ public class JULJSONFormatter extends Formatter {
 
   @Override
   public String format(LogRecord record) {
-    Map<String, Object> object = new LinkedHashMap<>();
+    StringEncoder encoder = encoders.get();
+    final boolean pooled = !encoder.reserved;
+    if (pooled) {
+      encoder.reserved = true;
+    } else {
+      // a field value logged and formatted a record of its own while this one was being written.
+      encoder = new StringEncoder();
+    }
+    boolean completed = false;
     try {
-      object.put(
-          KEY_TIMESTAMP, TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(record.getMillis())));
-      object.put(KEY_LOGGER_NAME, record.getLoggerName());
-      object.put(KEY_LOG_LEVEL, getLogLevel(record));
-      object.put(KEY_THREAD_NAME, getThreadName(record.getThreadID()));
-
-      if (record.getSourceClassName() != null) {
-        object.put(KEY_LOGGER_CLASS, record.getSourceClassName());
+      writeRecord(record, encoder.generator);
+      encoder.generator.writeRaw(System.lineSeparator());
+      encoder.generator.flush();
+      final String json = encoder.getAndClear();
+      completed = true;
+      return json;
+    } catch (IOException e) {
+      return formatMessage(record) + System.lineSeparator();
+    } finally {
+      if (pooled) {
+        if (completed) {
+          encoder.reserved = false;
+        } else {
+          // the generator may be left in the middle of an object.
+          encoders.remove();
+        }
       }
+    }
+  }
 
-      if (record.getSourceMethodName() != null) {
-        object.put(KEY_LOGGER_METHOD, record.getSourceMethodName());
-      }
-      object.put(KEY_MESSAGE, formatMessage(record));
+  /**
+   * Writes the record as a JSON object, without a trailing line separator.
+   *
+   * @param record the log record.
+   * @param gen the generator to write to, which must have an object mapper as codec.
+   * @throws IOException if the generator cannot write.
+   */
+  void writeRecord(LogRecord record, JsonGenerator gen) throws IOException {
+    final Throwable thrown = record.getThrown();
+    final Field[] loggerFields;
+    final Field[] argumentFields;
+    if (record instanceof EchopraxiaLogRecord) {
+      loggerFields = ((EchopraxiaLogRecord) record).getLoggerFields();
+      argumentFields = (Field[]) record.getParameters();
+    } else {
+      loggerFields = null;
+      argumentFields = null;
+    }
 
-      final Throwable thrown = record.getThrown();
-      if (thrown != null) {
-        object.put(KEY_EXCEPTION, createExceptionInfo(thrown));
-      }
+    // a field with the same name as a key replaces it, and a later field replaces an earlier one.
+    gen.writeStartObject();
+    if (!hasField(KEY_TIMESTAMP, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(TIMESTAMP);
+      gen.writeString(formatTimestamp(record.getMillis()));
+    }
+    if (!hasField(KEY_LOGGER_NAME, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(LOGGER_NAME);
+      gen.writeString(record.getLoggerName());
+    }
+    if (!hasField(KEY_LOG_LEVEL, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(LOG_LEVEL);
+      gen.writeString(getLogLevel(record));
+    }
+    if (!hasField(KEY_THREAD_NAME, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(THREAD_NAME);
+      gen.writeString(getThreadName(record));
+    }
 
-      if (record instanceof EchopraxiaLogRecord) {
-        final EchopraxiaLogRecord er = (EchopraxiaLogRecord) record;
+    final String sourceClassName = record.getSourceClassName();
+    if (sourceClassName != null
+        && !hasField(KEY_LOGGER_CLASS, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(LOGGER_CLASS);
+      gen.writeString(sourceClassName);
+    }
 
-        // render the logger fields first
-        Field[] loggerFields = er.getLoggerFields();
-        for (Field field : loggerFields) {
-          object.put(field.name(), field.value());
-        }
+    final String sourceMethodName = record.getSourceMethodName();
+    if (sourceMethodName != null
+        && !hasField(KEY_LOGGER_METHOD, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(LOGGER_METHOD);
+      gen.writeString(sourceMethodName);
+    }
+
+    if (!hasField(KEY_MESSAGE, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(MESSAGE);
+      gen.writeString(formatMessage(record));
+    }
 
-        // render the argument fields after logger fields
-        final Field[] fields = (Field[]) record.getParameters();
-        for (Field field : fields) {
-          object.put(field.name(), field.value());
+    if (thrown != null && !hasField(KEY_EXCEPTION, loggerFields, argumentFields, thrown)) {
+      gen.writeFieldName(EXCEPTION);
+      writeExceptionInfo(thrown, gen);
+    }
+
+    // render the logger fields first, then the argument fields after logger fields
+    writeFields(loggerFields, argumentFields, thrown, gen);
+    writeFields(argumentFields, null, thrown, gen);
+    gen.writeEndObject();
+  }
+
+  /**
+   * Creates a UTF-8 generator for {@link #writeRecord(LogRecord, JsonGenerator)} that does not
+   * separate root values, so that it can be reused for many records.
+   *
+   * @param out the output stream.
+   * @return the generator.
+   * @throws IOException if the generator cannot be created.
+   */
+  static JsonGenerator createGenerator(OutputStream out) throws IOException {
+    final JsonGenerator generator = mapper.createGenerator(out, JsonEncoding.UTF8);
+    generator.setRootValueSeparator(null);
+    return generator;
+  }
+
+  private static void writeFields(
+      Field[] fields, Field[] laterFields, Throwable thrown, JsonGenerator gen)
+      throws IOException {
+    if (fields != null) {
+      for (int i = 0; i < fields.length; i++) {
+        final Field field = fields[i];
+        final String name = field.name();
+        if (isThrownField(field, thrown)
+            || indexOf(name, fields, i + 1, thrown) >= 0
+            || indexOf(name, laterFields, 0, thrown) >= 0) {
+          continue;
         }
+        gen.writeFieldName(name);
+        gen.writeObject(field.value());
       }
+    }
+  }
 
-      return mapper.writeValueAsString(object) + System.lineSeparator();
-    } catch (JsonProcessingException e) {
-      return object.toString();
+  private static boolean hasField(
+      String name, Field[] loggerFields, Field[] argumentFields, Throwable thrown) {
+    return indexOf(name, loggerFields, 0, thrown) >= 0
+        || indexOf(name, argumentFields, 0, thrown) >= 0;
+  }
+
+  // records have a handful of fields, so a scan is cheaper than building a set of names.
+  private static int indexOf(String name, Field[] fields, int from, Throwable thrown) {
+    if (fields != null) {
+      for (int i = from; i < fields.length; i++) {
+        final Field field = fields[i];
+        if (name.equals(field.name()) && !isThrownField(field, thrown)) {
+          return i;
+        }
+      }
     }
+    return -1;
+  }
+
+  // the exception field of the statement, which is already written under KEY_EXCEPTION.
+  private static boolean isThrownField(Field field, Throwable thrown) {
+    return thrown != null && KEY_EXCEPTION.equals(field.name()) && field.value().raw() == thrown;
   }
 
   private String getLogLevel(LogRecord record) {
@@ -147,21 +272,52 @@ public class JULJSONFormatter extends Formatter {
         : record.getLevel().getName();
   }
 
-  @NotNull
-  private static Map<ExceptionKeys, Object> createExceptionInfo(Throwable thrown) {
-    Map<ExceptionKeys, Object> exceptionInfo = new java.util.EnumMap<>(ExceptionKeys.class);
-    exceptionInfo.put(ExceptionKeys.exception_class, thrown.getClass().getName());
+  private static void writeExceptionInfo(Throwable thrown, JsonGenerator gen) throws IOException {
+    gen.writeStartObject();
+    gen.writeStringField(ExceptionKeys.exception_class.name(), thrown.getClass().getName());
 
     if (thrown.getMessage() != null) {
-      exceptionInfo.put(ExceptionKeys.exception_message, thrown.getMessage());
+      gen.writeStringField(ExceptionKeys.exception_message.name(), thrown.getMessage());
     }
 
-    StringWriter sw = new StringWriter();
-    PrintWriter pw = new PrintWriter(sw);
-    thrown.printStackTrace(pw);
-    pw.close();
-    exceptionInfo.put(ExceptionKeys.stack_trace, sw.toString());
-    return exceptionInfo;
+    // class and message are written above, the rest keeps the keys from FieldConstants.
+    final List<Field> rendered = ThrowableRenderer.defaultRenderer().render(thrown).raw();
+    for (int i = 0; i < rendered.size(); i++) {
+      final Field field = rendered.get(i);
+      final String name = field.name();
+      if (name.equals(FieldConstants.CLASS_NAME) || name.equals(FieldConstants.MESSAGE)) {
+        continue;
+      }
+      gen.writeFieldName(
+          name.equals(FieldConstants.STACK_TRACE) ? ExceptionKeys.stack_trace.name() : name);
+      gen.writeObject(field.value());
+    }
+    gen.writeEndObject();
+  }
+
+  private static SerializedString formatTimestamp(long millis) {
+    CachedTimestamp cached = cachedTimestamp;
+    if (cached.millis != millis) {
+      final String text = TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(millis));
+      cached = new CachedTimestamp(millis, new SerializedString(text));
+      cachedTimestamp = cached;
+    }
+    return cached.text;
+  }
+
+  private static String getThreadName(LogRecord record) {
+    if (record instanceof EchopraxiaLogRecord) {
+      final String threadName = ((EchopraxiaLogRecord) record).getThreadName();
+      if (threadName != null) {
+        return threadName;
+      }
+    }
+    final int threadId = record.getThreadID();
+    final Thread current = Thread.currentThread();
+    if (current.getId() == threadId) {
+      return current.getName();
+    }
+    return getThreadName(threadId);
   }
 
   /** Gets the thread name from the threadId present in the logRecord. */
@@ -182,10 +338,10 @@ public class JULJSONFormatter extends Formatter {
       result = threadInfo.getThreadName();
     }
 
-    synchronized (THREAD_NAME_CACHE) {
-      THREAD_NAME_CACHE.put(logRecordThreadId, result);
+    if (THREAD_NAME_CACHE.size() >= THREAD_NAME_CACHE_SIZE) {
+      THREAD_NAME_CACHE.clear();
     }
-
+    THREAD_NAME_CACHE.put(logRecordThreadId, result);
     return result;
   }
 
@@ -213,4 +369,44 @@ public class JULJSONFormatter extends Formatter {
         return logLevel;
     }
   }
+
+  private static final class CachedTimestamp {
+    final long millis;
+    final SerializedString text;
+
+    CachedTimestamp(long millis, SerializedString text) {
+      this.millis = millis;
+      this.text = text;
+    }
+  }
+
+  /** Writes records into a string, reusing the generator and its buffers. */
+  private static final class StringEncoder {
+    // larger buffers are let go after the record, rather than held by the thread.
+    private static final int MAX_RETAINED = 64 * 1024;
+
+    final StringWriter writer = new StringWriter();
+    final JsonGenerator generator;
+    boolean reserved;
+
+    StringEncoder() {
+      try {
+        generator = mapper.createGenerator(writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      // records are separated by line separators instead.
+      generator.setRootValueSeparator(null);
+    }
+
+    String getAndClear() {
+      final StringBuffer buffer = writer.getBuffer();
+      final String json = buffer.toString();
+      buffer.setLength(0);
+      if (buffer.capacity() > MAX_RETAINED) {
+        buffer.trimToSize();
+      }
+      return json;
+    }
+  }
 }
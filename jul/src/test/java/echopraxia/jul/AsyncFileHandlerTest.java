@@ -0,0 +1,134 @@
+package echopraxia.jul;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AsyncFileHandlerTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testWritesAllRecordsOnClose() throws IOException {
+    Path path = tempDir.resolve("application.log");
+    AsyncFileHandler handler =
+        new AsyncFileHandler(
+            path,
+            1024,
+            4096,
+            1024,
+            60_000,
+            AsyncFileHandler.OverflowPolicy.BLOCK,
+            AsyncFileHandler.Rotation.NONE,
+            null);
+    for (int i = 0; i < 500; i++) {
+      handler.publish(new LogRecord(Level.INFO, "message " + i));
+    }
+    handler.close();
+
+    List<String> lines = Files.readAllLines(path);
+    assertThat(lines).hasSize(500);
+    final ObjectMapper mapper = new ObjectMapper();
+    for (int i = 0; i < lines.size(); i++) {
+      JsonNode jsonNode = mapper.readTree(lines.get(i));
+      assertThat(jsonNode.get("level").asText()).isEqualTo("INFO");
+      assertThat(jsonNode.get("message").asText()).isEqualTo("message " + i);
+    }
+    assertThat(handler.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void testRotation() throws IOException {
+    Path path = tempDir.resolve("rotated.log");
+    AtomicInteger rotations = new AtomicInteger();
+    AsyncFileHandler.Rotation rotation =
+        new AsyncFileHandler.Rotation() {
+          @Override
+          public boolean shouldRotate(@NotNull Path path, long size) {
+            return size > 0;
+          }
+
+          @Override
+          public void rotate(@NotNull Path path) throws IOException {
+            rotations.incrementAndGet();
+            Files.move(path, path.resolveSibling("rotated.log." + rotations.get()));
+          }
+        };
+    AsyncFileHandler handler =
+        new AsyncFileHandler(
+            path, 1024, 4096, 1, 60_000, AsyncFileHandler.OverflowPolicy.BLOCK, rotation, null);
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.close();
+
+    assertThat(rotations.get()).isGreaterThanOrEqualTo(1);
+    try (Stream<Path> files = Files.list(tempDir)) {
+      List<Path> rotated =
+          files
+              .filter(p -> p.getFileName().toString().startsWith("rotated.log."))
+              .collect(Collectors.toList());
+      assertThat(rotated).hasSize(rotations.get());
+    }
+  }
+
+  @Test
+  void testReopenAfterFailedRotation() throws Exception {
+    Path path = tempDir.resolve("reopened.log");
+    AtomicInteger rotations = new AtomicInteger();
+    AsyncFileHandler.Rotation rotation =
+        new AsyncFileHandler.Rotation() {
+          @Override
+          public boolean shouldRotate(@NotNull Path path, long size) {
+            return rotations.get() == 0 && size > 0;
+          }
+
+          @Override
+          public void rotate(@NotNull Path path) throws IOException {
+            rotations.incrementAndGet();
+            Files.move(path, path.resolveSibling("reopened.log.1"));
+            // a directory in the way makes opening the new file fail.
+            Files.createDirectory(path);
+          }
+        };
+    AsyncFileHandler handler =
+        new AsyncFileHandler(
+            path, 1024, 4096, 1, 60_000, AsyncFileHandler.OverflowPolicy.BLOCK, rotation, null);
+    CountDownLatch openFailed = new CountDownLatch(1);
+    handler.setErrorManager(
+        new ErrorManager() {
+          @Override
+          public synchronized void error(String msg, Exception ex, int code) {
+            if (code == ErrorManager.OPEN_FAILURE) {
+              openFailed.countDown();
+            }
+          }
+        });
+
+    handler.publish(new LogRecord(Level.INFO, "dropped"));
+    assertThat(openFailed.await(10, TimeUnit.SECONDS)).isTrue();
+    Files.delete(path);
+    handler.publish(new LogRecord(Level.INFO, "written"));
+    handler.close();
+
+    List<String> lines = Files.readAllLines(path);
+    assertThat(lines).hasSize(1);
+    assertThat(new ObjectMapper().readTree(lines.get(0)).get("message").asText())
+        .isEqualTo("written");
+  }
+}
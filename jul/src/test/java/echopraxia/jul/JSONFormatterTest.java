@@ -5,7 +5,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilder;
+import echopraxia.api.Value;
+import echopraxia.logger.LoggerFactory;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 public class JSONFormatterTest extends TestBase {
@@ -70,7 +75,161 @@ public class JSONFormatterTest extends TestBase {
     final ObjectMapper mapper = new ObjectMapper();
     final JsonNode jsonNode = mapper.readTree(logRecord);
 
-    assertThat(jsonNode.get("exception").asText())
-        .isEqualTo("java.lang.IllegalStateException: oh noes");
+    final JsonNode exception = jsonNode.get("exception");
+    assertThat(exception.get("exception_class").asText())
+        .isEqualTo("java.lang.IllegalStateException");
+    assertThat(exception.get("exception_message").asText()).isEqualTo("oh noes");
+    assertThat(exception.get("stack_trace").isArray()).isTrue();
+    assertThat(exception.get("stack_trace").get(0).get("methodName").asText())
+        .isEqualTo("testException");
+  }
+
+  @Test
+  void testNamedExceptionField() throws JsonProcessingException {
+    var logger = getLogger();
+    Throwable expected = new IllegalStateException("oh noes");
+    logger.error("Error", fb -> fb.list(fb.exception(expected), fb.exception("cause", expected)));
+
+    List<String> list = EncodedListHandler.ndjson();
+    final JsonNode jsonNode = new ObjectMapper().readTree(list.get(0));
+
+    assertThat(jsonNode.get("exception").get("exception_class").asText())
+        .isEqualTo("java.lang.IllegalStateException");
+    // only the field written under the exception key is left out.
+    assertThat(jsonNode.has("cause")).isTrue();
+  }
+
+  @Test
+  void testDuplicateFieldNames() throws JsonProcessingException {
+    var logger = getLogger().withFields(fb -> fb.string("name", "logger"));
+    logger.info(
+        "hello",
+        fb -> fb.list(fb.string("name", "argument"), fb.string("message", "from field")));
+
+    List<String> list = EncodedListHandler.ndjson();
+    String logRecord = list.get(0);
+
+    // a later field replaces an earlier field or key of the same name, rather than repeating it.
+    assertThat(logRecord.split("\"name\"", -1)).hasSize(2);
+    assertThat(logRecord.split("\"message\"", -1)).hasSize(2);
+    final JsonNode jsonNode = new ObjectMapper().readTree(logRecord);
+    assertThat(jsonNode.get("name").asText()).isEqualTo("argument");
+    assertThat(jsonNode.get("message").asText()).isEqualTo("from field");
+  }
+
+  @Test
+  void testConsecutiveRecords() throws JsonProcessingException {
+    var logger = getLogger();
+    logger.info("first {0}", fb -> fb.string("name", "will"));
+    logger.info("second");
+
+    List<String> list = EncodedListHandler.ndjson();
+    assertThat(list.get(1)).startsWith("{").endsWith(System.lineSeparator());
+
+    final ObjectMapper mapper = new ObjectMapper();
+    assertThat(mapper.readTree(list.get(0)).get("name").asText()).isEqualTo("will");
+    final JsonNode second = mapper.readTree(list.get(1));
+    assertThat(second.get("message").asText()).isEqualTo("second");
+    assertThat(second.has("name")).isFalse();
+  }
+
+  @Test
+  void testThreadName() throws Exception {
+    var logger = getLogger();
+    Thread thread = new Thread(() -> logger.info("from worker"), "echopraxia-worker");
+    thread.start();
+    thread.join();
+    logger.info("from test");
+
+    List<String> list = EncodedListHandler.ndjson();
+    final ObjectMapper mapper = new ObjectMapper();
+    assertThat(mapper.readTree(list.get(0)).get("thread_name").asText())
+        .isEqualTo("echopraxia-worker");
+    assertThat(mapper.readTree(list.get(1)).get("thread_name").asText())
+        .isEqualTo(Thread.currentThread().getName());
+  }
+
+  @Test
+  void testInferSource() throws JsonProcessingException {
+    var logger =
+        LoggerFactory.getLogger(getCoreLogger().withInferSource(true), FieldBuilder.instance());
+    logger.info("hello");
+
+    List<String> list = EncodedListHandler.ndjson();
+    final JsonNode jsonNode = new ObjectMapper().readTree(list.get(0));
+    assertThat(jsonNode.get(JULJSONFormatter.KEY_LOGGER_CLASS).asText())
+        .isEqualTo(JSONFormatterTest.class.getName());
+    assertThat(jsonNode.get(JULJSONFormatter.KEY_LOGGER_METHOD).asText())
+        .isEqualTo("testInferSource");
+  }
+
+  @Test
+  void testInferSourceTurnedOff() throws JsonProcessingException {
+    var core = getCoreLogger().withInferSource(true).withInferSource(false);
+    var logger = LoggerFactory.getLogger(core, FieldBuilder.instance());
+    logger.info("hello");
+
+    List<String> list = EncodedListHandler.ndjson();
+    final JsonNode jsonNode = new ObjectMapper().readTree(list.get(0));
+    assertThat(jsonNode.has(JULJSONFormatter.KEY_LOGGER_CLASS)).isFalse();
+    assertThat(jsonNode.has(JULJSONFormatter.KEY_LOGGER_METHOD)).isFalse();
+  }
+
+  @Test
+  void testRecordWithoutInferSource() {
+    // does not depend on the global disableInferSource property.
+    var record =
+        new EchopraxiaLogRecord(
+            "name",
+            java.util.logging.Level.INFO,
+            "hello",
+            new Field[0],
+            new Field[0],
+            null,
+            false,
+            JSONFormatterTest.class.getName());
+    assertThat(record.getSourceClassName()).isNull();
+    assertThat(record.getSourceMethodName()).isNull();
+  }
+
+  @Test
+  void testReentrantFormat() throws JsonProcessingException {
+    var formatter = new JULJSONFormatter(true);
+    var inner = new AtomicReference<String>();
+    Field nested =
+        Field.keyValue(
+            "nested",
+            Value.lazy(
+                () -> {
+                  inner.set(formatter.format(record("inner", new Field[0])));
+                  return Value.string("value");
+                }));
+
+    String outer = formatter.format(record("outer", new Field[] {nested}));
+
+    final ObjectMapper mapper = new ObjectMapper();
+    assertThat(mapper.readTree(inner.get()).get("message").asText()).isEqualTo("inner");
+    final JsonNode jsonNode = mapper.readTree(outer);
+    assertThat(jsonNode.get("message").asText()).isEqualTo("outer");
+    assertThat(jsonNode.get("nested").asText()).isEqualTo("value");
+
+    // the pooled generator is released once the outer record is done.
+    String next = formatter.format(record("next", new Field[0]));
+    assertThat(mapper.readTree(next).get("message").asText()).isEqualTo("next");
+  }
+
+  private static EchopraxiaLogRecord record(String message, Field[] fields) {
+    return new EchopraxiaLogRecord(
+        "name", java.util.logging.Level.INFO, message, fields, new Field[0], null, false, null);
+  }
+
+  @Test
+  void testNoInferSource() throws JsonProcessingException {
+    var logger = getLogger();
+    logger.info("hello");
+
+    List<String> list = EncodedListHandler.ndjson();
+    final JsonNode jsonNode = new ObjectMapper().readTree(list.get(0));
+    assertThat(jsonNode.has(JULJSONFormatter.KEY_LOGGER_CLASS)).isFalse();
   }
 }
@@ -0,0 +1,49 @@
+package echopraxia.log4j;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of the Log4J backend behind {@code AsyncLoggerContextSelector}, rendering JSON to
+ * {@code /dev/null}. Formatting and field resolution happen on the disruptor thread, so this
+ * measures how fast producers can hand off statements once the ring buffer is saturated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.async.AsyncLoggerContextSelector",
+      "-Dlog4j2.configurationFile=log4j2-async.xml"
+    })
+public class AsyncLoggerBenchmarks {
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> contextLogger =
+      logger.withFields(fb -> fb.string("context_name", "context_value"));
+
+  @Benchmark
+  @Threads(8)
+  public void info8() {
+    logger.info("Message");
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void infoWithFields8() {
+    contextLogger.info(
+        "Message {} {}", fb -> fb.list(fb.string("name", "value"), fb.number("age", 13)));
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void infoWithFields16() {
+    contextLogger.info(
+        "Message {} {}", fb -> fb.list(fb.string("name", "value"), fb.number("age", 13)));
+  }
+}
@@ -0,0 +1,91 @@
+package echopraxia.log4j;
+
+import static java.util.Collections.emptyList;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilder;
+import echopraxia.api.Value;
+import echopraxia.log4j.layout.EchopraxiaFieldsMessage;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares allocation per event for messages. Run with {@code -prof gc} to see {@code
+ * gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmarks {
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Field field = Field.keyValue("name", Value.string("value"));
+
+  private static final List<Field> fields = Arrays.asList(field, field, field, field);
+
+  private static final Object[] parameters = fields.toArray();
+
+  private final StringBuilder buffer = new StringBuilder(256);
+
+  @Benchmark
+  public void newMessage(Blackhole blackhole) {
+    final EchopraxiaFieldsMessage message =
+        new EchopraxiaFieldsMessage("message {} {} {} {}", emptyList(), fields);
+    buffer.setLength(0);
+    message.formatTo(buffer);
+    blackhole.consume(buffer);
+  }
+
+  @Benchmark
+  public void obtainMessage(Blackhole blackhole) {
+    final EchopraxiaFieldsMessage message =
+        EchopraxiaFieldsMessage.obtain("message {} {} {} {}", emptyList(), fields);
+    buffer.setLength(0);
+    message.formatTo(buffer);
+    blackhole.consume(buffer);
+    EchopraxiaFieldsMessage.release(message);
+  }
+
+  @Benchmark
+  public void escapedMessage(Blackhole blackhole) {
+    final EchopraxiaFieldsMessage message =
+        EchopraxiaFieldsMessage.obtain("message \\{} {} {} {} {}", emptyList(), fields);
+    buffer.setLength(0);
+    message.formatTo(buffer);
+    blackhole.consume(buffer);
+    EchopraxiaFieldsMessage.release(message);
+  }
+
+  @Benchmark
+  public void parameterizedMessage(Blackhole blackhole) {
+    // scans the template on every call, for comparison with the cached MessageTemplate.
+    blackhole.consume(ParameterizedMessage.format("message {} {} {} {}", parameters));
+  }
+
+  @Benchmark
+  public void getFormattedMessage(Blackhole blackhole) {
+    final EchopraxiaFieldsMessage message =
+        EchopraxiaFieldsMessage.obtain("message {} {} {} {}", emptyList(), fields);
+    blackhole.consume(message.getFormattedMessage());
+    EchopraxiaFieldsMessage.release(message);
+  }
+
+  @Benchmark
+  public void info() {
+    logger.info("message");
+  }
+
+  @Benchmark
+  public void infoWithFields() {
+    logger.info("message {} {}", fb -> fb.list(fb.string("name", "value"), fb.number("age", 13)));
+  }
+}
@@ -0,0 +1,58 @@
+package echopraxia.log4j;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.ThreadContext;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ThreadContextBenchmarks {
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> threadContextLogger = logger.withThreadContext();
+
+  private int counter;
+
+  @Setup
+  public void setUp() {
+    // A typical request sets up the thread context once at the start.
+    for (int i = 0; i < 8; i++) {
+      ThreadContext.put("mdckey" + i, "mdcvalue" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    ThreadContext.clearMap();
+  }
+
+  @Benchmark
+  public void withThreadContextInfo() {
+    logger.withThreadContext().info("Message");
+  }
+
+  @Benchmark
+  public void threadContextLoggerInfo() {
+    threadContextLogger.info("Message");
+  }
+
+  @Benchmark
+  public void threadContextLoggerInfoWithChangingThreadContext() {
+    // worst case, the thread context changes between every statement.
+    ThreadContext.put("counter", Integer.toString(counter++ & 0xff));
+    threadContextLogger.info("Message");
+  }
+
+  @Benchmark
+  public void withThreadContextTrace() {
+    // should never log
+    logger.withThreadContext().trace("Message");
+  }
+}
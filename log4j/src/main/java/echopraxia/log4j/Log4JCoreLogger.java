@@ -5,8 +5,12 @@ import static echopraxia.logging.spi.Utilities.joinFields;
 import echopraxia.api.*;
 import echopraxia.log4j.layout.EchopraxiaFieldsMessage;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
+import echopraxia.logging.jfr.EventDispatched;
+import echopraxia.logging.jfr.FieldsBuilt;
+import echopraxia.logging.jfr.JfrEvents;
 import echopraxia.logging.spi.CoreLogger;
 import echopraxia.logging.spi.EchopraxiaService;
 import echopraxia.logging.spi.LoggerContext;
@@ -28,6 +32,14 @@ import org.jetbrains.annotations.Nullable;
 /** A core logger using the Log4J API. */
 public class Log4JCoreLogger implements CoreLogger {
 
+  private static final ClassValue<Boolean> ASYNC_CLASSES =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          return type.getName().startsWith("org.apache.logging.log4j.core.async.");
+        }
+      };
+
   private final ExtendedLogger logger;
   private final Context context;
   private final Condition condition;
@@ -90,7 +102,7 @@ public class Log4JCoreLogger implements CoreLogger {
   @Override
   public <FB> @NotNull Log4JCoreLogger withFields(
       @NotNull Function<FB, FieldBuilderResult> f, @NotNull FB builder) {
-    Context newContext = context.withFields(() -> convertToFields(f.apply(builder)));
+    Context newContext = context.withFields(() -> buildFields(f, builder));
     return newLogger(newContext);
   }
 
@@ -105,10 +117,11 @@ public class Log4JCoreLogger implements CoreLogger {
   public @NotNull CoreLogger withThreadLocal(Supplier<Runnable> newSupplier) {
     Supplier<Runnable> supplier =
         () -> {
+          // capture on the calling thread, apply on the executor thread
+          final Runnable r1 = newSupplier.get();
+          final Runnable r2 = threadContextFunction.get();
           return () -> {
             try {
-              final Runnable r1 = newSupplier.get();
-              final Runnable r2 = threadContextFunction.get();
               r1.run();
               r2.run();
             } catch (Exception e) {
@@ -119,6 +132,11 @@ public class Log4JCoreLogger implements CoreLogger {
     return newLogger(supplier);
   }
 
+  @Override
+  public @NotNull Supplier<Runnable> threadLocal() {
+    return threadContextFunction;
+  }
+
   @Override
   public @NotNull Log4JCoreLogger withCondition(@NotNull Condition condition) {
     if (condition == Condition.always()) {
@@ -154,7 +172,7 @@ public class Log4JCoreLogger implements CoreLogger {
       }
       if (logger.isEnabled(convertLevel(level), context.getMarker())) {
         Log4JLoggingContext snapshotContext = new Log4JLoggingContext(this, context);
-        return condition.test(level, snapshotContext);
+        return JfrEvents.test(condition, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -175,7 +193,7 @@ public class Log4JCoreLogger implements CoreLogger {
       }
       if (logger.isEnabled(convertLevel(level), context.getMarker())) {
         Log4JLoggingContext snapshotContext = new Log4JLoggingContext(this, context);
-        return bothConditions.test(level, snapshotContext);
+        return JfrEvents.test(bothConditions, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -191,7 +209,7 @@ public class Log4JCoreLogger implements CoreLogger {
       final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context.withFields(extraFields));
-        return condition.test(level, ctx);
+        return JfrEvents.test(condition, level, ctx);
       } else {
         return false;
       }
@@ -211,7 +229,7 @@ public class Log4JCoreLogger implements CoreLogger {
       final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context.withFields(extraFields));
-        return this.condition.and(condition).test(level, ctx);
+        return JfrEvents.test(this.condition.and(condition), level, ctx);
       } else {
         return false;
       }
@@ -229,9 +247,15 @@ public class Log4JCoreLogger implements CoreLogger {
       // the isEnabled check always goes before the condition check, as conditions can be expensive
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context);
-        if (condition.test(level, ctx)) {
+        if (JfrEvents.test(condition, level, ctx)) {
           final Message m = createMessage(message, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          } finally {
+            EchopraxiaFieldsMessage.release(m);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -248,9 +272,15 @@ public class Log4JCoreLogger implements CoreLogger {
       // the isEnabled check always goes before the condition check, as conditions can be expensive
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context.withFields(extraFields));
-        if (condition.test(level, ctx)) {
+        if (JfrEvents.test(condition, level, ctx)) {
           final Message m = createMessage(message, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          } finally {
+            EchopraxiaFieldsMessage.release(m);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -271,11 +301,17 @@ public class Log4JCoreLogger implements CoreLogger {
       final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx =
-            new Log4JLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+            new Log4JLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           final Throwable e = findThrowable(ctx.getArgumentFields());
           final Message message = createMessage(messageTemplate, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -296,11 +332,48 @@ public class Log4JCoreLogger implements CoreLogger {
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx =
             new Log4JLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           final Throwable e = findThrowable(ctx.getArgumentFields());
           final Message message = createMessage(messageTemplate, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String messageTemplate,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final Marker marker = context.getMarker();
+      final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
+      if (logger.isEnabled(log4jLevel, marker)) {
+        Log4JLoggingContext ctx =
+            new Log4JLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
+          final Throwable e = findThrowable(ctx.getArgumentFields());
+          final Message message = createMessage(messageTemplate, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -308,6 +381,53 @@ public class Log4JCoreLogger implements CoreLogger {
     }
   }
 
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String messageTemplate,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final Marker marker = context.getMarker();
+      final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
+      if (logger.isEnabled(log4jLevel, marker)) {
+        Log4JLoggingContext ctx =
+            new Log4JLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
+          final Throwable e = findThrowable(ctx.getArgumentFields());
+          final Message message = createMessage(messageTemplate, ctx);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  private <FB> List<Field> buildFields(Function<FB, FieldBuilderResult> f, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
+  private <FB, A, B> List<Field> buildFields(
+      FieldBuilderFunction2<FB, A, B> f, A a, B b, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder, a, b));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
   private List<Field> convertToFields(FieldBuilderResult result) {
     return result.fields();
   }
@@ -320,9 +440,15 @@ public class Log4JCoreLogger implements CoreLogger {
       if (logger.isEnabled(log4jLevel, marker)) {
         // We want to memoize context fields even if no argument...
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context);
-        if (this.condition.and(condition).test(level, ctx)) {
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           final Message m = createMessage(message, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          } finally {
+            EchopraxiaFieldsMessage.release(m);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -342,9 +468,15 @@ public class Log4JCoreLogger implements CoreLogger {
       if (logger.isEnabled(log4jLevel, marker)) {
         // We want to memoize context fields even if no argument...
         Log4JLoggingContext ctx = new Log4JLoggingContext(this, context.withFields(extraFields));
-        if (this.condition.and(condition).test(level, ctx)) {
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           final Message m = createMessage(message, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, m, null);
+          } finally {
+            EchopraxiaFieldsMessage.release(m);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -364,11 +496,17 @@ public class Log4JCoreLogger implements CoreLogger {
       final org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx =
-            new Log4JLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, ctx)) {
+            new Log4JLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           final Throwable e = findThrowable(ctx.getArgumentFields());
           final Message message = createMessage(messageTemplate, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -390,11 +528,17 @@ public class Log4JCoreLogger implements CoreLogger {
       if (logger.isEnabled(log4jLevel, marker)) {
         Log4JLoggingContext ctx =
             new Log4JLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, ctx)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
           final Throwable e = findThrowable(ctx.getArgumentFields());
           final Message message = createMessage(messageTemplate, ctx);
-          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          try {
+            logger.logMessage(fqcn, log4jLevel, marker, message, e);
+          } finally {
+            EchopraxiaFieldsMessage.release(message);
+          }
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -413,18 +557,29 @@ public class Log4JCoreLogger implements CoreLogger {
         Log4JLoggingContext ctx = new Log4JLoggingContext(Log4JCoreLogger.this, context);
         final Throwable e = findThrowable(ctx.getArgumentFields());
         final Message message = createMessage(messageTemplate, ctx);
-        logger.logMessage(fqcn, log4jLevel, marker, message, e);
+        final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+        try {
+          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+        } finally {
+          EchopraxiaFieldsMessage.release(message);
+        }
+        JfrEvents.commitDispatch(dispatchEvent, getName(), level);
       }
 
       @Override
       public void log(
           @Nullable String messageTemplate, @NotNull Function<FB, FieldBuilderResult> f) {
         Log4JLoggingContext ctx =
-            new Log4JLoggingContext(
-                Log4JCoreLogger.this, context, () -> convertToFields(f.apply(builder)));
+            new Log4JLoggingContext(Log4JCoreLogger.this, context, () -> buildFields(f, builder));
         final Throwable e = findThrowable(ctx.getArgumentFields());
         final Message message = createMessage(messageTemplate, ctx);
-        logger.logMessage(fqcn, log4jLevel, marker, message, e);
+        final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+        try {
+          logger.logMessage(fqcn, log4jLevel, marker, message, e);
+        } finally {
+          EchopraxiaFieldsMessage.release(message);
+        }
+        JfrEvents.commitDispatch(dispatchEvent, getName(), level);
       }
     };
   }
@@ -443,9 +598,15 @@ public class Log4JCoreLogger implements CoreLogger {
           org.apache.logging.log4j.Level log4jLevel = convertLevel(level);
           if (logger.isEnabled(log4jLevel, marker)) {
             Log4JLoggingContext ctx = new Log4JLoggingContext(Log4JCoreLogger.this, extraContext);
-            if (c.test(level, ctx)) {
+            if (JfrEvents.test(c, level, ctx)) {
               final Message message = createMessage(messageTemplate, ctx);
-              logger.logMessage(log4jLevel, marker, fqcn, location, message, null);
+              final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+              try {
+                logger.logMessage(log4jLevel, marker, fqcn, location, message, null);
+              } finally {
+                EchopraxiaFieldsMessage.release(message);
+              }
+              JfrEvents.commitDispatch(dispatchEvent, getName(), level);
             }
           }
         } catch (Exception e) {
@@ -462,11 +623,17 @@ public class Log4JCoreLogger implements CoreLogger {
           if (logger.isEnabled(log4jLevel, marker)) {
             Log4JLoggingContext ctx =
                 new Log4JLoggingContext(
-                    Log4JCoreLogger.this, extraContext, () -> convertToFields(f.apply(builder)));
-            if (c.test(level, ctx)) {
+                    Log4JCoreLogger.this, extraContext, () -> buildFields(f, builder));
+            if (JfrEvents.test(c, level, ctx)) {
               final Throwable e = findThrowable(ctx.getArgumentFields());
               final Message message = createMessage(messageTemplate, ctx);
-              logger.logMessage(log4jLevel, marker, fqcn, location, message, e);
+              final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+              try {
+                logger.logMessage(log4jLevel, marker, fqcn, location, message, e);
+              } finally {
+                EchopraxiaFieldsMessage.release(message);
+              }
+              JfrEvents.commitDispatch(dispatchEvent, getName(), level);
             }
           }
         } catch (Exception e) {
@@ -476,21 +643,40 @@ public class Log4JCoreLogger implements CoreLogger {
     };
   }
 
+  /**
+   * Creates the message for a statement. All field suppliers, including the logger's context fields
+   * and the field builder function, have been evaluated on the calling thread by this point, as
+   * conditions and thread context need them there.
+   *
+   * <p>When the statement is handed to an async logger, the message is an immutable snapshot, and
+   * formatting the template and resolving the fields to JSON happen on the async thread. Values and
+   * structured format visitors must be safe to read from that thread. Otherwise the message is
+   * formatted on the calling thread, reusing a message per thread where Log4J allows it.
+   *
+   * @param template the message template.
+   * @param ctx the logging context.
+   * @return the message.
+   */
   protected Message createMessage(String template, Log4JLoggingContext ctx) {
-    List<Field> loggerFields = ctx.getLoggerFields();
-    List<Field> input = new ArrayList<>(loggerFields.size());
-    for (Field loggerField : loggerFields) {
-      Field f = loggerField;
-      input.add(f);
+    final List<Field> loggerFields = ctx.getLoggerFields();
+    final List<Field> argumentFields = ctx.getArgumentFields();
+    if (isAsync()) {
+      return EchopraxiaFieldsMessage.snapshot(template, loggerFields, argumentFields);
     }
+    return EchopraxiaFieldsMessage.obtain(template, loggerFields, argumentFields);
+  }
 
-    List<Field> argumentFields = ctx.getArgumentFields();
-    List<Field> args = new ArrayList<>(argumentFields.size());
-    for (Field argumentField : argumentFields) {
-      Field f = argumentField;
-      args.add(f);
+  protected boolean isAsync() {
+    // Async loggers and async logger configs both live in the async package, which needs the
+    // disruptor on the classpath, so check by name rather than loading the classes.
+    if (logger instanceof org.apache.logging.log4j.core.Logger) {
+      final org.apache.logging.log4j.core.Logger coreLogger =
+          (org.apache.logging.log4j.core.Logger) logger;
+      return ASYNC_CLASSES.get(coreLogger.getClass())
+          || ASYNC_CLASSES.get(coreLogger.get().getClass());
+    } else {
+      return false;
     }
-    return new EchopraxiaFieldsMessage(template, input, args);
   }
 
   protected org.apache.logging.log4j.Level convertLevel(Level level) {
@@ -525,6 +711,12 @@ public class Log4JCoreLogger implements CoreLogger {
       final Map<String, String> copyOfContextMap = ThreadContext.getImmutableContext();
       final ThreadContext.ContextStack contextStack = ThreadContext.getImmutableStack();
       return () -> {
+        // copy-on-write thread context hands out the same immutable map until it changes
+        final Map<String, String> currentMap = ThreadContext.getImmutableContext();
+        if ((copyOfContextMap == currentMap || Objects.equals(copyOfContextMap, currentMap))
+            && Objects.equals(contextStack, ThreadContext.getImmutableStack())) {
+          return;
+        }
         ThreadContext.clearAll();
         if (copyOfContextMap != null) {
           ThreadContext.putAll(copyOfContextMap);
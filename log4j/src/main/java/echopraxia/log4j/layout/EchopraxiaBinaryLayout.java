@@ -0,0 +1,99 @@
+package echopraxia.log4j.layout;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import echopraxia.api.FieldConstants;
+import echopraxia.api.ThrowableRenderer;
+import echopraxia.jackson.BinaryFormat;
+import echopraxia.jackson.BinaryFrameEncoder;
+import java.io.IOException;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.AbstractLayout;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * A layout that writes each log event as a binary Smile or CBOR document, with the echopraxia
+ * fields of the event as properties.
+ *
+ * <p>Frames are length prefixed by default, see {@link BinaryFrameEncoder#readFrame}. This layout
+ * needs {@code echopraxia:jackson} and the matching {@code jackson-dataformat-smile} or {@code
+ * jackson-dataformat-cbor} jar on the classpath.
+ *
+ * <pre>{@code
+ * <EchopraxiaBinaryLayout format="smile" lengthPrefixed="true"/>
+ * }</pre>
+ */
+@Plugin(
+    name = "EchopraxiaBinaryLayout",
+    category = Node.CATEGORY,
+    elementType = Layout.ELEMENT_TYPE,
+    printObject = true)
+public final class EchopraxiaBinaryLayout extends AbstractLayout<byte[]> {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final BinaryFrameEncoder encoder;
+  private final BinaryFrameEncoder.EventWriter<LogEvent> eventWriter = this::writeEvent;
+
+  private EchopraxiaBinaryLayout(Configuration configuration, BinaryFrameEncoder encoder) {
+    super(configuration, null, null);
+    this.encoder = encoder;
+  }
+
+  @PluginFactory
+  public static EchopraxiaBinaryLayout createLayout(
+      @PluginConfiguration final Configuration configuration,
+      @PluginAttribute(value = "format", defaultString = "smile") final String format,
+      @PluginAttribute(value = "lengthPrefixed", defaultBoolean = true)
+          final boolean lengthPrefixed) {
+    final BinaryFormat binaryFormat = BinaryFormat.fromName(format);
+    return new EchopraxiaBinaryLayout(
+        configuration, new BinaryFrameEncoder(binaryFormat, lengthPrefixed));
+  }
+
+  @Override
+  public byte[] toByteArray(LogEvent event) {
+    try {
+      return encoder.encode(event, eventWriter);
+    } catch (IOException e) {
+      StatusLogger.getLogger().error("Cannot encode event", e);
+      return EMPTY;
+    }
+  }
+
+  @Override
+  public byte[] toSerializable(LogEvent event) {
+    return toByteArray(event);
+  }
+
+  @Override
+  public String getContentType() {
+    return encoder.format().contentType();
+  }
+
+  private void writeEvent(LogEvent event, JsonGenerator generator) throws IOException {
+    generator.writeNumberField("@timestamp", event.getTimeMillis());
+    generator.writeStringField("level", event.getLevel().name());
+    generator.writeStringField("logger_name", event.getLoggerName());
+    generator.writeStringField("thread_name", event.getThreadName());
+    generator.writeStringField("message", event.getMessage().getFormattedMessage());
+
+    final EchopraxiaFieldsMessage message = EchopraxiaFieldsMessage.fromMessage(event.getMessage());
+    if (message != null) {
+      encoder.writeFields(message.getArgumentFields(), generator);
+      encoder.writeFields(message.getLoggerFields(), generator);
+    }
+
+    final Throwable thrown = event.getThrown();
+    if (thrown != null) {
+      generator.writeFieldName(FieldConstants.EXCEPTION);
+      encoder.writeValue(ThrowableRenderer.defaultRenderer().render(thrown), generator);
+    }
+  }
+}
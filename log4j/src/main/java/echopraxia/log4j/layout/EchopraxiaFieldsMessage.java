@@ -1,31 +1,167 @@
 package echopraxia.log4j.layout;
 
+import static java.util.Collections.emptyList;
+
 import echopraxia.api.Field;
+import echopraxia.logging.api.MessageTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
 import org.apache.logging.log4j.message.Message;
-import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.util.Constants;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Create the simplest possible message for Log4J.
+ *
+ * <p>The message is formatted lazily, straight into the buffer that Log4J hands to {@link
+ * #formatTo(StringBuilder)}, from a {@link MessageTemplate} that is parsed once per template. When
+ * Log4J has thread locals enabled, {@link #obtain(String, List, List)} recycles one {@link
+ * ReusableMessage} per thread: Log4J copies the text into its own reusable event and takes the
+ * fields with {@code swapParameters}, so the message can be released once {@code logMessage}
+ * returns.
+ *
+ * <p>Otherwise the message is {@link AsynchronouslyFormattable}: async loggers pass it to the
+ * background thread as is, and the template is only formatted there. Use {@link #snapshot(String,
+ * List, List)} when the field lists may change after logging.
+ */
+@AsynchronouslyFormattable
+public class EchopraxiaFieldsMessage implements Message, StringBuilderFormattable {
+
+  private static final ThreadLocal<Reusable> pool =
+      Constants.ENABLE_THREADLOCALS ? ThreadLocal.withInitial(Reusable::new) : null;
+
+  // Marks the parameters swapped into a reusable log event, see fromMessage.
+  private static final Object FIELDS_MARKER =
+      new Object() {
+        @Override
+        public String toString() {
+          return "echopraxiaFields";
+        }
+      };
 
-/** Create the simplest possible message for Log4J. */
-public class EchopraxiaFieldsMessage implements Message {
+  private static final short PARAMETER_COUNT = 3;
 
-  private final String format;
-  private final List<Field> argumentFields;
-  private final List<Field> loggerFields;
-  private final String formattedMessage;
+  String format;
+  List<Field> argumentFields;
+  List<Field> loggerFields;
 
   public EchopraxiaFieldsMessage(
       String format, List<Field> loggerFields, List<Field> argumentFields) {
     this.format = format;
     this.argumentFields = argumentFields;
     this.loggerFields = loggerFields;
-    this.formattedMessage = ParameterizedMessage.format(getFormat(), getParameters());
+  }
+
+  /**
+   * Returns a message for the given fields, reusing this thread's message if thread locals are
+   * enabled and it is not already in use. The message should be passed to {@link #release(Message)}
+   * after logging.
+   *
+   * @param format the message template.
+   * @param loggerFields the logger fields.
+   * @param argumentFields the argument fields.
+   * @return a message.
+   */
+  public static EchopraxiaFieldsMessage obtain(
+      String format, List<Field> loggerFields, List<Field> argumentFields) {
+    if (pool != null) {
+      final Reusable message = pool.get();
+      // a field rendering its own log statement would otherwise clobber the outer message.
+      if (!message.reserved) {
+        message.reserved = true;
+        message.format = format;
+        message.loggerFields = loggerFields;
+        message.argumentFields = argumentFields;
+        return message;
+      }
+    }
+    return new EchopraxiaFieldsMessage(format, loggerFields, argumentFields);
+  }
+
+  /**
+   * Returns an immutable message that is safe to hand to another thread: the field lists are
+   * copied, and nothing is formatted until the message is rendered.
+   *
+   * @param format the message template.
+   * @param loggerFields the logger fields.
+   * @param argumentFields the argument fields.
+   * @return a message.
+   */
+  public static EchopraxiaFieldsMessage snapshot(
+      String format, List<Field> loggerFields, List<Field> argumentFields) {
+    return new EchopraxiaFieldsMessage(format, copyOf(loggerFields), copyOf(argumentFields));
+  }
+
+  private static List<Field> copyOf(List<Field> fields) {
+    return fields.isEmpty() ? emptyList() : Arrays.asList(fields.toArray(new Field[0]));
+  }
+
+  /**
+   * Releases a message returned from {@link #obtain(String, List, List)} so it can be reused. Does
+   * nothing for any other message.
+   *
+   * @param message the message.
+   */
+  public static void release(Message message) {
+    if (message instanceof Reusable) {
+      final Reusable m = (Reusable) message;
+      if (m.reserved) {
+        m.format = null;
+        m.loggerFields = emptyList();
+        m.argumentFields = emptyList();
+        m.reserved = false;
+      }
+    }
+  }
+
+  /**
+   * Finds the echopraxia message of a log event. Reusable log events and their mementos do not keep
+   * the message itself, so the fields are recovered from the swapped parameters.
+   *
+   * @param message the message of the log event.
+   * @return the echopraxia message, or null if this is not one.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  static EchopraxiaFieldsMessage fromMessage(Message message) {
+    if (message instanceof EchopraxiaFieldsMessage) {
+      return (EchopraxiaFieldsMessage) message;
+    }
+    if (message == null
+        || (message instanceof ReusableMessage
+            && ((ReusableMessage) message).getParameterCount() != PARAMETER_COUNT)) {
+      return null;
+    }
+    final Object[] parameters = message.getParameters();
+    if (parameters != null
+        && parameters.length == PARAMETER_COUNT
+        && parameters[0] == FIELDS_MARKER) {
+      return new EchopraxiaFieldsMessage(
+          message.getFormat(), (List<Field>) parameters[2], (List<Field>) parameters[1]);
+    }
+    return null;
   }
 
   @Override
   public String getFormattedMessage() {
-    return formattedMessage;
+    final StringBuilder buffer = new StringBuilder(64 + argumentFields.size() * 16);
+    formatTo(buffer);
+    return buffer.toString();
+  }
+
+  @Override
+  public void formatTo(StringBuilder buffer) {
+    final String format = this.format;
+    if (format == null) {
+      // same as ParameterizedMessage
+      buffer.append((String) null);
+      return;
+    }
+    MessageTemplate.of(format).formatTo(buffer, argumentFields);
   }
 
   @Override
@@ -47,8 +183,10 @@ public class EchopraxiaFieldsMessage implements Message {
   }
 
   public List<Field> getFields() {
-    return Stream.concat(argumentFields.stream(), loggerFields.stream())
-        .collect(Collectors.toList());
+    final List<Field> fields = new ArrayList<>(argumentFields.size() + loggerFields.size());
+    fields.addAll(argumentFields);
+    fields.addAll(loggerFields);
+    return fields;
   }
 
   // It looks like nothing actually uses message.getThrowable() internally
@@ -56,4 +194,39 @@ public class EchopraxiaFieldsMessage implements Message {
   public Throwable getThrowable() {
     return null;
   }
+
+  /**
+   * The pooled message. Log4J's reusable events only keep what they copy out of a {@link
+   * ReusableMessage}, which they can only do when thread locals are enabled.
+   */
+  static final class Reusable extends EchopraxiaFieldsMessage implements ReusableMessage {
+    private boolean reserved;
+
+    Reusable() {
+      super(null, emptyList(), emptyList());
+    }
+
+    @Override
+    public Object[] swapParameters(Object[] emptyReplacement) {
+      final Object[] parameters =
+          emptyReplacement != null && emptyReplacement.length >= PARAMETER_COUNT
+              ? emptyReplacement
+              : new Object[PARAMETER_COUNT];
+      // the field lists are never mutated, so the event can hold on to them after release.
+      parameters[0] = FIELDS_MARKER;
+      parameters[1] = argumentFields;
+      parameters[2] = loggerFields;
+      return parameters;
+    }
+
+    @Override
+    public short getParameterCount() {
+      return PARAMETER_COUNT;
+    }
+
+    @Override
+    public Message memento() {
+      return new EchopraxiaFieldsMessage(format, loggerFields, argumentFields);
+    }
+  }
 }
@@ -0,0 +1,161 @@
+package echopraxia.log4j.layout;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldVisitor;
+import echopraxia.api.PresentationHintAttributes;
+import echopraxia.api.ThrowableRenderer;
+import echopraxia.api.Value;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import org.apache.logging.log4j.layout.template.json.util.JsonWriter;
+
+/**
+ * Writes fields and values straight into Log4J's {@link JsonWriter}, following the same rules as
+ * the Jackson {@code FieldSerializer} and {@code ValueSerializer}: structured format visitors are
+ * applied to fields, and top level exception fields are left out, as the backend renders them.
+ */
+final class FieldJsonWriter {
+
+  private FieldJsonWriter() {}
+
+  static void writeObject(List<Field> fields, JsonWriter jsonWriter) {
+    writeObject(fields, jsonWriter, true);
+  }
+
+  private static void writeObject(
+      List<Field> fields, JsonWriter jsonWriter, boolean skipExceptions) {
+    jsonWriter.writeObjectStart();
+    boolean first = true;
+    for (int i = 0; i < fields.size(); i++) {
+      final Field field = structuredField(fields.get(i));
+      // top level exceptions are rendered by the backend, nested ones are written as objects.
+      if (skipExceptions
+          && field.value().type() == Value.Type.EXCEPTION
+          && field.value().raw() != null) {
+        continue;
+      }
+      if (first) {
+        first = false;
+      } else {
+        jsonWriter.writeSeparator();
+      }
+      jsonWriter.writeObjectKey(field.name());
+      writeValue(field.value(), jsonWriter);
+    }
+    jsonWriter.writeObjectEnd();
+  }
+
+  static void writeValue(Value<?> input, JsonWriter jsonWriter) {
+    // lazy values are computed here, when they are written.
+    final Value<?> value = input == null ? null : input.resolve();
+    // short circuit if a null value's been passed in, so we can keep logging.
+    if (value == null || value.raw() == null) {
+      jsonWriter.writeNull();
+      return;
+    }
+    switch (value.type()) {
+      case ARRAY:
+        final Object primitives = ((Value.ArrayValue) value).primitiveArray();
+        if (primitives != null) {
+          writePrimitiveArray(primitives, jsonWriter);
+          break;
+        }
+        final List<Value<?>> values = ((Value.ArrayValue) value).raw();
+        jsonWriter.writeArrayStart();
+        for (int i = 0; i < values.size(); i++) {
+          if (i > 0) {
+            jsonWriter.writeSeparator();
+          }
+          writeValue(values.get(i), jsonWriter);
+        }
+        jsonWriter.writeArrayEnd();
+        break;
+      case OBJECT:
+        writeObject(((Value.ObjectValue) value).raw(), jsonWriter, false);
+        break;
+      case STRING:
+        jsonWriter.writeString(((Value.StringValue) value).raw());
+        break;
+      case NUMBER:
+        writeNumber(((Value.NumberValue<?>) value).raw(), jsonWriter);
+        break;
+      case BOOLEAN:
+        jsonWriter.writeBoolean(((Value.BooleanValue) value).raw());
+        break;
+      case EXCEPTION:
+        // the same shape as the Jackson, JUL and binary layouts.
+        final Throwable throwable = ((Value.ExceptionValue) value).raw();
+        writeObject(ThrowableRenderer.defaultRenderer().render(throwable).raw(), jsonWriter, false);
+        break;
+      case NULL:
+        jsonWriter.writeNull();
+        break;
+    }
+  }
+
+  private static void writeNumber(Number n, JsonWriter jsonWriter) {
+    if (n instanceof Integer) {
+      jsonWriter.writeNumber(n.intValue());
+    } else if (n instanceof Long) {
+      jsonWriter.writeNumber(n.longValue());
+    } else if (n instanceof Double) {
+      jsonWriter.writeNumber(n.doubleValue());
+    } else if (n instanceof Float) {
+      jsonWriter.writeNumber(n.floatValue());
+    } else if (n instanceof Short || n instanceof Byte) {
+      jsonWriter.writeNumber(n.shortValue());
+    } else if (n instanceof BigInteger) {
+      jsonWriter.writeNumber((BigInteger) n);
+    } else if (n instanceof BigDecimal) {
+      jsonWriter.writeNumber((BigDecimal) n);
+    } else {
+      jsonWriter.writeNumber(n.doubleValue());
+    }
+  }
+
+  // writes an array from Value.array(int[]) etc. without creating a value per element.
+  private static void writePrimitiveArray(Object array, JsonWriter jsonWriter) {
+    jsonWriter.writeArrayStart();
+    if (array instanceof int[]) {
+      final int[] ints = (int[]) array;
+      for (int i = 0; i < ints.length; i++) {
+        if (i > 0) {
+          jsonWriter.writeSeparator();
+        }
+        jsonWriter.writeNumber(ints[i]);
+      }
+    } else if (array instanceof long[]) {
+      final long[] longs = (long[]) array;
+      for (int i = 0; i < longs.length; i++) {
+        if (i > 0) {
+          jsonWriter.writeSeparator();
+        }
+        jsonWriter.writeNumber(longs[i]);
+      }
+    } else if (array instanceof double[]) {
+      final double[] doubles = (double[]) array;
+      for (int i = 0; i < doubles.length; i++) {
+        if (i > 0) {
+          jsonWriter.writeSeparator();
+        }
+        jsonWriter.writeNumber(doubles[i]);
+      }
+    } else {
+      final boolean[] booleans = (boolean[]) array;
+      for (int i = 0; i < booleans.length; i++) {
+        if (i > 0) {
+          jsonWriter.writeSeparator();
+        }
+        jsonWriter.writeBoolean(booleans[i]);
+      }
+    }
+    jsonWriter.writeArrayEnd();
+  }
+
+  private static Field structuredField(Field field) {
+    final FieldVisitor visitor =
+        field.attributes().get(PresentationHintAttributes.STRUCTURED_FORMAT);
+    return visitor == null ? field : visitor.visit(field);
+  }
+}
@@ -3,9 +3,12 @@ package echopraxia.log4j;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import echopraxia.api.DefaultField;
 import echopraxia.api.Field;
+import echopraxia.api.SimpleFieldVisitor;
 import echopraxia.api.Value;
 import echopraxia.logger.LoggerFactory;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 public class Log4JLoggerTest extends TestBase {
@@ -214,6 +217,38 @@ public class Log4JLoggerTest extends TestBase {
 
     final JsonNode ex = entry.get("thrown");
     assertThat(ex).isNotNull();
+    // the top level exception is rendered as thrown, not as a field.
+    assertThat(entry.path("fields").has("exception")).isFalse();
+  }
+
+  @Test
+  public void testLoggerWithNestedThrowableField() {
+    var logger = LoggerFactory.getLogger(getClass());
+    Exception exception = new RuntimeException("Some exception");
+    logger.error("Message {}", fb -> fb.object("wrapper", fb.exception(exception)));
+
+    JsonNode entry = getEntry();
+    final JsonNode ex = entry.path("fields").path("wrapper").path("exception");
+    assertThat(ex.path("className").asText()).isEqualTo("java.lang.RuntimeException");
+    assertThat(ex.path("message").asText()).isEqualTo("Some exception");
+    assertThat(ex.path("stackTrace").get(0).path("methodName").asText())
+        .isEqualTo("testLoggerWithNestedThrowableField");
+  }
+
+  @Test
+  public void testLoggerWithNestedNamedThrowableField() {
+    var logger = LoggerFactory.getLogger(getClass());
+    Exception cause = new IllegalStateException("Some cause");
+    logger.error(
+        "Message {}",
+        fb -> fb.object("request", fb.string("id", "1234"), fb.exception("failure", cause)));
+
+    JsonNode entry = getEntry();
+    final JsonNode request = entry.path("fields").path("request");
+    assertThat(request.path("id").asText()).isEqualTo("1234");
+    final JsonNode failure = request.path("failure");
+    assertThat(failure.path("className").asText()).isEqualTo("java.lang.IllegalStateException");
+    assertThat(failure.path("message").asText()).isEqualTo("Some cause");
   }
 
   @Test
@@ -246,4 +281,25 @@ public class Log4JLoggerTest extends TestBase {
     assertThat(fields.path("arg_name").asText()).isEqualTo("arg_field");
     assertThat(fields.path("context_name").asText()).isEqualTo("context_field");
   }
+
+  @Test
+  public void testStructuredFormat() {
+    var logger = LoggerFactory.getLogger(getClass());
+    DefaultField cookie =
+        Field.keyValue("cookie", Value.string("fortune"), DefaultField.class)
+            .withStructuredFormat(
+                new SimpleFieldVisitor() {
+                  @Override
+                  public @NotNull Field visitString(@NotNull Value<String> stringValue) {
+                    return super.visitString(Value.string(stringValue.raw() + " in bed"));
+                  }
+                });
+    logger.info(
+        "Message {}", fb -> fb.list(fb.object("restaurant", cookie), fb.number("rating", 4.5f)));
+
+    JsonNode entry = getEntry();
+    final JsonNode fields = entry.path("fields");
+    assertThat(fields.path("restaurant").path("cookie").asText()).isEqualTo("fortune in bed");
+    assertThat(fields.path("rating").asDouble()).isEqualTo(4.5);
+  }
 }
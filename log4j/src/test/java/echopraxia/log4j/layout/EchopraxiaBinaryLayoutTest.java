@@ -0,0 +1,54 @@
+package echopraxia.log4j.layout;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import echopraxia.jackson.BinaryFormat;
+import echopraxia.jackson.BinaryFrameEncoder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.junit.jupiter.api.Test;
+
+public class EchopraxiaBinaryLayoutTest {
+
+  private final Field name = Field.keyValue("name", Value.string("value"));
+  private final Field age = Field.keyValue("age", Value.number(13));
+
+  @Test
+  void testSmileLayout() throws IOException {
+    assertLayout("smile", "application/x-jackson-smile");
+  }
+
+  @Test
+  void testCborLayout() throws IOException {
+    assertLayout("cbor", "application/cbor");
+  }
+
+  private void assertLayout(String format, String contentType) throws IOException {
+    EchopraxiaBinaryLayout layout = EchopraxiaBinaryLayout.createLayout(null, format, true);
+    assertThat(layout.getContentType()).isEqualTo(contentType);
+
+    LogEvent event =
+        Log4jLogEvent.newBuilder()
+            .setLoggerName("binary")
+            .setLevel(Level.INFO)
+            .setMessage(
+                new EchopraxiaFieldsMessage("hello {}", singletonList(age), singletonList(name)))
+            .build();
+
+    byte[] bytes = layout.toByteArray(event);
+    byte[] frame = BinaryFrameEncoder.readFrame(new ByteArrayInputStream(bytes));
+    BinaryFrameEncoder frameEncoder = new BinaryFrameEncoder(BinaryFormat.fromName(format), true);
+    Value<?> value = frameEncoder.mapper().readValue(frame, Value.class);
+    List<Field> fields = ((Value.ObjectValue) value).raw();
+    assertThat(fields).extracting(Field::name).contains("message", "level", "name", "age");
+    assertThat(fields.stream().filter(f -> f.name().equals("message")).findFirst())
+        .hasValueSatisfying(f -> assertThat(f.value().raw()).isEqualTo("hello name=value"));
+  }
+}
@@ -0,0 +1,87 @@
+package echopraxia.log4j.layout;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.junit.jupiter.api.Test;
+
+public class EchopraxiaFieldsMessageTest {
+
+  private final Field name = Field.keyValue("name", Value.string("value"));
+  private final Field age = Field.keyValue("age", Value.number(13));
+
+  @Test
+  void testFormatTo() {
+    EchopraxiaFieldsMessage message =
+        new EchopraxiaFieldsMessage("{} and {} and {}", emptyList(), Arrays.asList(name, age));
+    StringBuilder builder = new StringBuilder("prefix ");
+    message.formatTo(builder);
+    assertThat(builder.toString()).isEqualTo("prefix name=value and age=13 and {}");
+  }
+
+  @Test
+  void testObtainReusesReleasedMessage() {
+    EchopraxiaFieldsMessage first =
+        EchopraxiaFieldsMessage.obtain("first", emptyList(), emptyList());
+    EchopraxiaFieldsMessage nested =
+        EchopraxiaFieldsMessage.obtain("nested", emptyList(), emptyList());
+    assertThat(nested).isNotSameAs(first);
+    assertThat(first.getFormattedMessage()).isEqualTo("first");
+
+    EchopraxiaFieldsMessage.release(nested);
+    EchopraxiaFieldsMessage.release(first);
+    EchopraxiaFieldsMessage second =
+        EchopraxiaFieldsMessage.obtain("second", emptyList(), emptyList());
+    assertThat(second).isSameAs(first);
+    EchopraxiaFieldsMessage.release(second);
+  }
+
+  @Test
+  void testFieldsSurviveReusableEvent() {
+    EchopraxiaFieldsMessage message =
+        EchopraxiaFieldsMessage.obtain("hello {}", singletonList(age), singletonList(name));
+    MutableLogEvent event = new MutableLogEvent();
+    event.setMessage(message);
+    EchopraxiaFieldsMessage.release(message);
+
+    EchopraxiaFieldsMessage found = EchopraxiaFieldsMessage.fromMessage(event.getMessage());
+    assertThat(event.getMessage().getFormattedMessage()).isEqualTo("hello name=value");
+    assertThat(found).isNotNull();
+    assertThat(found.getArgumentFields()).containsExactly(name);
+    assertThat(found.getLoggerFields()).containsExactly(age);
+  }
+
+  @Test
+  void testFieldsSurviveMemento() {
+    EchopraxiaFieldsMessage message =
+        EchopraxiaFieldsMessage.obtain("hello {}", emptyList(), singletonList(name));
+    MutableLogEvent event = new MutableLogEvent();
+    event.setMessage(message);
+    EchopraxiaFieldsMessage.release(message);
+    Message memento = event.memento();
+    event.clear();
+
+    EchopraxiaFieldsMessage found = EchopraxiaFieldsMessage.fromMessage(memento);
+    assertThat(found).isNotNull();
+    assertThat(found.getArgumentFields()).containsExactly(name);
+  }
+
+  @Test
+  void testSnapshotCopiesFields() {
+    List<Field> args = new ArrayList<>(singletonList(name));
+    EchopraxiaFieldsMessage snapshot =
+        EchopraxiaFieldsMessage.snapshot("hello {}", emptyList(), args);
+    args.set(0, age);
+
+    assertThat(snapshot.getArgumentFields()).containsExactly(name);
+    assertThat(snapshot.getFormattedMessage()).isEqualTo("hello name=value");
+  }
+}
@@ -7,10 +7,11 @@ import static echopraxia.logging.api.Level.*;
 import echopraxia.api.Field;
 import echopraxia.api.FieldBuilderResult;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
+import echopraxia.logging.api.MessageTemplate;
 import echopraxia.logging.spi.DefaultMethodsSupport;
-import java.util.Arrays;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -39,13 +40,25 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
     return core().isEnabled(TRACE, condition);
   }
 
+  /**
+   * Starts a statement at TRACE level with fields added one at a time.
+   *
+   * @return a builder reused by this thread, or a shared builder that does nothing if TRACE is not
+   *     enabled.
+   */
+  default @NotNull EventBuilder atTrace() {
+    return core().isEnabled(TRACE)
+        ? PooledEventBuilder.acquire(core(), TRACE, fieldBuilder())
+        : NoopEventBuilder.INSTANCE;
+  }
+
   /**
    * Logs statement at TRACE level.
    *
    * @param fields field parameters.
    */
   default void trace(Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(TRACE, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -95,7 +108,7 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
    * @param fields field parameters.
    */
   default void trace(@NotNull Condition condition, Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(TRACE, condition, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -151,6 +164,76 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
             fieldBuilder());
   }
 
+  /**
+   * Logs statement at TRACE level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when TRACE is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void trace(
+      @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+    core().log(TRACE, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Logs statement at TRACE level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void trace(
+      @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+    core().log(TRACE, message, f, a, b, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at TRACE level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void trace(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg) {
+    core().log(TRACE, condition, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at TRACE level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void trace(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b) {
+    core().log(TRACE, condition, message, f, a, b, fieldBuilder());
+  }
+
   // ------------------------------------------------------------------------
   // DEBUG
 
@@ -169,8 +252,20 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
     return core().isEnabled(DEBUG, condition);
   }
 
+  /**
+   * Starts a statement at DEBUG level with fields added one at a time.
+   *
+   * @return a builder reused by this thread, or a shared builder that does nothing if DEBUG is not
+   *     enabled.
+   */
+  default @NotNull EventBuilder atDebug() {
+    return core().isEnabled(DEBUG)
+        ? PooledEventBuilder.acquire(core(), DEBUG, fieldBuilder())
+        : NoopEventBuilder.INSTANCE;
+  }
+
   default void debug(Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(DEBUG, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -220,7 +315,7 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
    * @param fields field parameters.
    */
   default void debug(@NotNull Condition condition, Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(DEBUG, condition, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -262,6 +357,76 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
             fieldBuilder());
   }
 
+  /**
+   * Logs statement at DEBUG level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when DEBUG is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void debug(
+      @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+    core().log(DEBUG, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Logs statement at DEBUG level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void debug(
+      @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+    core().log(DEBUG, message, f, a, b, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at DEBUG level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void debug(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg) {
+    core().log(DEBUG, condition, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at DEBUG level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void debug(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b) {
+    core().log(DEBUG, condition, message, f, a, b, fieldBuilder());
+  }
+
   /**
    * Conditionally logs statement at DEBUG level using a field builder function.
    *
@@ -294,8 +459,20 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
     return core().isEnabled(INFO, condition);
   }
 
+  /**
+   * Starts a statement at INFO level with fields added one at a time.
+   *
+   * @return a builder reused by this thread, or a shared builder that does nothing if INFO is not
+   *     enabled.
+   */
+  default @NotNull EventBuilder atInfo() {
+    return core().isEnabled(INFO)
+        ? PooledEventBuilder.acquire(core(), INFO, fieldBuilder())
+        : NoopEventBuilder.INSTANCE;
+  }
+
   default void info(Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(INFO, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -345,7 +522,7 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
    * @param fields field parameters.
    */
   default void info(@NotNull Condition condition, Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(INFO, condition, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -401,6 +578,76 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
             fieldBuilder());
   }
 
+  /**
+   * Logs statement at INFO level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when INFO is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void info(
+      @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+    core().log(INFO, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Logs statement at INFO level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void info(
+      @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+    core().log(INFO, message, f, a, b, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at INFO level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void info(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg) {
+    core().log(INFO, condition, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at INFO level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void info(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b) {
+    core().log(INFO, condition, message, f, a, b, fieldBuilder());
+  }
+
   // ------------------------------------------------------------------------
   // WARN
 
@@ -419,8 +666,20 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
     return core().isEnabled(WARN, condition);
   }
 
+  /**
+   * Starts a statement at WARN level with fields added one at a time.
+   *
+   * @return a builder reused by this thread, or a shared builder that does nothing if WARN is not
+   *     enabled.
+   */
+  default @NotNull EventBuilder atWarn() {
+    return core().isEnabled(WARN)
+        ? PooledEventBuilder.acquire(core(), WARN, fieldBuilder())
+        : NoopEventBuilder.INSTANCE;
+  }
+
   default void warn(Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(WARN, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -470,7 +729,7 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
    * @param fields field parameters.
    */
   default void warn(@NotNull Condition condition, Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(WARN, condition, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -512,6 +771,76 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
             fieldBuilder());
   }
 
+  /**
+   * Logs statement at WARN level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when WARN is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void warn(
+      @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+    core().log(WARN, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Logs statement at WARN level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void warn(
+      @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+    core().log(WARN, message, f, a, b, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at WARN level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void warn(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg) {
+    core().log(WARN, condition, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at WARN level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void warn(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b) {
+    core().log(WARN, condition, message, f, a, b, fieldBuilder());
+  }
+
   /**
    * Conditionally logs statement at INFO level using a field builder function.
    *
@@ -544,13 +873,25 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
     return core().isEnabled(ERROR, condition);
   }
 
+  /**
+   * Starts a statement at ERROR level with fields added one at a time.
+   *
+   * @return a builder reused by this thread, or a shared builder that does nothing if ERROR is not
+   *     enabled.
+   */
+  default @NotNull EventBuilder atError() {
+    return core().isEnabled(ERROR)
+        ? PooledEventBuilder.acquire(core(), ERROR, fieldBuilder())
+        : NoopEventBuilder.INSTANCE;
+  }
+
   /**
    * Logs statement at ERROR level.
    *
    * @param fields field parameters.
    */
   default void error(Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(ERROR, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -600,7 +941,7 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
    * @param fields field parameters.
    */
   default void error(@NotNull Condition condition, Field... fields) {
-    String message = Arrays.stream(fields).map(f -> "{}").collect(Collectors.joining(" "));
+    String message = MessageTemplate.forArity(fields.length).template();
     core().log(ERROR, condition, message, fb -> FieldBuilderResult.list(fields), fieldBuilder());
   }
 
@@ -655,4 +996,74 @@ public interface DefaultLoggerMethods<FB> extends LoggerMethods<FB>, DefaultMeth
             fb -> (Field.keyValue(EXCEPTION, exception(e))),
             fieldBuilder());
   }
+
+  /**
+   * Logs statement at ERROR level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when ERROR is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void error(
+      @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+    core().log(ERROR, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Logs statement at ERROR level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void error(
+      @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+    core().log(ERROR, message, f, a, b, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at ERROR level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  default <A> void error(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg) {
+    core().log(ERROR, condition, message, (fb, fn, a) -> fn.apply(fb, a), f, arg, fieldBuilder());
+  }
+
+  /**
+   * Conditionally logs statement at ERROR level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <A, B> void error(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b) {
+    core().log(ERROR, condition, message, f, a, b, fieldBuilder());
+  }
 }
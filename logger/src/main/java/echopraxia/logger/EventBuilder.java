@@ -0,0 +1,109 @@
+package echopraxia.logger;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A fluent builder for a single log statement with several fields, returned by {@code
+ * logger.atInfo()} and friends.
+ *
+ * <pre>{@code
+ * logger.atInfo().with("name", "will").with("age", 13).log("hello {}, you are {}");
+ * }</pre>
+ *
+ * <p>If the level is disabled, the logger returns a shared builder that does nothing. Otherwise it
+ * returns a builder that is reused by the thread, so a builder must not be kept or shared, and the
+ * statement must be finished with {@code log}.
+ */
+public interface EventBuilder {
+
+  /**
+   * Adds a field.
+   *
+   * @param field the field.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull Field field);
+
+  /**
+   * Adds a field with the given value.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, @NotNull Value<?> value);
+
+  /**
+   * Adds a string field.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, @NotNull String value);
+
+  /**
+   * Adds a number field.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, int value);
+
+  /**
+   * Adds a number field.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, long value);
+
+  /**
+   * Adds a number field.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, double value);
+
+  /**
+   * Adds a boolean field.
+   *
+   * @param name the field name.
+   * @param value the value.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder with(@NotNull String name, boolean value);
+
+  /**
+   * Adds an exception, which is applied to the underlying logger as with any exception field.
+   *
+   * @param e the exception.
+   * @return this builder.
+   */
+  @NotNull
+  EventBuilder withException(@NotNull Throwable e);
+
+  /** Logs the statement with the fields and no message. */
+  void log();
+
+  /**
+   * Logs the statement.
+   *
+   * @param message the message, with {@code {}} anchors for the fields.
+   */
+  void log(@Nullable String message);
+}
@@ -2,8 +2,10 @@ package echopraxia.logger;
 
 import echopraxia.api.FieldBuilderResult;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.spi.AbstractLoggerSupport;
 import echopraxia.logging.spi.CoreLogger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -77,6 +79,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return this;
     }
 
+    @Override
+    public @NotNull Logger<FB> withScopedContext() {
+      return this;
+    }
+
     protected @NotNull Logger<FB> newLogger(CoreLogger core) {
       return this;
     }
@@ -111,6 +118,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return false;
     }
 
+    @Override
+    public @NotNull EventBuilder atTrace() {
+      return NoopEventBuilder.INSTANCE;
+    }
+
     @Override
     public void trace(@Nullable String message) {
       // do nothing
@@ -145,6 +157,37 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       // do nothing
     }
 
+    @Override
+    public <A> void trace(
+        @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void trace(
+        @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void trace(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+        A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void trace(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull FieldBuilderFunction2<FB, A, B> f,
+        A a,
+        B b) {
+      // do nothing
+    }
+
     /**
      * @return true if the logger level is DEBUG or higher.
      */
@@ -160,6 +203,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return false;
     }
 
+    @Override
+    public @NotNull EventBuilder atDebug() {
+      return NoopEventBuilder.INSTANCE;
+    }
+
     @Override
     public void debug(@Nullable String message) {
       // do nothing
@@ -194,6 +242,37 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       // do nothing
     }
 
+    @Override
+    public <A> void debug(
+        @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void debug(
+        @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void debug(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+        A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void debug(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull FieldBuilderFunction2<FB, A, B> f,
+        A a,
+        B b) {
+      // do nothing
+    }
+
     /**
      * @return true if the logger level is INFO or higher.
      */
@@ -209,6 +288,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return false;
     }
 
+    @Override
+    public @NotNull EventBuilder atInfo() {
+      return NoopEventBuilder.INSTANCE;
+    }
+
     @Override
     public void info(@Nullable String message) {
       // do nothing
@@ -242,6 +326,37 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       // do nothing
     }
 
+    @Override
+    public <A> void info(
+        @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void info(
+        @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void info(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+        A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void info(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull FieldBuilderFunction2<FB, A, B> f,
+        A a,
+        B b) {
+      // do nothing
+    }
+
     /**
      * @return true if the logger level is WARN or higher.
      */
@@ -257,6 +372,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return false;
     }
 
+    @Override
+    public @NotNull EventBuilder atWarn() {
+      return NoopEventBuilder.INSTANCE;
+    }
+
     @Override
     public void warn(@Nullable String message, @NotNull Function<FB, FieldBuilderResult> f) {
       // do nothing
@@ -285,6 +405,37 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       // do nothing
     }
 
+    @Override
+    public <A> void warn(
+        @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void warn(
+        @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void warn(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+        A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void warn(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull FieldBuilderFunction2<FB, A, B> f,
+        A a,
+        B b) {
+      // do nothing
+    }
+
     /**
      * @return true if the logger level is ERROR or higher.
      */
@@ -300,6 +451,11 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
       return false;
     }
 
+    @Override
+    public @NotNull EventBuilder atError() {
+      return NoopEventBuilder.INSTANCE;
+    }
+
     @Override
     public void error(@Nullable String message) {
       // do nothing
@@ -333,5 +489,36 @@ public class Logger<FB> extends AbstractLoggerSupport<Logger<FB>, FB>
         @NotNull Condition condition, @Nullable String message, @NotNull Throwable e) {
       // do nothing
     }
+
+    @Override
+    public <A> void error(
+        @Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void error(
+        @Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void error(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+        A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void error(
+        @NotNull Condition condition,
+        @Nullable String message,
+        @NotNull FieldBuilderFunction2<FB, A, B> f,
+        A a,
+        B b) {
+      // do nothing
+    }
   }
 }
@@ -2,6 +2,8 @@ package echopraxia.logger;
 
 import echopraxia.api.FieldBuilderResult;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,6 +26,14 @@ public interface LoggerMethods<FB> {
    */
   boolean isTraceEnabled(@NotNull Condition condition);
 
+  /**
+   * Starts a statement at TRACE level with fields added one at a time.
+   *
+   * @return a builder for the statement, which does nothing if TRACE is not enabled.
+   */
+  @NotNull
+  EventBuilder atTrace();
+
   /**
    * @return true if the logger level is DEBUG or higher.
    */
@@ -35,6 +45,14 @@ public interface LoggerMethods<FB> {
    */
   boolean isDebugEnabled(@NotNull Condition condition);
 
+  /**
+   * Starts a statement at DEBUG level with fields added one at a time.
+   *
+   * @return a builder for the statement, which does nothing if DEBUG is not enabled.
+   */
+  @NotNull
+  EventBuilder atDebug();
+
   /**
    * @return true if the logger level is INFO or higher.
    */
@@ -46,6 +64,14 @@ public interface LoggerMethods<FB> {
    */
   boolean isInfoEnabled(@NotNull Condition condition);
 
+  /**
+   * Starts a statement at INFO level with fields added one at a time.
+   *
+   * @return a builder for the statement, which does nothing if INFO is not enabled.
+   */
+  @NotNull
+  EventBuilder atInfo();
+
   /**
    * @return true if the logger level is WARN or higher.
    */
@@ -57,6 +83,14 @@ public interface LoggerMethods<FB> {
    */
   boolean isWarnEnabled(@NotNull Condition condition);
 
+  /**
+   * Starts a statement at WARN level with fields added one at a time.
+   *
+   * @return a builder for the statement, which does nothing if WARN is not enabled.
+   */
+  @NotNull
+  EventBuilder atWarn();
+
   /**
    * @return true if the logger level is ERROR or higher.
    */
@@ -68,6 +102,14 @@ public interface LoggerMethods<FB> {
    */
   boolean isErrorEnabled(@NotNull Condition condition);
 
+  /**
+   * Starts a statement at ERROR level with fields added one at a time.
+   *
+   * @return a builder for the statement, which does nothing if ERROR is not enabled.
+   */
+  @NotNull
+  EventBuilder atError();
+
   /**
    * Logs statement at TRACE level.
    *
@@ -120,6 +162,66 @@ public interface LoggerMethods<FB> {
    */
   void trace(@NotNull Condition condition, @Nullable String message, @NotNull Throwable e);
 
+  /**
+   * Logs statement at TRACE level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when TRACE is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void trace(@Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg);
+
+  /**
+   * Logs statement at TRACE level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void trace(@Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b);
+
+  /**
+   * Conditionally logs statement at TRACE level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void trace(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg);
+
+  /**
+   * Conditionally logs statement at TRACE level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void trace(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b);
+
   /**
    * Logs statement at DEBUG level.
    *
@@ -160,6 +262,66 @@ public interface LoggerMethods<FB> {
    */
   void debug(@NotNull Condition condition, @Nullable String message, @NotNull Throwable e);
 
+  /**
+   * Logs statement at DEBUG level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when DEBUG is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void debug(@Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg);
+
+  /**
+   * Logs statement at DEBUG level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void debug(@Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b);
+
+  /**
+   * Conditionally logs statement at DEBUG level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void debug(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg);
+
+  /**
+   * Conditionally logs statement at DEBUG level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void debug(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b);
+
   /**
    * Conditionally logs statement at DEBUG level using a field builder function.
    *
@@ -224,6 +386,66 @@ public interface LoggerMethods<FB> {
    */
   void info(@NotNull Condition condition, @Nullable String message, @NotNull Throwable e);
 
+  /**
+   * Logs statement at INFO level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when INFO is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void info(@Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg);
+
+  /**
+   * Logs statement at INFO level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void info(@Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b);
+
+  /**
+   * Conditionally logs statement at INFO level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void info(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg);
+
+  /**
+   * Conditionally logs statement at INFO level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void info(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b);
+
   /**
    * Logs statement at WARN level.
    *
@@ -264,6 +486,66 @@ public interface LoggerMethods<FB> {
    */
   void warn(@NotNull Condition condition, @Nullable String message, @NotNull Throwable e);
 
+  /**
+   * Logs statement at WARN level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when WARN is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void warn(@Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg);
+
+  /**
+   * Logs statement at WARN level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void warn(@Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b);
+
+  /**
+   * Conditionally logs statement at WARN level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void warn(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg);
+
+  /**
+   * Conditionally logs statement at WARN level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void warn(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b);
+
   /**
    * Conditionally logs statement at INFO level using a field builder function.
    *
@@ -327,4 +609,64 @@ public interface LoggerMethods<FB> {
    * @param e the given exception.
    */
   void error(@NotNull Condition condition, @Nullable String message, @NotNull Throwable e);
+
+  /**
+   * Logs statement at ERROR level using a field builder function that takes an argument.
+   *
+   * <p>Passing the argument separately lets {@code f} be a static method reference or a
+   * non-capturing lambda, so nothing is allocated when ERROR is disabled.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void error(@Nullable String message, @NotNull BiFunction<FB, A, FieldBuilderResult> f, A arg);
+
+  /**
+   * Logs statement at ERROR level using a field builder function that takes two arguments.
+   *
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void error(@Nullable String message, @NotNull FieldBuilderFunction2<FB, A, B> f, A a, B b);
+
+  /**
+   * Conditionally logs statement at ERROR level using a field builder function that takes an
+   * argument.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param arg the argument to the function.
+   * @param <A> the type of the argument.
+   */
+  <A> void error(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull BiFunction<FB, A, FieldBuilderResult> f,
+      A arg);
+
+  /**
+   * Conditionally logs statement at ERROR level using a field builder function that takes two
+   * arguments.
+   *
+   * @param condition the given condition.
+   * @param message the message.
+   * @param f the field builder function.
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  <A, B> void error(
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b);
 }
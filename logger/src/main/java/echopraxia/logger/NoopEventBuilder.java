@@ -0,0 +1,64 @@
+package echopraxia.logger;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** The shared event builder returned when the level is disabled. */
+final class NoopEventBuilder implements EventBuilder {
+
+  static final NoopEventBuilder INSTANCE = new NoopEventBuilder();
+
+  private NoopEventBuilder() {}
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull Field field) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, @NotNull Value<?> value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, @NotNull String value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, int value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, long value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, double value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, boolean value) {
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder withException(@NotNull Throwable e) {
+    return this;
+  }
+
+  @Override
+  public void log() {
+    // do nothing
+  }
+
+  @Override
+  public void log(@Nullable String message) {
+    // do nothing
+  }
+}
@@ -0,0 +1,171 @@
+package echopraxia.logger;
+
+import static echopraxia.api.FieldConstants.EXCEPTION;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilderResult;
+import echopraxia.api.Value;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.api.MessageTemplate;
+import echopraxia.logging.spi.CoreLogger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event builder that is reused by its thread. Fields accumulate in an array that grows as
+ * needed, and are copied into an immutable snapshot when the statement is logged.
+ */
+final class PooledEventBuilder implements EventBuilder {
+
+  private static final String FQCN = PooledEventBuilder.class.getName();
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private static final ThreadLocal<PooledEventBuilder> POOL =
+      ThreadLocal.withInitial(PooledEventBuilder::new);
+
+  private Field[] fields = new Field[INITIAL_CAPACITY];
+  private int size;
+  private boolean inUse;
+
+  private Level level;
+  private CoreLogger core;
+  private Object builder;
+
+  // the core logger with this class as the caller, for the last logger used on this thread.
+  private CoreLogger lastCore;
+  private CoreLogger fqcnCore;
+
+  private PooledEventBuilder() {}
+
+  static @NotNull EventBuilder acquire(
+      @NotNull CoreLogger core, @NotNull Level level, @NotNull Object builder) {
+    PooledEventBuilder eventBuilder = POOL.get();
+    if (eventBuilder.inUse) {
+      // either a field value logged a statement of its own while this one was being built, or a
+      // statement was abandoned without calling log(). Replace the pooled builder in both cases:
+      // a nested statement keeps its own builder, and an abandoned one is left to the collector
+      // instead of holding on to its fields and turning every later statement into an allocation.
+      eventBuilder = new PooledEventBuilder();
+      POOL.set(eventBuilder);
+    }
+    eventBuilder.start(core, level, builder);
+    return eventBuilder;
+  }
+
+  private void start(CoreLogger core, Level level, Object builder) {
+    this.inUse = true;
+    this.level = level;
+    this.builder = builder;
+    if (core != lastCore) {
+      lastCore = core;
+      fqcnCore = core.withFQCN(FQCN);
+    }
+    this.core = fqcnCore;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull Field field) {
+    if (size == fields.length) {
+      fields = Arrays.copyOf(fields, size * 2);
+    }
+    fields[size++] = field;
+    return this;
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, @NotNull Value<?> value) {
+    return with(Field.keyValue(name, value));
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, @NotNull String value) {
+    return with(Field.keyValue(name, Value.string(value)));
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, int value) {
+    return with(Field.keyValue(name, Value.number(value)));
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, long value) {
+    return with(Field.keyValue(name, Value.number(value)));
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, double value) {
+    return with(Field.keyValue(name, Value.number(value)));
+  }
+
+  @Override
+  public @NotNull EventBuilder with(@NotNull String name, boolean value) {
+    return with(Field.keyValue(name, Value.bool(value)));
+  }
+
+  @Override
+  public @NotNull EventBuilder withException(@NotNull Throwable e) {
+    return with(Field.keyValue(EXCEPTION, Value.exception(e)));
+  }
+
+  @Override
+  public void log() {
+    log(MessageTemplate.forArity(size).template());
+  }
+
+  @Override
+  public void log(@Nullable String message) {
+    final FieldBuilderResult snapshot =
+        size == 0 ? FieldBuilderResult.empty() : new Snapshot(Arrays.copyOf(fields, size));
+    final CoreLogger core = this.core;
+    final Level level = this.level;
+    final Object builder = this.builder;
+    // release before logging, so that statements logged by the backend can reuse the builder.
+    release();
+    core.log(level, message, PooledEventBuilder::snapshot, snapshot, null, builder);
+  }
+
+  // a static function, so that passing the snapshot as an argument does not allocate a lambda.
+  private static FieldBuilderResult snapshot(
+      Object builder, FieldBuilderResult snapshot, Object unused) {
+    return snapshot;
+  }
+
+  private void release() {
+    Arrays.fill(fields, 0, size, null);
+    size = 0;
+    core = null;
+    level = null;
+    builder = null;
+    inUse = false;
+  }
+
+  /** The fields of a statement, which is its own field builder result. */
+  private static final class Snapshot extends AbstractList<Field>
+      implements FieldBuilderResult, RandomAccess {
+    private final Field[] fields;
+
+    Snapshot(Field[] fields) {
+      this.fields = fields;
+    }
+
+    @Override
+    public Field get(int index) {
+      return fields[index];
+    }
+
+    @Override
+    public int size() {
+      return fields.length;
+    }
+
+    @Override
+    public @NotNull List<Field> fields() {
+      return this;
+    }
+  }
+}
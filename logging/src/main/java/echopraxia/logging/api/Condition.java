@@ -144,7 +144,7 @@ public interface Condition {
         ctx.getFields().stream()
             .filter(f -> f.name().equals(fieldName))
             .filter(f -> (f.value().type() == Value.Type.STRING))
-            .map(f -> (Value.StringValue) f.value())
+            .map(f -> (Value.StringValue) f.value().resolve())
             .anyMatch(predicate);
   }
 
@@ -154,7 +154,7 @@ public interface Condition {
         ctx.getFields().stream()
             .filter(f -> f.name().equals(fieldName))
             .filter(f -> (f.value().type() == Value.Type.NUMBER))
-            .map(f -> (Value.NumberValue<?>) f.value())
+            .map(f -> (Value.NumberValue<?>) f.value().resolve())
             .anyMatch(predicate);
   }
 
@@ -163,7 +163,7 @@ public interface Condition {
         ctx.getFields().stream()
             .filter(f -> f.name().equals(fieldName))
             .filter(f -> (f.value().type() == Value.Type.BOOLEAN))
-            .map(f -> (Value.BooleanValue) f.value())
+            .map(f -> (Value.BooleanValue) f.value().resolve())
             .anyMatch(predicate);
   }
 
@@ -172,7 +172,7 @@ public interface Condition {
         ctx.getFields().stream()
             .filter(f -> f.name().equals(fieldName))
             .filter(f -> (f.value().type() == Value.Type.ARRAY))
-            .map(f -> (Value.ArrayValue) f.value())
+            .map(f -> (Value.ArrayValue) f.value().resolve())
             .anyMatch(predicate);
   }
 
@@ -181,7 +181,7 @@ public interface Condition {
         ctx.getFields().stream()
             .filter(f -> f.name().equals(fieldName))
             .filter(f -> (f.value().type() == Value.Type.OBJECT))
-            .map(f -> (Value.ObjectValue) f.value())
+            .map(f -> (Value.ObjectValue) f.value().resolve())
             .anyMatch(predicate);
   }
 
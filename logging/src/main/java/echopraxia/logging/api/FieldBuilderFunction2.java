@@ -0,0 +1,26 @@
+package echopraxia.logging.api;
+
+import echopraxia.api.FieldBuilderResult;
+
+/**
+ * A field builder function that takes two arguments, the counterpart of {@code BiFunction<FB, A,
+ * FieldBuilderResult>} for logging two values.
+ *
+ * <p>Passing the arguments next to the function, rather than capturing them in a lambda, lets the
+ * function be a static method reference or a non-capturing lambda that is allocated only once.
+ *
+ * @param <FB> the field builder type.
+ * @param <A> the type of the first argument.
+ * @param <B> the type of the second argument.
+ */
+@FunctionalInterface
+public interface FieldBuilderFunction2<FB, A, B> {
+
+  /**
+   * @param builder the field builder.
+   * @param a the first argument.
+   * @param b the second argument.
+   * @return the fields to log.
+   */
+  FieldBuilderResult apply(FB builder, A a, B b);
+}
@@ -0,0 +1,208 @@
+package echopraxia.logging.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A message template with {@code {}} anchors, parsed once so that formatting does not scan the
+ * template again.
+ *
+ * <p>Escapes follow SLF4J and Log4J: {@code \{}} is a literal {@code {}}, and {@code \\{}} is a
+ * backslash followed by an anchor. Anchors with no matching argument are left as {@code {}}, and
+ * arguments with no matching anchor are ignored.
+ *
+ * <p>Templates are nearly always string constants, so {@link #of(String)} keeps parsed templates in
+ * a bounded cache. This class is immutable and thread safe.
+ */
+public final class MessageTemplate {
+
+  private static final String ANCHOR = "{}";
+
+  private static final int CACHE_SIZE = 1024;
+  private static final ConcurrentHashMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+  private static final int MAX_CACHED_ARITY = 16;
+  private static final MessageTemplate[] ARITIES = new MessageTemplate[MAX_CACHED_ARITY + 1];
+
+  static {
+    for (int i = 0; i <= MAX_CACHED_ARITY; i++) {
+      ARITIES[i] = anchors(i);
+    }
+  }
+
+  private final String template;
+
+  // the text between anchors with escapes resolved, one more than the number of anchors.
+  private final String[] segments;
+
+  private final int length;
+
+  private MessageTemplate(String template, String[] segments) {
+    this.template = template;
+    this.segments = segments;
+    int length = 0;
+    for (String segment : segments) {
+      length += segment.length();
+    }
+    this.length = length;
+  }
+
+  /**
+   * Returns the parsed template for a string, from the cache if it has been seen before.
+   *
+   * <p>The cache compares templates with {@code equals}, which checks identity first and uses the
+   * string's cached hash, so a constant template costs the same as an identity lookup. When the
+   * cache is full it is cleared, so templates built per statement do not grow it without bound.
+   *
+   * @param template the template.
+   * @return the parsed template.
+   */
+  public static @NotNull MessageTemplate of(@NotNull String template) {
+    MessageTemplate parsed = CACHE.get(template);
+    if (parsed == null) {
+      parsed = parse(template);
+      if (CACHE.size() >= CACHE_SIZE) {
+        CACHE.clear();
+      }
+      CACHE.put(template, parsed);
+    }
+    return parsed;
+  }
+
+  /**
+   * Parses a template without caching it.
+   *
+   * @param template the template.
+   * @return the parsed template.
+   */
+  public static @NotNull MessageTemplate parse(@NotNull String template) {
+    final List<String> segments = new ArrayList<>();
+    final StringBuilder segment = new StringBuilder(template.length());
+    int start = 0;
+    int anchor;
+    while ((anchor = template.indexOf(ANCHOR, start)) >= 0) {
+      if (isEscaped(template, anchor)) {
+        if (isEscaped(template, anchor - 1)) {
+          // a literal backslash, then the anchor.
+          segment.append(template, start, anchor - 1);
+          segments.add(segment.toString());
+          segment.setLength(0);
+        } else {
+          segment.append(template, start, anchor - 1).append(ANCHOR);
+        }
+      } else {
+        segment.append(template, start, anchor);
+        segments.add(segment.toString());
+        segment.setLength(0);
+      }
+      start = anchor + ANCHOR.length();
+    }
+    segment.append(template, start, template.length());
+    segments.add(segment.toString());
+    return new MessageTemplate(template, segments.toArray(new String[0]));
+  }
+
+  /**
+   * Returns a template of anchors separated by spaces, for logging fields without a message.
+   *
+   * @param arity the number of anchors.
+   * @return the template.
+   */
+  public static @NotNull MessageTemplate forArity(int arity) {
+    return arity <= MAX_CACHED_ARITY ? ARITIES[arity] : anchors(arity);
+  }
+
+  private static MessageTemplate anchors(int arity) {
+    final String[] segments = new String[arity + 1];
+    segments[0] = "";
+    for (int i = 1; i <= arity; i++) {
+      segments[i] = i == arity ? "" : " ";
+    }
+    final StringBuilder template = new StringBuilder(arity * 3);
+    for (int i = 0; i < arity; i++) {
+      if (i > 0) {
+        template.append(' ');
+      }
+      template.append(ANCHOR);
+    }
+    return new MessageTemplate(template.toString(), segments);
+  }
+
+  private static boolean isEscaped(String template, int index) {
+    return index > 0 && template.charAt(index - 1) == '\\';
+  }
+
+  /**
+   * @return the template as it was written.
+   */
+  public @NotNull String template() {
+    return template;
+  }
+
+  /**
+   * @return the number of anchors.
+   */
+  public int anchorCount() {
+    return segments.length - 1;
+  }
+
+  /**
+   * Appends the template to a buffer, replacing each anchor with the matching argument.
+   *
+   * @param buffer the buffer.
+   * @param arguments the arguments, rendered with {@code toString}.
+   */
+  public void formatTo(@NotNull StringBuilder buffer, @NotNull List<?> arguments) {
+    final int count = arguments.size();
+    buffer.append(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      if (i <= count) {
+        buffer.append(arguments.get(i - 1));
+      } else {
+        buffer.append(ANCHOR);
+      }
+      buffer.append(segments[i]);
+    }
+  }
+
+  /**
+   * Appends the template to a buffer, replacing each anchor with the matching argument.
+   *
+   * @param buffer the buffer.
+   * @param arguments the arguments, rendered with {@code toString}.
+   */
+  public void formatTo(@NotNull StringBuilder buffer, Object @NotNull [] arguments) {
+    final int count = arguments.length;
+    buffer.append(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      if (i <= count) {
+        buffer.append(arguments[i - 1]);
+      } else {
+        buffer.append(ANCHOR);
+      }
+      buffer.append(segments[i]);
+    }
+  }
+
+  /**
+   * Formats the template with arguments.
+   *
+   * @param arguments the arguments, rendered with {@code toString}.
+   * @return the message.
+   */
+  public @NotNull String format(@NotNull List<?> arguments) {
+    if (segments.length == 1) {
+      return segments[0];
+    }
+    final StringBuilder buffer = new StringBuilder(length + arguments.size() * 16);
+    formatTo(buffer, arguments);
+    return buffer.toString();
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
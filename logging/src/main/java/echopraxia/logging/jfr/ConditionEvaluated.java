@@ -0,0 +1,29 @@
+package echopraxia.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Recorded when a condition is evaluated, with the duration of the evaluation. */
+@Name("echopraxia.ConditionEvaluated")
+@Label("Condition Evaluated")
+@Category("Echopraxia")
+@Description("A condition evaluated by a logger")
+@StackTrace(false)
+public final class ConditionEvaluated extends jdk.jfr.Event {
+
+  @Label("Logger")
+  public String logger;
+
+  @Label("Level")
+  public String level;
+
+  @Label("Result")
+  public boolean result;
+
+  @Label("Script")
+  @Description("The script path, if the condition is a script")
+  public String script;
+}
@@ -0,0 +1,22 @@
+package echopraxia.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Recorded when a logging statement is handed to the backend, with the time spent there. */
+@Name("echopraxia.EventDispatched")
+@Label("Event Dispatched")
+@Category("Echopraxia")
+@Description("A logging statement dispatched to the backend")
+@StackTrace(false)
+public final class EventDispatched extends jdk.jfr.Event {
+
+  @Label("Logger")
+  public String logger;
+
+  @Label("Level")
+  public String level;
+}
@@ -0,0 +1,22 @@
+package echopraxia.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Recorded when the argument fields of a statement are built from the field builder function. */
+@Name("echopraxia.FieldsBuilt")
+@Label("Fields Built")
+@Category("Echopraxia")
+@Description("Argument fields built for a logging statement")
+@StackTrace(false)
+public final class FieldsBuilt extends jdk.jfr.Event {
+
+  @Label("Logger")
+  public String logger;
+
+  @Label("Field Count")
+  public int fieldCount;
+}
@@ -0,0 +1,155 @@
+package echopraxia.logging.jfr;
+
+import echopraxia.api.Field;
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.api.LoggingContext;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits JDK Flight Recorder events from core loggers.
+ *
+ * <p>Every method checks whether the event type is enabled first, and does not allocate when it is
+ * not, so these can be left in the logging path.
+ */
+public final class JfrEvents {
+
+  // Enablement is per event type, so any instance can be asked.
+  private static final ConditionEvaluated CONDITION_EVALUATED = new ConditionEvaluated();
+  private static final FieldsBuilt FIELDS_BUILT = new FieldsBuilt();
+  private static final EventDispatched EVENT_DISPATCHED = new EventDispatched();
+
+  private JfrEvents() {}
+
+  /**
+   * Tests the condition, recording a {@link ConditionEvaluated} event if enabled.
+   *
+   * @param condition the condition.
+   * @param level the level.
+   * @param context the logging context.
+   * @return the result of the condition.
+   */
+  public static boolean test(
+      @NotNull Condition condition, @NotNull Level level, @NotNull LoggingContext context) {
+    if (!CONDITION_EVALUATED.isEnabled()) {
+      return condition.test(level, context);
+    }
+    final ConditionEvaluated event = new ConditionEvaluated();
+    event.begin();
+    final boolean result = condition.test(level, context);
+    event.end();
+    if (event.shouldCommit()) {
+      event.logger = context.getCore().getName();
+      event.level = level.name();
+      event.result = result;
+      event.commit();
+    }
+    return result;
+  }
+
+  /**
+   * @return a started event if condition events are enabled, otherwise null.
+   */
+  @Nullable
+  public static ConditionEvaluated beginCondition() {
+    if (!CONDITION_EVALUATED.isEnabled()) {
+      return null;
+    }
+    final ConditionEvaluated event = new ConditionEvaluated();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits a condition event started with {@link #beginCondition()}.
+   *
+   * @param event the event, may be null.
+   * @param logger the logger name.
+   * @param level the level.
+   * @param result the result of the condition.
+   * @param script the script path, may be null.
+   */
+  public static void commitCondition(
+      @Nullable ConditionEvaluated event,
+      @NotNull String logger,
+      @NotNull Level level,
+      boolean result,
+      @Nullable String script) {
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.logger = logger;
+        event.level = level.name();
+        event.result = result;
+        event.script = script;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * @return a started event if field events are enabled, otherwise null.
+   */
+  @Nullable
+  public static FieldsBuilt beginFieldsBuilt() {
+    if (!FIELDS_BUILT.isEnabled()) {
+      return null;
+    }
+    final FieldsBuilt event = new FieldsBuilt();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits a fields event started with {@link #beginFieldsBuilt()}.
+   *
+   * @param event the event, may be null.
+   * @param logger the logger name.
+   * @param fields the fields that were built.
+   */
+  public static void commitFieldsBuilt(
+      @Nullable FieldsBuilt event, @NotNull String logger, @NotNull List<Field> fields) {
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.logger = logger;
+        event.fieldCount = fields.size();
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * @return a started event if dispatch events are enabled, otherwise null.
+   */
+  @Nullable
+  public static EventDispatched beginDispatch() {
+    if (!EVENT_DISPATCHED.isEnabled()) {
+      return null;
+    }
+    final EventDispatched event = new EventDispatched();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits a dispatch event started with {@link #beginDispatch()}.
+   *
+   * @param event the event, may be null.
+   * @param logger the logger name.
+   * @param level the level.
+   */
+  public static void commitDispatch(
+      @Nullable EventDispatched event, @NotNull String logger, @NotNull Level level) {
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.logger = logger;
+        event.level = level.name();
+        event.commit();
+      }
+    }
+  }
+}
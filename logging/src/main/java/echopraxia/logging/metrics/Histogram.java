@@ -0,0 +1,190 @@
+package echopraxia.logging.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A concurrent histogram of nanosecond durations with log-linear buckets, in the style of
+ * HdrHistogram.
+ *
+ * <p>Each power of two is split into 8 linear sub-buckets, so recorded values are accurate to
+ * within 12.5%. Values above {@link #MAX_VALUE} (about 68 seconds) are recorded in the highest
+ * bucket. Recording is a few atomic increments and does not allocate.
+ */
+public final class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 36;
+
+  /** The largest value that is tracked with full precision. */
+  public static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+
+  private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds, negative values are recorded as zero.
+   */
+  public void record(long nanos) {
+    final long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+    counts.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * @return the number of recorded values.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the sum of recorded values in nanoseconds.
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * @return the largest recorded value in nanoseconds.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @return the mean of recorded values in nanoseconds, or 0 if nothing has been recorded.
+   */
+  public double getMean() {
+    final long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Returns the value at the given percentile, as the upper bound of the bucket holding it.
+   *
+   * @param percentile the percentile, from 0 to 100.
+   * @return the value in nanoseconds, or 0 if nothing has been recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+    final long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= target) {
+        return Math.min(bucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * @return an immutable snapshot of the histogram.
+   */
+  @NotNull
+  public Snapshot snapshot() {
+    return new Snapshot(
+        getCount(),
+        getMean(),
+        getValueAtPercentile(50),
+        getValueAtPercentile(90),
+        getValueAtPercentile(99),
+        getMax());
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long subBucket = SUB_BUCKET_COUNT + (index % SUB_BUCKET_COUNT);
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /** An immutable view of a histogram, exposed as composite data through JMX. */
+  public static final class Snapshot {
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+
+    Snapshot(long count, double mean, long p50, long p90, long p99, long max) {
+      this.count = count;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getMean() {
+      return mean;
+    }
+
+    public long getP50() {
+      return p50;
+    }
+
+    public long getP90() {
+      return p90;
+    }
+
+    public long getP99() {
+      return p99;
+    }
+
+    public long getMax() {
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot{count="
+          + count
+          + ", mean="
+          + (long) mean
+          + "ns, p50="
+          + p50
+          + "ns, p90="
+          + p90
+          + "ns, p99="
+          + p99
+          + "ns, max="
+          + max
+          + "ns}";
+    }
+  }
+}
@@ -0,0 +1,386 @@
+package echopraxia.logging.metrics;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilderResult;
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.api.LoggerHandle;
+import echopraxia.logging.api.LoggingContext;
+import echopraxia.logging.spi.CoreLogger;
+import echopraxia.logging.spi.DelegateCoreLogger;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A core logger that records {@link LoggerMetrics} for every statement.
+ *
+ * <p>Conditions added through {@code withCondition} are kept on this logger and passed to the
+ * underlying logger with each statement, so that rejections can be attributed to the statement
+ * without evaluating conditions twice. Timing is only done for sampled statements.
+ */
+public class InstrumentedCoreLogger extends DelegateCoreLogger {
+
+  private final LoggerMetricsGroup metrics;
+  private final Condition condition;
+
+  InstrumentedCoreLogger(
+      @NotNull CoreLogger core, @NotNull LoggerMetricsGroup metrics, @NotNull Condition condition) {
+    super(core);
+    this.metrics = metrics;
+    this.condition = condition;
+  }
+
+  /**
+   * Returns the metrics for the given level.
+   *
+   * @param level the level.
+   * @return the metrics for this logger's name and level.
+   */
+  @NotNull
+  public LoggerMetrics metrics(@NotNull Level level) {
+    return metrics.get(level);
+  }
+
+  @Override
+  public @NotNull Condition condition() {
+    return condition == Condition.always() ? core.condition() : core.condition().and(condition);
+  }
+
+  @Override
+  public <FB> @NotNull CoreLogger withFields(
+      @NotNull Function<FB, FieldBuilderResult> f, @NotNull FB builder) {
+    return new InstrumentedCoreLogger(core.withFields(f, builder), metrics, condition);
+  }
+
+  @Override
+  public @NotNull CoreLogger withThreadContext(
+      @NotNull Function<Supplier<Map<String, String>>, Supplier<List<Field>>> mapTransform) {
+    return new InstrumentedCoreLogger(core.withThreadContext(mapTransform), metrics, condition);
+  }
+
+  @Override
+  public @NotNull CoreLogger withThreadLocal(Supplier<Runnable> newSupplier) {
+    return new InstrumentedCoreLogger(core.withThreadLocal(newSupplier), metrics, condition);
+  }
+
+  @Override
+  public @NotNull CoreLogger withCondition(@NotNull Condition condition) {
+    if (condition == Condition.always() || this.condition == Condition.never()) {
+      return this;
+    }
+    if (condition == Condition.never() || this.condition == Condition.always()) {
+      return new InstrumentedCoreLogger(core, metrics, condition);
+    }
+    return new InstrumentedCoreLogger(core, metrics, this.condition.and(condition));
+  }
+
+  @Override
+  public @NotNull CoreLogger withFQCN(@NotNull String fqcn) {
+    return new InstrumentedCoreLogger(core.withFQCN(fqcn), metrics, condition);
+  }
+
+  @Override
+  public boolean isEnabled(@NotNull Level level) {
+    return condition == Condition.always()
+        ? core.isEnabled(level)
+        : core.isEnabled(level, condition);
+  }
+
+  @Override
+  public boolean isEnabled(@NotNull Level level, @NotNull Condition condition) {
+    return core.isEnabled(level, this.condition.and(condition));
+  }
+
+  @Override
+  public boolean isEnabled(@NotNull Level level, @NotNull Supplier<List<Field>> extraFields) {
+    return condition == Condition.always()
+        ? core.isEnabled(level, extraFields)
+        : core.isEnabled(level, condition, extraFields);
+  }
+
+  @Override
+  public boolean isEnabled(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @NotNull Supplier<List<Field>> extraFields) {
+    return core.isEnabled(level, this.condition.and(condition), extraFields);
+  }
+
+  @Override
+  public void log(@NotNull Level level, @Nullable String message) {
+    instrumentedLog(level, null, Condition.always(), message, null, null);
+  }
+
+  @Override
+  public void log(
+      @NotNull Level level, @NotNull Supplier<List<Field>> extraFields, @Nullable String message) {
+    instrumentedLog(level, extraFields, Condition.always(), message, null, null);
+  }
+
+  @Override
+  public <FB> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull Function<FB, FieldBuilderResult> f,
+      @NotNull FB builder) {
+    instrumentedLog(level, null, Condition.always(), message, f, builder);
+  }
+
+  @Override
+  public <FB> void log(
+      @NotNull Level level,
+      @NotNull Supplier<List<Field>> extraFields,
+      @Nullable String message,
+      @NotNull Function<FB, FieldBuilderResult> f,
+      @NotNull FB builder) {
+    instrumentedLog(level, extraFields, Condition.always(), message, f, builder);
+  }
+
+  @Override
+  public void log(@NotNull Level level, @NotNull Condition condition, @Nullable String message) {
+    instrumentedLog(level, null, condition, message, null, null);
+  }
+
+  @Override
+  public void log(
+      @NotNull Level level,
+      @NotNull Supplier<List<Field>> extraFields,
+      @NotNull Condition condition,
+      @Nullable String message) {
+    instrumentedLog(level, extraFields, condition, message, null, null);
+  }
+
+  @Override
+  public <FB> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull Function<FB, FieldBuilderResult> f,
+      @NotNull FB builder) {
+    instrumentedLog(level, null, condition, message, f, builder);
+  }
+
+  @Override
+  public <FB> void log(
+      @NotNull Level level,
+      @NotNull Supplier<List<Field>> extraFields,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull Function<FB, FieldBuilderResult> f,
+      @NotNull FB builder) {
+    instrumentedLog(level, extraFields, condition, message, f, builder);
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    final LoggerMetrics m = metrics.get(level);
+    // checked before the function is wrapped, so a disabled statement does not allocate.
+    if (isLevelRejected(m, level)) {
+      return;
+    }
+    dispatch(m, level, null, Condition.always(), message, fb -> f.apply(fb, a, b), builder);
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    final LoggerMetrics m = metrics.get(level);
+    if (isLevelRejected(m, level)) {
+      return;
+    }
+    dispatch(m, level, null, condition, message, fb -> f.apply(fb, a, b), builder);
+  }
+
+  @Override
+  public <FB> @NotNull LoggerHandle<FB> logHandle(@NotNull Level level, @NotNull FB builder) {
+    final LoggerHandle<FB> handle = core.logHandle(level, builder);
+    final LoggerMetrics m = metrics.get(level);
+    // the handle is only used after the caller has checked isEnabled.
+    return new LoggerHandle<FB>() {
+      @Override
+      public void log(@Nullable String message) {
+        m.attempted.increment();
+        m.enabled.increment();
+        if (metrics.sample()) {
+          final long start = System.nanoTime();
+          handle.log(message);
+          m.dispatchTime.record(System.nanoTime() - start);
+        } else {
+          handle.log(message);
+        }
+      }
+
+      @Override
+      public void log(@Nullable String message, @NotNull Function<FB, FieldBuilderResult> f) {
+        m.attempted.increment();
+        m.enabled.increment();
+        if (metrics.sample()) {
+          final Event<FB> event = new Event<>(m, Condition.always(), f, true);
+          final long start = System.nanoTime();
+          handle.log(message, event);
+          event.recordDispatch(System.nanoTime() - start);
+        } else {
+          handle.log(message, f);
+        }
+      }
+    };
+  }
+
+  private <FB> void instrumentedLog(
+      @NotNull Level level,
+      @Nullable Supplier<List<Field>> extraFields,
+      @NotNull Condition statementCondition,
+      @Nullable String message,
+      @Nullable Function<FB, FieldBuilderResult> f,
+      @Nullable FB builder) {
+    final LoggerMetrics m = metrics.get(level);
+    if (isLevelRejected(m, level)) {
+      return;
+    }
+    dispatch(m, level, extraFields, statementCondition, message, f, builder);
+  }
+
+  private boolean isLevelRejected(LoggerMetrics m, Level level) {
+    m.attempted.increment();
+    if (!core.isEnabled(level)) {
+      // the common case for debug statements: nothing is allocated or timed.
+      m.levelRejections.increment();
+      return true;
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <FB> void dispatch(
+      LoggerMetrics m,
+      @NotNull Level level,
+      @Nullable Supplier<List<Field>> extraFields,
+      @NotNull Condition statementCondition,
+      @Nullable String message,
+      @Nullable Function<FB, FieldBuilderResult> f,
+      @Nullable FB builder) {
+    final Condition c =
+        statementCondition == Condition.always()
+            ? condition
+            : condition == Condition.always()
+                ? statementCondition
+                : condition.and(statementCondition);
+    if (c == Condition.never()) {
+      m.conditionRejections.increment();
+      return;
+    }
+
+    final boolean sampled = metrics.sample();
+    final Event<FB> event = new Event<>(m, c, f, sampled);
+    // an event without fields is its own (empty) field builder.
+    final FB b = f == null ? (FB) event : builder;
+    final long start = sampled ? System.nanoTime() : 0;
+    if (c == Condition.always()) {
+      if (extraFields == null) {
+        core.log(level, message, event, b);
+      } else {
+        core.log(level, extraFields, message, event, b);
+      }
+    } else {
+      if (extraFields == null) {
+        core.log(level, event, message, event, b);
+      } else {
+        core.log(level, extraFields, event, message, event, b);
+      }
+    }
+    if (sampled) {
+      event.recordDispatch(System.nanoTime() - start);
+    }
+    event.recordEnabled();
+  }
+
+  /**
+   * Tracks a single statement: wraps the condition to count rejections, and the field builder
+   * function to detect that the statement got past the level check.
+   */
+  static final class Event<FB> implements Condition, Function<FB, FieldBuilderResult> {
+    private final LoggerMetrics metrics;
+    private final Condition condition;
+    private final Function<FB, FieldBuilderResult> f;
+    private final boolean sampled;
+
+    private boolean rejected;
+    private boolean fieldsBuilt;
+    private long conditionNanos;
+    private long fieldNanos;
+
+    Event(
+        LoggerMetrics metrics,
+        Condition condition,
+        @Nullable Function<FB, FieldBuilderResult> f,
+        boolean sampled) {
+      this.metrics = metrics;
+      this.condition = condition;
+      this.f = f;
+      this.sampled = sampled;
+    }
+
+    @Override
+    public boolean test(Level level, LoggingContext context) {
+      final boolean result;
+      if (sampled) {
+        final long start = System.nanoTime();
+        result = condition.test(level, context);
+        final long elapsed = System.nanoTime() - start;
+        conditionNanos += elapsed;
+        metrics.conditionTime.record(elapsed);
+      } else {
+        result = condition.test(level, context);
+      }
+      if (!result) {
+        rejected = true;
+        metrics.conditionRejections.increment();
+      }
+      return result;
+    }
+
+    @Override
+    public FieldBuilderResult apply(FB builder) {
+      fieldsBuilt = true;
+      if (f == null) {
+        return FieldBuilderResult.empty();
+      }
+      if (sampled) {
+        final long start = System.nanoTime();
+        final FieldBuilderResult result = f.apply(builder);
+        final long elapsed = System.nanoTime() - start;
+        fieldNanos += elapsed;
+        metrics.fieldTime.record(elapsed);
+        return result;
+      }
+      return f.apply(builder);
+    }
+
+    void recordDispatch(long elapsed) {
+      metrics.dispatchTime.record(Math.max(0, elapsed - fieldNanos - conditionNanos));
+    }
+
+    void recordEnabled() {
+      if (fieldsBuilt && !rejected) {
+        metrics.enabled.increment();
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package echopraxia.logging.metrics;
+
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.spi.CoreLogger;
+import echopraxia.logging.spi.CoreLoggerFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A filter that wraps every core logger in an {@link InstrumentedCoreLogger}. Add it to {@code
+ * echopraxia.properties}:
+ *
+ * <pre>{@code
+ * filter.0=echopraxia.logging.metrics.InstrumentedCoreLoggerFilter
+ * }</pre>
+ *
+ * <p>The filter is configured with system properties:
+ *
+ * <ul>
+ *   <li>{@code echopraxia.metrics.sampleInterval}: time one in every N statements, 0 to disable
+ *       timing. Defaults to 16.
+ *   <li>{@code echopraxia.metrics.jmx}: register metrics as MXBeans. Defaults to true.
+ * </ul>
+ *
+ * <p>Any {@link MetricsRegistry} found through {@code ServiceLoader} is also registered.
+ */
+public class InstrumentedCoreLoggerFilter implements CoreLoggerFilter {
+
+  public static final String SAMPLE_INTERVAL_PROPERTY = "echopraxia.metrics.sampleInterval";
+  public static final String JMX_PROPERTY = "echopraxia.metrics.jmx";
+
+  private static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+  private final int sampleInterval;
+  private final List<MetricsRegistry> registries;
+  private final ConcurrentMap<String, LoggerMetricsGroup> metricsByName =
+      new ConcurrentHashMap<>();
+
+  public InstrumentedCoreLoggerFilter() {
+    this(
+        Integer.getInteger(SAMPLE_INTERVAL_PROPERTY, DEFAULT_SAMPLE_INTERVAL),
+        defaultRegistries());
+  }
+
+  public InstrumentedCoreLoggerFilter(
+      int sampleInterval, @NotNull List<MetricsRegistry> registries) {
+    this.sampleInterval = sampleInterval;
+    this.registries = registries;
+  }
+
+  @Override
+  public CoreLogger apply(CoreLogger core) {
+    if (core instanceof InstrumentedCoreLogger) {
+      return core;
+    }
+    final LoggerMetricsGroup metrics =
+        metricsByName.computeIfAbsent(
+            core.getName(), name -> new LoggerMetricsGroup(name, sampleInterval, registries));
+    return new InstrumentedCoreLogger(core, metrics, Condition.always());
+  }
+
+  /**
+   * @return the metrics of every logger name and level that has been logged at.
+   */
+  @NotNull
+  public List<LoggerMetrics> metrics() {
+    final List<LoggerMetrics> list = new ArrayList<>();
+    for (LoggerMetricsGroup group : metricsByName.values()) {
+      for (Level level : Level.values()) {
+        final LoggerMetrics m = group.getIfPresent(level);
+        if (m != null) {
+          list.add(m);
+        }
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  private static List<MetricsRegistry> defaultRegistries() {
+    final List<MetricsRegistry> registries = new ArrayList<>();
+    if (Boolean.parseBoolean(System.getProperty(JMX_PROPERTY, "true"))) {
+      registries.add(new JmxMetricsRegistry());
+    }
+    for (MetricsRegistry registry : ServiceLoader.load(MetricsRegistry.class)) {
+      registries.add(registry);
+    }
+    return registries;
+  }
+}
@@ -0,0 +1,106 @@
+package echopraxia.logging.metrics;
+
+import echopraxia.logging.spi.EchopraxiaService;
+import java.lang.management.ManagementFactory;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Registers logger metrics as MXBeans on the platform MBean server, under {@code
+ * echopraxia:type=LoggerMetrics,name=<logger>,level=<level>}.
+ */
+public class JmxMetricsRegistry implements MetricsRegistry {
+
+  private final MBeanServer server;
+
+  public JmxMetricsRegistry() {
+    this(ManagementFactory.getPlatformMBeanServer());
+  }
+
+  public JmxMetricsRegistry(@NotNull MBeanServer server) {
+    this.server = server;
+  }
+
+  @Override
+  public void register(@NotNull LoggerMetrics metrics) {
+    try {
+      server.registerMBean(new LoggerMetricsBean(metrics), objectName(metrics));
+    } catch (InstanceAlreadyExistsException e) {
+      // another filter instance registered the same logger first.
+    } catch (JMException e) {
+      EchopraxiaService.getInstance().getExceptionHandler().handleException(e);
+    }
+  }
+
+  /**
+   * Returns the object name used for the given metrics.
+   *
+   * @param metrics the logger metrics.
+   * @return the object name.
+   * @throws JMException if the name is malformed.
+   */
+  @NotNull
+  public static ObjectName objectName(@NotNull LoggerMetrics metrics) throws JMException {
+    return new ObjectName(
+        "echopraxia:type=LoggerMetrics,name="
+            + ObjectName.quote(metrics.getName())
+            + ",level="
+            + metrics.getLevel());
+  }
+
+  static final class LoggerMetricsBean implements LoggerMetricsMXBean {
+    private final LoggerMetrics metrics;
+
+    LoggerMetricsBean(LoggerMetrics metrics) {
+      this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+      return metrics.getName();
+    }
+
+    @Override
+    public String getLevel() {
+      return metrics.getLevel().name();
+    }
+
+    @Override
+    public long getAttempted() {
+      return metrics.getAttempted();
+    }
+
+    @Override
+    public long getEnabled() {
+      return metrics.getEnabled();
+    }
+
+    @Override
+    public long getLevelRejections() {
+      return metrics.getLevelRejections();
+    }
+
+    @Override
+    public long getConditionRejections() {
+      return metrics.getConditionRejections();
+    }
+
+    @Override
+    public Histogram.Snapshot getConditionTime() {
+      return metrics.getConditionTime().snapshot();
+    }
+
+    @Override
+    public Histogram.Snapshot getFieldTime() {
+      return metrics.getFieldTime().snapshot();
+    }
+
+    @Override
+    public Histogram.Snapshot getDispatchTime() {
+      return metrics.getDispatchTime().snapshot();
+    }
+  }
+}
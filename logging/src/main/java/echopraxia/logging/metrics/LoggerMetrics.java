@@ -0,0 +1,117 @@
+package echopraxia.logging.metrics;
+
+import echopraxia.logging.api.Level;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counters and timings for a single logger name and level.
+ *
+ * <p>Counters are updated on every event. Timings are only recorded for sampled events, so the
+ * histogram counts are a fraction of the event counts.
+ */
+public final class LoggerMetrics {
+
+  private final String name;
+  private final Level level;
+
+  final LongAdder attempted = new LongAdder();
+  final LongAdder enabled = new LongAdder();
+  final LongAdder levelRejections = new LongAdder();
+  final LongAdder conditionRejections = new LongAdder();
+
+  final Histogram conditionTime = new Histogram();
+  final Histogram fieldTime = new Histogram();
+  final Histogram dispatchTime = new Histogram();
+
+  LoggerMetrics(@NotNull String name, @NotNull Level level) {
+    this.name = name;
+    this.level = level;
+  }
+
+  /**
+   * @return the logger name.
+   */
+  @NotNull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the level.
+   */
+  @NotNull
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return the number of logging statements made at this level.
+   */
+  public long getAttempted() {
+    return attempted.sum();
+  }
+
+  /**
+   * @return the number of logging statements that passed the level and conditions.
+   */
+  public long getEnabled() {
+    return enabled.sum();
+  }
+
+  /**
+   * @return the number of logging statements rejected by the underlying logger's level check.
+   */
+  public long getLevelRejections() {
+    return levelRejections.sum();
+  }
+
+  /**
+   * @return the number of times a condition on the logger or statement returned false.
+   */
+  public long getConditionRejections() {
+    return conditionRejections.sum();
+  }
+
+  /**
+   * @return the time spent evaluating conditions.
+   */
+  @NotNull
+  public Histogram getConditionTime() {
+    return conditionTime;
+  }
+
+  /**
+   * @return the time spent building fields from the field builder function.
+   */
+  @NotNull
+  public Histogram getFieldTime() {
+    return fieldTime;
+  }
+
+  /**
+   * @return the time spent in the backend, not counting the condition and field time, which are in
+   *     {@link #getConditionTime()} and {@link #getFieldTime()}.
+   */
+  @NotNull
+  public Histogram getDispatchTime() {
+    return dispatchTime;
+  }
+
+  @Override
+  public String toString() {
+    return "LoggerMetrics{name="
+        + name
+        + ", level="
+        + level
+        + ", attempted="
+        + getAttempted()
+        + ", enabled="
+        + getEnabled()
+        + ", levelRejections="
+        + getLevelRejections()
+        + ", conditionRejections="
+        + getConditionRejections()
+        + "}";
+  }
+}
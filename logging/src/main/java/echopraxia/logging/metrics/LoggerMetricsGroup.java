@@ -0,0 +1,57 @@
+package echopraxia.logging.metrics;
+
+import echopraxia.logging.api.Level;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jetbrains.annotations.NotNull;
+
+/** The metrics for one logger name, created per level on first use. */
+final class LoggerMetricsGroup {
+
+  private static final Level[] LEVELS = Level.values();
+
+  private final String name;
+  private final int sampleInterval;
+  private final List<MetricsRegistry> registries;
+  private final AtomicReferenceArray<LoggerMetrics> metrics =
+      new AtomicReferenceArray<>(LEVELS.length);
+
+  LoggerMetricsGroup(String name, int sampleInterval, List<MetricsRegistry> registries) {
+    this.name = name;
+    this.sampleInterval = sampleInterval;
+    this.registries = registries;
+  }
+
+  @NotNull
+  LoggerMetrics get(@NotNull Level level) {
+    final int i = level.ordinal();
+    LoggerMetrics m = metrics.get(i);
+    if (m != null) {
+      return m;
+    }
+    final LoggerMetrics created = new LoggerMetrics(name, level);
+    if (metrics.compareAndSet(i, null, created)) {
+      for (MetricsRegistry registry : registries) {
+        registry.register(created);
+      }
+      return created;
+    }
+    return metrics.get(i);
+  }
+
+  LoggerMetrics getIfPresent(@NotNull Level level) {
+    return metrics.get(level.ordinal());
+  }
+
+  /**
+   * @return true if this event should be timed.
+   */
+  boolean sample() {
+    final int interval = sampleInterval;
+    if (interval <= 1) {
+      return interval == 1;
+    }
+    return ThreadLocalRandom.current().nextInt(interval) == 0;
+  }
+}
@@ -0,0 +1,23 @@
+package echopraxia.logging.metrics;
+
+/** The JMX view of {@link LoggerMetrics}. Times are in nanoseconds. */
+public interface LoggerMetricsMXBean {
+
+  String getName();
+
+  String getLevel();
+
+  long getAttempted();
+
+  long getEnabled();
+
+  long getLevelRejections();
+
+  long getConditionRejections();
+
+  Histogram.Snapshot getConditionTime();
+
+  Histogram.Snapshot getFieldTime();
+
+  Histogram.Snapshot getDispatchTime();
+}
@@ -0,0 +1,20 @@
+package echopraxia.logging.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A registry that is told about new logger metrics, so they can be exported to a monitoring system.
+ * Implementations are found through {@code ServiceLoader}, and a JMX registry is included.
+ *
+ * <p>Metrics are registered once per logger name and level, the first time a statement is logged at
+ * that level.
+ */
+public interface MetricsRegistry {
+
+  /**
+   * Registers the given metrics.
+   *
+   * @param metrics the metrics for a logger name and level.
+   */
+  void register(@NotNull LoggerMetrics metrics);
+}
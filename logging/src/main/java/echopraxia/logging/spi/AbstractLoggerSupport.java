@@ -84,6 +84,21 @@ public abstract class AbstractLoggerSupport<SELF extends AbstractLoggerSupport<S
     return newLogger(core().withThreadContext(Utilities.threadContext()));
   }
 
+  /**
+   * Returns a logger with fields provided from the {@link ScopedContext}. This method has
+   * call-by-name semantics.
+   *
+   * @return a logger with the scoped context fields.
+   */
+  @NotNull
+  public SELF withScopedContext() {
+    return newLogger(
+        core()
+            .withFields(
+                fb -> FieldBuilderResult.list(ScopedContext.getInstance().fields()),
+                fieldBuilder));
+  }
+
   /**
    * The instantiation of the new logger.
    *
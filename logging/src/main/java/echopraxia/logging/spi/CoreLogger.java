@@ -2,6 +2,7 @@ package echopraxia.logging.spi;
 
 import echopraxia.api.*;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
 import java.util.List;
@@ -93,6 +94,22 @@ public interface CoreLogger {
   @NotNull
   CoreLogger withThreadLocal(Supplier<Runnable> newSupplier);
 
+  /**
+   * Returns the function that manages thread local storage for this logger, composed from the
+   * backend's own thread context (i.e. MDC) and any functions added through {@code
+   * withThreadLocal}.
+   *
+   * <p>Calling {@code get()} captures the TLS variables on the current thread, and running the
+   * returned runnable applies them to whatever thread it is run on. See {@link
+   * ThreadContextExecutors} for wrapping executors with this function.
+   *
+   * @return the thread local supplier, a no-op function by default.
+   */
+  @NotNull
+  default Supplier<Runnable> threadLocal() {
+    return () -> () -> {};
+  }
+
   /**
    * Adds the given condition to the logger.
    *
@@ -259,6 +276,61 @@ public interface CoreLogger {
       @NotNull Function<FB, FieldBuilderResult> f,
       @NotNull FB builder);
 
+  /**
+   * Log a message at the given level, with a field builder function that takes its arguments
+   * separately.
+   *
+   * <p>Because the arguments are passed alongside the function, the function can be a static method
+   * reference or a non-capturing lambda, and nothing is allocated when the level is disabled.
+   * Implementations should override this to check the level before building fields; the default
+   * wraps the function and its arguments in a {@code Function}.
+   *
+   * @param level the level to log at.
+   * @param message the message string to be logged
+   * @param f the field builder function
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param builder the field builder
+   * @param <FB> the type of field builder.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    log(level, message, fb -> f.apply(fb, a, b), builder);
+  }
+
+  /**
+   * Log a message at the given level, with a field builder function that takes its arguments
+   * separately.
+   *
+   * @param level the level to log at.
+   * @param condition the given condition.
+   * @param message the message string to be logged
+   * @param f the field builder function
+   * @param a the first argument to the function.
+   * @param b the second argument to the function.
+   * @param builder the field builder
+   * @param <FB> the type of field builder.
+   * @param <A> the type of the first argument.
+   * @param <B> the type of the second argument.
+   */
+  default <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    log(level, condition, message, fb -> f.apply(fb, a, b), builder);
+  }
+
   /**
    * Returns a handle to the underlying logger, which will do a straight passthrough without any
    * enabled or condition checks.
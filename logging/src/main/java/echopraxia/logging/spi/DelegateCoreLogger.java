@@ -2,6 +2,7 @@ package echopraxia.logging.spi;
 
 import echopraxia.api.*;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
 import java.util.List;
@@ -63,6 +64,12 @@ public class DelegateCoreLogger implements CoreLogger {
     return core.withThreadLocal(newSupplier);
   }
 
+  @Override
+  @NotNull
+  public Supplier<Runnable> threadLocal() {
+    return core.threadLocal();
+  }
+
   @Override
   @NotNull
   public CoreLogger withCondition(@NotNull Condition condition) {
@@ -163,6 +170,29 @@ public class DelegateCoreLogger implements CoreLogger {
     core.log(level, extraFields, condition, message, f, builder);
   }
 
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    core.log(level, message, f, a, b, builder);
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    core.log(level, condition, message, f, a, b, builder);
+  }
+
   @Override
   @NotNull
   public <FB> LoggerHandle<FB> logHandle(@NotNull Level level, @NotNull FB builder) {
@@ -0,0 +1,151 @@
+package echopraxia.logging.spi;
+
+import echopraxia.api.Field;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A carrier for request scoped fields, as an alternative to MDC.
+ *
+ * <p>Fields are bound for the duration of a runnable or callable, and nested bindings add to the
+ * fields of the enclosing binding. Binding is constant time: the enclosing fields are shared, not
+ * copied. Loggers read the bound fields through {@code withScopedContext()}, which has call-by-name
+ * semantics in the same way as {@code withThreadContext()}.
+ *
+ * <p>The default implementation uses a thread local, so fields are not visible to other threads.
+ * The {@code echopraxia.scopedvalue} module provides an implementation on top of JDK 21 {@code
+ * ScopedValue}, where fields are inherited by child threads forked in a {@code
+ * StructuredTaskScope}.
+ *
+ * @since 4.0
+ */
+public interface ScopedContext {
+
+  /**
+   * @return the fields bound in the current scope, or an empty list.
+   */
+  @NotNull
+  List<Field> fields();
+
+  /**
+   * Runs an operation with the given fields added to the current scope.
+   *
+   * @param fields the fields to bind.
+   * @param op the operation to run.
+   */
+  void run(@NotNull List<Field> fields, @NotNull Runnable op);
+
+  /**
+   * Calls an operation with the given fields added to the current scope.
+   *
+   * @param fields the fields to bind.
+   * @param op the operation to call.
+   * @return the result of the operation.
+   * @param <R> the result type.
+   * @throws Exception if the operation throws.
+   */
+  <R> R call(@NotNull List<Field> fields, @NotNull Callable<R> op) throws Exception;
+
+  /**
+   * Joins the fields of an enclosing scope with new fields without copying either list.
+   *
+   * @param parent the fields of the enclosing scope.
+   * @param fields the fields to add.
+   * @return an unmodifiable list of both.
+   */
+  @NotNull
+  static List<Field> join(@NotNull List<Field> parent, @NotNull List<Field> fields) {
+    if (parent.isEmpty()) {
+      return Collections.unmodifiableList(fields);
+    }
+    if (fields.isEmpty()) {
+      return parent;
+    }
+    return new JoinedFieldList(parent, fields);
+  }
+
+  /**
+   * @return the scoped context found by the service loader, or a thread local implementation.
+   */
+  @NotNull
+  static ScopedContext getInstance() {
+    return ScopedContextLazyHolder.INSTANCE;
+  }
+}
+
+class ScopedContextLazyHolder {
+  static ScopedContext init(Iterator<ScopedContextProvider> iterator) {
+    try {
+      if (iterator.hasNext()) {
+        return iterator.next().getScopedContext();
+      }
+    } catch (ServiceConfigurationError | LinkageError e) {
+      // a provider that cannot be loaded on this JVM, e.g. one built for a newer release.
+    }
+    return new ThreadLocalScopedContext();
+  }
+
+  static final ScopedContext INSTANCE =
+      init(ServiceLoader.load(ScopedContextProvider.class).iterator());
+}
+
+final class JoinedFieldList extends AbstractList<Field> {
+  private final List<Field> parent;
+  private final List<Field> fields;
+  private final int size;
+
+  JoinedFieldList(List<Field> parent, List<Field> fields) {
+    this.parent = parent;
+    this.fields = fields;
+    this.size = parent.size() + fields.size();
+  }
+
+  @Override
+  public Field get(int index) {
+    final int parentSize = parent.size();
+    return index < parentSize ? parent.get(index) : fields.get(index - parentSize);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
+
+final class ThreadLocalScopedContext implements ScopedContext {
+  private static final ThreadLocal<List<Field>> FIELDS =
+      ThreadLocal.withInitial(Collections::emptyList);
+
+  @Override
+  public @NotNull List<Field> fields() {
+    return FIELDS.get();
+  }
+
+  @Override
+  public void run(@NotNull List<Field> fields, @NotNull Runnable op) {
+    final List<Field> parent = FIELDS.get();
+    FIELDS.set(ScopedContext.join(parent, fields));
+    try {
+      op.run();
+    } finally {
+      FIELDS.set(parent);
+    }
+  }
+
+  @Override
+  public <R> R call(@NotNull List<Field> fields, @NotNull Callable<R> op) throws Exception {
+    final List<Field> parent = FIELDS.get();
+    FIELDS.set(ScopedContext.join(parent, fields));
+    try {
+      return op.call();
+    } finally {
+      FIELDS.set(parent);
+    }
+  }
+}
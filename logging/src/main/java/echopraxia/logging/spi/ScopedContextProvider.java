@@ -0,0 +1,11 @@
+package echopraxia.logging.spi;
+
+/**
+ * Provides the scoped context through {@code ServiceLoader}.
+ *
+ * @since 4.0
+ */
+public interface ScopedContextProvider {
+
+  ScopedContext getScopedContext();
+}
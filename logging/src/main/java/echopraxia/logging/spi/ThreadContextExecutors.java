@@ -0,0 +1,273 @@
+package echopraxia.logging.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Wraps executors and tasks so that they carry a logger's thread context to the thread that runs
+ * them.
+ *
+ * <p>The thread context is captured through {@link CoreLogger#threadLocal()} when a task is
+ * submitted, applied on the worker thread before the task runs, and the worker's previous state is
+ * put back afterwards. Context fields added with {@code withFields} travel with the logger itself,
+ * and fields from {@code withThreadContext} are resolved from the propagated MDC, so both are
+ * available to a task that logs with the same logger.
+ *
+ * <pre>{@code
+ * ExecutorService executor = ThreadContextExecutors.executorService(logger.core(), pool);
+ * CompletableFuture.supplyAsync(() -> fetch(request), executor);
+ * }</pre>
+ *
+ * <p>Virtual thread executors ({@code Executors.newVirtualThreadPerTaskExecutor()}) are wrapped the
+ * same way as any other {@code ExecutorService}. Tasks forked directly inside a {@code
+ * ForkJoinPool} (i.e. {@code ForkJoinTask.fork()}) do not go through the executor and must be
+ * wrapped with {@link #runnable(CoreLogger, Runnable)} or {@link #callable(CoreLogger, Callable)}.
+ */
+public final class ThreadContextExecutors {
+
+  private ThreadContextExecutors() {}
+
+  /**
+   * Wraps an executor so that every task runs with the thread context of the submitting thread.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param executor the executor to wrap.
+   * @return the wrapped executor.
+   */
+  @NotNull
+  public static Executor executor(@NotNull CoreLogger core, @NotNull Executor executor) {
+    final Supplier<Runnable> threadLocal = core.threadLocal();
+    return command -> executor.execute(runnable(threadLocal, command));
+  }
+
+  /**
+   * Wraps an executor service so that every task runs with the thread context of the submitting
+   * thread. Lifecycle methods are passed through to the underlying service.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param executorService the executor service to wrap.
+   * @return the wrapped executor service.
+   */
+  @NotNull
+  public static ExecutorService executorService(
+      @NotNull CoreLogger core, @NotNull ExecutorService executorService) {
+    return new ThreadContextExecutorService(core.threadLocal(), executorService);
+  }
+
+  /**
+   * Captures the current thread context and returns a runnable that applies it around the task.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param task the task to run.
+   * @return the wrapped runnable.
+   */
+  @NotNull
+  public static Runnable runnable(@NotNull CoreLogger core, @NotNull Runnable task) {
+    return runnable(core.threadLocal(), task);
+  }
+
+  /**
+   * Captures the current thread context and returns a callable that applies it around the task.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param task the task to call.
+   * @return the wrapped callable.
+   * @param <V> the result type.
+   */
+  @NotNull
+  public static <V> Callable<V> callable(@NotNull CoreLogger core, @NotNull Callable<V> task) {
+    return callable(core.threadLocal(), task);
+  }
+
+  /**
+   * Captures the current thread context and returns a supplier that applies it around the task.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param task the supplier to call.
+   * @return the wrapped supplier.
+   * @param <V> the result type.
+   */
+  @NotNull
+  public static <V> Supplier<V> supplier(@NotNull CoreLogger core, @NotNull Supplier<V> task) {
+    final Supplier<Runnable> threadLocal = core.threadLocal();
+    final Runnable apply = threadLocal.get();
+    return () -> {
+      final Runnable restore = threadLocal.get();
+      apply.run();
+      try {
+        return task.get();
+      } finally {
+        restore.run();
+      }
+    };
+  }
+
+  /**
+   * Runs a supplier asynchronously with the thread context of the calling thread.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param task the supplier to call.
+   * @param executor the executor to run the supplier in.
+   * @return the completable future.
+   * @param <V> the result type.
+   */
+  @NotNull
+  public static <V> CompletableFuture<V> supplyAsync(
+      @NotNull CoreLogger core, @NotNull Supplier<V> task, @NotNull Executor executor) {
+    return CompletableFuture.supplyAsync(supplier(core, task), executor);
+  }
+
+  /**
+   * Runs a task asynchronously with the thread context of the calling thread.
+   *
+   * @param core the core logger providing the thread context function.
+   * @param task the task to run.
+   * @param executor the executor to run the task in.
+   * @return the completable future.
+   */
+  @NotNull
+  public static CompletableFuture<Void> runAsync(
+      @NotNull CoreLogger core, @NotNull Runnable task, @NotNull Executor executor) {
+    return CompletableFuture.runAsync(runnable(core, task), executor);
+  }
+
+  static Runnable runnable(Supplier<Runnable> threadLocal, Runnable task) {
+    // submitting thread
+    final Runnable apply = threadLocal.get();
+    return () -> {
+      // worker thread, keep its own state so it can be put back afterwards
+      final Runnable restore = threadLocal.get();
+      apply.run();
+      try {
+        task.run();
+      } finally {
+        restore.run();
+      }
+    };
+  }
+
+  static <V> Callable<V> callable(Supplier<Runnable> threadLocal, Callable<V> task) {
+    final Runnable apply = threadLocal.get();
+    return () -> {
+      final Runnable restore = threadLocal.get();
+      apply.run();
+      try {
+        return task.call();
+      } finally {
+        restore.run();
+      }
+    };
+  }
+
+  static final class ThreadContextExecutorService implements ExecutorService {
+    private final Supplier<Runnable> threadLocal;
+    private final ExecutorService delegate;
+
+    ThreadContextExecutorService(Supplier<Runnable> threadLocal, ExecutorService delegate) {
+      this.threadLocal = threadLocal;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+      delegate.execute(runnable(threadLocal, command));
+    }
+
+    @Override
+    public @NotNull <T> Future<T> submit(@NotNull Callable<T> task) {
+      return delegate.submit(callable(threadLocal, task));
+    }
+
+    @Override
+    public @NotNull <T> Future<T> submit(@NotNull Runnable task, T result) {
+      return delegate.submit(runnable(threadLocal, task), result);
+    }
+
+    @Override
+    public @NotNull Future<?> submit(@NotNull Runnable task) {
+      return delegate.submit(runnable(threadLocal, task));
+    }
+
+    @Override
+    public @NotNull <T> List<Future<T>> invokeAll(@NotNull Collection<? extends Callable<T>> tasks)
+        throws InterruptedException {
+      return delegate.invokeAll(wrap(tasks));
+    }
+
+    @Override
+    public @NotNull <T> List<Future<T>> invokeAll(
+        @NotNull Collection<? extends Callable<T>> tasks, long timeout, @NotNull TimeUnit unit)
+        throws InterruptedException {
+      return delegate.invokeAll(wrap(tasks), timeout, unit);
+    }
+
+    @Override
+    public @NotNull <T> T invokeAny(@NotNull Collection<? extends Callable<T>> tasks)
+        throws InterruptedException, ExecutionException {
+      return delegate.invokeAny(wrap(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(
+        @NotNull Collection<? extends Callable<T>> tasks, long timeout, @NotNull TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return delegate.invokeAny(wrap(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit)
+        throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+
+    private <T> List<Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
+      // all tasks share the same captured context
+      final Runnable apply = threadLocal.get();
+      final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+      for (Callable<T> task : tasks) {
+        wrapped.add(
+            () -> {
+              final Runnable restore = threadLocal.get();
+              apply.run();
+              try {
+                return task.call();
+              } finally {
+                restore.run();
+              }
+            });
+      }
+      return wrapped;
+    }
+  }
+}
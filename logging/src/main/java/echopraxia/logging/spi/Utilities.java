@@ -25,11 +25,29 @@ public final class Utilities {
     return new MemoizingSupplier<>(supplier);
   }
 
+  /**
+   * Converts a thread context map into fields, reusing the fields from the last conversion on this
+   * thread if the map has not changed.
+   *
+   * <p>The map is compared by identity first, and then by content. This assumes the map is a
+   * snapshot that is not modified after being handed out, i.e. {@code MDC.getCopyOfContextMap()},
+   * Logback's read-only property map, or Log4J's {@code ThreadContext.getImmutableContext()}.
+   *
+   * @param contextMap the thread context map, may be null.
+   * @return an unmodifiable list of fields.
+   */
+  public @NotNull static List<Field> buildCachedThreadContext(Map<String, String> contextMap) {
+    if (contextMap == null || contextMap.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return THREAD_CONTEXT_CACHE.get().fields(contextMap);
+  }
+
   public @NotNull static List<Field> buildThreadContext(Map<String, String> contextMap) {
     if (contextMap == null || contextMap.isEmpty()) {
       return Collections.emptyList();
     }
-    List<Field> list = new ArrayList<>();
+    List<Field> list = new ArrayList<>(contextMap.size());
     for (Map.Entry<String, String> e : contextMap.entrySet()) {
       Field field = Field.keyValue(e.getKey(), Value.string(e.getValue()));
       list.add(field);
@@ -58,7 +76,29 @@ public final class Utilities {
 
   public @NotNull static Function<Supplier<Map<String, String>>, Supplier<List<Field>>>
       threadContext() {
-    return getThreadContextFunction(Utilities::buildThreadContext);
+    return getThreadContextFunction(Utilities::buildCachedThreadContext);
+  }
+
+  private static final ThreadLocal<ThreadContextCache> THREAD_CONTEXT_CACHE =
+      ThreadLocal.withInitial(ThreadContextCache::new);
+
+  /** Holds the last thread context map seen on this thread and the fields built from it. */
+  static final class ThreadContextCache {
+    private Map<String, String> contextMap;
+    private List<Field> fields = Collections.emptyList();
+
+    List<Field> fields(@NotNull Map<String, String> newContextMap) {
+      if (newContextMap != contextMap) {
+        // MDC is usually set once per request, so a copy of the map is usually equal.
+        if (contextMap == null
+            || contextMap.size() != newContextMap.size()
+            || !contextMap.equals(newContextMap)) {
+          fields = Collections.unmodifiableList(buildThreadContext(newContextMap));
+        }
+        contextMap = newContextMap;
+      }
+      return fields;
+    }
   }
 
   @NotNull
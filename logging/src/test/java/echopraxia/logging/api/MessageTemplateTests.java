@@ -0,0 +1,62 @@
+package echopraxia.logging.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class MessageTemplateTests {
+
+  @Test
+  public void testFormat() {
+    MessageTemplate template = MessageTemplate.of("hello {}, you are {}");
+    assertThat(template.anchorCount()).isEqualTo(2);
+    assertThat(template.format(Arrays.asList("will", 13))).isEqualTo("hello will, you are 13");
+  }
+
+  @Test
+  public void testMissingArguments() {
+    MessageTemplate template = MessageTemplate.of("{} and {} and {}");
+    assertThat(template.format(Arrays.asList(1, 2))).isEqualTo("1 and 2 and {}");
+  }
+
+  @Test
+  public void testExtraArguments() {
+    MessageTemplate template = MessageTemplate.of("only {}");
+    assertThat(template.format(Arrays.asList(1, 2))).isEqualTo("only 1");
+  }
+
+  @Test
+  public void testEscapes() {
+    MessageTemplate escaped = MessageTemplate.of("literal \\{} then {}");
+    assertThat(escaped.anchorCount()).isEqualTo(1);
+    assertThat(escaped.format(Collections.singletonList(1))).isEqualTo("literal {} then 1");
+
+    MessageTemplate backslash = MessageTemplate.of("path C:\\\\{}");
+    assertThat(backslash.anchorCount()).isEqualTo(1);
+    assertThat(backslash.format(Collections.singletonList("dir"))).isEqualTo("path C:\\dir");
+  }
+
+  @Test
+  public void testFormatTo() {
+    StringBuilder builder = new StringBuilder("prefix ");
+    MessageTemplate.of("{}={}").formatTo(builder, new Object[] {"a", "b"});
+    assertThat(builder.toString()).isEqualTo("prefix a=b");
+  }
+
+  @Test
+  public void testCached() {
+    String template = "cached {}";
+    assertThat(MessageTemplate.of(template)).isSameAs(MessageTemplate.of(template));
+  }
+
+  @Test
+  public void testForArity() {
+    assertThat(MessageTemplate.forArity(0).template()).isEqualTo("");
+    assertThat(MessageTemplate.forArity(3).template()).isEqualTo("{} {} {}");
+    assertThat(MessageTemplate.forArity(3)).isSameAs(MessageTemplate.forArity(3));
+    assertThat(MessageTemplate.forArity(20).anchorCount()).isEqualTo(20);
+    assertThat(MessageTemplate.forArity(2).format(Arrays.asList("a", "b"))).isEqualTo("a b");
+  }
+}
@@ -0,0 +1,75 @@
+package echopraxia.logging.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.fake.FakeCoreLogger;
+import echopraxia.logging.fake.FakeLoggingContext;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+public class JfrEventsTests {
+
+  private final FakeCoreLogger core = new FakeCoreLogger(JfrEventsTests.class.getName());
+
+  @Test
+  public void testNothingIsRecordedWhenDisabled() {
+    assertThat(JfrEvents.beginDispatch()).isNull();
+    assertThat(JfrEvents.beginFieldsBuilt()).isNull();
+    assertThat(JfrEvents.test(Condition.always(), Level.INFO, FakeLoggingContext.empty(core)))
+        .isTrue();
+  }
+
+  @Test
+  public void testEventsAreRecorded() throws Exception {
+    Path file = Files.createTempFile("echopraxia", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(ConditionEvaluated.class).withThreshold(Duration.ZERO);
+      recording.enable(FieldsBuilt.class).withThreshold(Duration.ZERO);
+      recording.enable(EventDispatched.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      JfrEvents.test(Condition.never(), Level.INFO, FakeLoggingContext.empty(core));
+
+      FieldsBuilt fieldsBuilt = JfrEvents.beginFieldsBuilt();
+      List<Field> fields = Collections.singletonList(Field.keyValue("a", Value.number(1)));
+      JfrEvents.commitFieldsBuilt(fieldsBuilt, core.getName(), fields);
+
+      EventDispatched dispatched = JfrEvents.beginDispatch();
+      JfrEvents.commitDispatch(dispatched, core.getName(), Level.WARN);
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    Files.delete(file);
+
+    RecordedEvent condition = find(events, "echopraxia.ConditionEvaluated");
+    assertThat(condition.getString("level")).isEqualTo("INFO");
+    assertThat(condition.getBoolean("result")).isFalse();
+
+    RecordedEvent fieldsBuilt = find(events, "echopraxia.FieldsBuilt");
+    assertThat(fieldsBuilt.getInt("fieldCount")).isEqualTo(1);
+
+    RecordedEvent dispatched = find(events, "echopraxia.EventDispatched");
+    assertThat(dispatched.getString("level")).isEqualTo("WARN");
+  }
+
+  private RecordedEvent find(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType().getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No event " + name));
+  }
+}
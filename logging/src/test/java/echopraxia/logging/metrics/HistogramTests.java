@@ -0,0 +1,48 @@
+package echopraxia.logging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTests {
+
+  @Test
+  public void testEmptyHistogram() {
+    Histogram histogram = new Histogram();
+    assertThat(histogram.getCount()).isZero();
+    assertThat(histogram.getMean()).isZero();
+    assertThat(histogram.getValueAtPercentile(99)).isZero();
+  }
+
+  @Test
+  public void testBucketsAreWithinPrecision() {
+    for (long value = 1; value < Histogram.MAX_VALUE; value = value * 3 + 1) {
+      int index = Histogram.bucketIndex(value);
+      long upper = Histogram.bucketUpperBound(index);
+      assertThat(upper).isGreaterThanOrEqualTo(value);
+      assertThat((double) (upper - value)).isLessThanOrEqualTo(value * 0.125);
+    }
+  }
+
+  @Test
+  public void testPercentiles() {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+    assertThat(histogram.getCount()).isEqualTo(1000);
+    assertThat(histogram.getMax()).isEqualTo(1000);
+    assertThat(histogram.getMean()).isEqualTo(500.5);
+    assertThat(histogram.getValueAtPercentile(50)).isBetween(500L, 563L);
+    assertThat(histogram.getValueAtPercentile(99)).isBetween(990L, 1000L);
+  }
+
+  @Test
+  public void testOutOfRangeValues() {
+    Histogram histogram = new Histogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+    assertThat(histogram.getCount()).isEqualTo(2);
+    assertThat(histogram.getMax()).isEqualTo(Histogram.MAX_VALUE);
+  }
+}
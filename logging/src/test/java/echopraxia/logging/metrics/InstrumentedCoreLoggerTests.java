@@ -0,0 +1,191 @@
+package echopraxia.logging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.fake.FakeCoreLogger;
+import echopraxia.logging.fake.FakeLoggerContext;
+import echopraxia.logging.spi.CoreLogger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedCoreLoggerTests {
+
+  private final FieldBuilder fb = FieldBuilder.instance();
+
+  @Test
+  public void testEnabledStatements() {
+    InstrumentedCoreLoggerFilter filter = newFilter(1, Collections.emptyList());
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+
+    core.log(Level.INFO, "no fields");
+    core.log(Level.INFO, "fields {}", b -> b.string("name", "value"), fb);
+
+    LoggerMetrics metrics = ((InstrumentedCoreLogger) core).metrics(Level.INFO);
+    assertThat(metrics.getAttempted()).isEqualTo(2);
+    assertThat(metrics.getEnabled()).isEqualTo(2);
+    assertThat(metrics.getConditionRejections()).isZero();
+    // the fake logger applies the function for both its arguments and its fields.
+    assertThat(metrics.getFieldTime().getCount()).isPositive();
+    assertThat(metrics.getDispatchTime().getCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testLevelRejections() {
+    InstrumentedCoreLoggerFilter filter = newFilter(1, Collections.emptyList());
+    Condition noDebug = (level, ctx) -> level != Level.DEBUG;
+    CoreLogger core =
+        filter.apply(
+            new FakeCoreLogger(
+                getClass().getName(),
+                FakeLoggerContext.empty(),
+                noDebug,
+                ForkJoinPool.commonPool(),
+                () -> () -> {}));
+    AtomicInteger calls = new AtomicInteger();
+
+    core.log(Level.DEBUG, "no fields");
+    core.log(
+        Level.DEBUG,
+        "fields {}",
+        b -> {
+          calls.incrementAndGet();
+          return b.string("name", "value");
+        },
+        fb);
+    core.log(
+        Level.DEBUG,
+        "function2 {}",
+        (FieldBuilder b, String name, Integer value) -> {
+          calls.incrementAndGet();
+          return b.number(name, value);
+        },
+        "name",
+        1,
+        fb);
+
+    LoggerMetrics metrics = ((InstrumentedCoreLogger) core).metrics(Level.DEBUG);
+    assertThat(calls.get()).isZero();
+    assertThat(metrics.getAttempted()).isEqualTo(3);
+    assertThat(metrics.getLevelRejections()).isEqualTo(3);
+    assertThat(metrics.getEnabled()).isZero();
+    assertThat(metrics.getConditionRejections()).isZero();
+    assertThat(metrics.getDispatchTime().getCount()).isZero();
+  }
+
+  @Test
+  public void testConditionRejections() {
+    InstrumentedCoreLoggerFilter filter = newFilter(1, Collections.emptyList());
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+    Condition onlyErrors = (level, ctx) -> level == Level.ERROR;
+
+    core.withCondition(onlyErrors).log(Level.INFO, "logger condition");
+    core.log(Level.INFO, onlyErrors, "statement condition", b -> b.string("name", "value"), fb);
+    core.withCondition(Condition.never()).log(Level.INFO, "never");
+    core.log(Level.ERROR, onlyErrors, "error");
+
+    LoggerMetrics info = ((InstrumentedCoreLogger) core).metrics(Level.INFO);
+    assertThat(info.getAttempted()).isEqualTo(3);
+    assertThat(info.getEnabled()).isZero();
+    assertThat(info.getConditionRejections()).isEqualTo(3);
+    assertThat(info.getConditionTime().getCount()).isEqualTo(2);
+
+    LoggerMetrics error = ((InstrumentedCoreLogger) core).metrics(Level.ERROR);
+    assertThat(error.getEnabled()).isEqualTo(1);
+  }
+
+  @Test
+  public void testConditionRejectsFieldBuilderFunction2() {
+    InstrumentedCoreLoggerFilter filter = newFilter(1, Collections.emptyList());
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+    AtomicInteger calls = new AtomicInteger();
+    FieldBuilderFunction2<FieldBuilder, String, Integer> f =
+        (b, name, value) -> {
+          calls.incrementAndGet();
+          return b.number(name, value);
+        };
+
+    CoreLogger never = core.withCondition(Condition.never());
+    never.log(Level.INFO, "logger condition {}", f, "name", 1, fb);
+    core.log(Level.INFO, Condition.never(), "statement condition {}", f, "name", 1, fb);
+    assertThat(calls.get()).isZero();
+
+    core.log(Level.INFO, "enabled {}", f, "name", 1, fb);
+    assertThat(calls.get()).isPositive();
+
+    LoggerMetrics metrics = ((InstrumentedCoreLogger) core).metrics(Level.INFO);
+    assertThat(metrics.getAttempted()).isEqualTo(3);
+    assertThat(metrics.getConditionRejections()).isEqualTo(2);
+    assertThat(metrics.getEnabled()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDispatchTimeExcludesConditionAndFieldTime() {
+    InstrumentedCoreLoggerFilter filter = newFilter(1, Collections.emptyList());
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+    long pause = TimeUnit.MILLISECONDS.toNanos(100);
+    Condition slowCondition =
+        (level, ctx) -> {
+          LockSupport.parkNanos(pause);
+          return true;
+        };
+
+    core.log(
+        Level.INFO,
+        slowCondition,
+        "slow {}",
+        b -> {
+          LockSupport.parkNanos(pause);
+          return b.string("name", "value");
+        },
+        fb);
+
+    LoggerMetrics metrics = ((InstrumentedCoreLogger) core).metrics(Level.INFO);
+    assertThat(metrics.getConditionTime().getMax()).isGreaterThanOrEqualTo(pause);
+    assertThat(metrics.getFieldTime().getMax()).isGreaterThanOrEqualTo(pause);
+    // the fake logger does almost nothing else, so the dispatch time is well under one pause.
+    assertThat(metrics.getDispatchTime().getCount()).isEqualTo(1);
+    assertThat(metrics.getDispatchTime().getMax()).isLessThan(pause);
+  }
+
+  @Test
+  public void testSamplingDisabled() {
+    InstrumentedCoreLoggerFilter filter = newFilter(0, Collections.emptyList());
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+
+    core.log(Level.INFO, "fields {}", b -> b.string("name", "value"), fb);
+
+    LoggerMetrics metrics = ((InstrumentedCoreLogger) core).metrics(Level.INFO);
+    assertThat(metrics.getEnabled()).isEqualTo(1);
+    assertThat(metrics.getFieldTime().getCount()).isZero();
+    assertThat(metrics.getDispatchTime().getCount()).isZero();
+  }
+
+  @Test
+  public void testRegistryIsToldOncePerNameAndLevel() {
+    List<LoggerMetrics> registered = new ArrayList<>();
+    InstrumentedCoreLoggerFilter filter = newFilter(1, List.of(registered::add));
+    CoreLogger core = filter.apply(new FakeCoreLogger(getClass().getName()));
+
+    core.log(Level.INFO, "one");
+    core.withFields(b -> b.string("name", "value"), fb).log(Level.INFO, "two");
+    filter.apply(new FakeCoreLogger(getClass().getName())).log(Level.DEBUG, "three");
+
+    assertThat(registered).hasSize(2);
+    assertThat(filter.metrics()).containsExactlyInAnyOrderElementsOf(registered);
+  }
+
+  private InstrumentedCoreLoggerFilter newFilter(
+      int sampleInterval, List<MetricsRegistry> registries) {
+    return new InstrumentedCoreLoggerFilter(sampleInterval, registries);
+  }
+}
@@ -0,0 +1,58 @@
+package echopraxia.logging.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import org.junit.jupiter.api.Test;
+
+public class ScopedContextTests {
+
+  @Test
+  public void testProviderIsUsed() {
+    ScopedContext expected = new ThreadLocalScopedContext();
+    List<ScopedContextProvider> providers = List.of(() -> expected);
+
+    assertThat(ScopedContextLazyHolder.init(providers.iterator())).isSameAs(expected);
+  }
+
+  @Test
+  public void testNoProviderFallsBackToThreadLocal() {
+    assertThat(ScopedContextLazyHolder.init(Collections.emptyIterator()))
+        .isInstanceOf(ThreadLocalScopedContext.class);
+  }
+
+  @Test
+  public void testUnloadableProviderFallsBackToThreadLocal() {
+    Iterator<ScopedContextProvider> iterator =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public ScopedContextProvider next() {
+            throw new ServiceConfigurationError(
+                "Provider could not be instantiated", new UnsupportedClassVersionError());
+          }
+        };
+
+    assertThat(ScopedContextLazyHolder.init(iterator))
+        .isInstanceOf(ThreadLocalScopedContext.class);
+  }
+
+  @Test
+  public void testProviderLinkageErrorFallsBackToThreadLocal() {
+    List<ScopedContextProvider> providers =
+        List.of(
+            () -> {
+              throw new NoClassDefFoundError("java/lang/ScopedValue");
+            });
+
+    assertThat(ScopedContextLazyHolder.init(providers.iterator()))
+        .isInstanceOf(ThreadLocalScopedContext.class);
+  }
+}
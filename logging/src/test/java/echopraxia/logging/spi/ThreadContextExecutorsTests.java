@@ -0,0 +1,76 @@
+package echopraxia.logging.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.logging.fake.FakeCoreLogger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ThreadContextExecutorsTests {
+
+  private static final ThreadLocal<String> requestId = new ThreadLocal<>();
+
+  private ExecutorService pool;
+
+  private CoreLogger core;
+
+  @BeforeEach
+  public void setUp() {
+    pool = Executors.newSingleThreadExecutor();
+    Supplier<Runnable> tls =
+        () -> {
+          String value = requestId.get();
+          return () -> requestId.set(value);
+        };
+    core = new FakeCoreLogger(ThreadContextExecutorsTests.class.getName()).withThreadLocal(tls);
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    requestId.remove();
+    pool.shutdown();
+    assertThat(pool.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void testExecutorServicePropagatesThreadContext() throws Exception {
+    ExecutorService executor = ThreadContextExecutors.executorService(core, pool);
+    requestId.set("request-1");
+    assertThat(executor.submit(requestId::get).get()).isEqualTo("request-1");
+  }
+
+  @Test
+  public void testWorkerThreadContextIsRestored() throws Exception {
+    pool.submit(() -> requestId.set("worker")).get();
+
+    ExecutorService executor = ThreadContextExecutors.executorService(core, pool);
+    requestId.set("request-1");
+    executor.submit(() -> {}).get();
+
+    assertThat(pool.submit(requestId::get).get()).isEqualTo("worker");
+  }
+
+  @Test
+  public void testContextIsCapturedWhenWrapped() throws Exception {
+    requestId.set("request-1");
+    Supplier<String> task = ThreadContextExecutors.supplier(core, requestId::get);
+    requestId.set("request-2");
+
+    assertThat(CompletableFuture.supplyAsync(task, pool).get()).isEqualTo("request-1");
+    assertThat(requestId.get()).isEqualTo("request-2");
+  }
+
+  @Test
+  public void testSupplyAsync() throws Exception {
+    requestId.set("request-1");
+    CompletableFuture<String> future =
+        ThreadContextExecutors.supplyAsync(core, requestId::get, pool);
+    assertThat(future.get()).isEqualTo("request-1");
+  }
+}
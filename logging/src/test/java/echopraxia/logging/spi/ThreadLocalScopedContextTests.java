@@ -0,0 +1,86 @@
+package echopraxia.logging.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ThreadLocalScopedContextTests {
+
+  private final ScopedContext context = new ThreadLocalScopedContext();
+
+  private final Field requestId = Field.keyValue("request_id", Value.string("1234"));
+  private final Field userId = Field.keyValue("user_id", Value.string("user"));
+
+  @Test
+  public void testUnboundIsEmpty() {
+    assertThat(context.fields()).isEmpty();
+  }
+
+  @Test
+  public void testNestedRunSetsAndRestores() {
+    List<List<Field>> seen = new ArrayList<>();
+    context.run(
+        List.of(requestId),
+        () -> {
+          seen.add(context.fields());
+          context.run(List.of(userId), () -> seen.add(context.fields()));
+          seen.add(context.fields());
+        });
+
+    assertThat(seen.get(0)).containsExactly(requestId);
+    assertThat(seen.get(1)).containsExactly(requestId, userId);
+    assertThat(seen.get(2)).containsExactly(requestId);
+    assertThat(context.fields()).isEmpty();
+  }
+
+  @Test
+  public void testNestedCallSetsAndRestores() throws Exception {
+    List<Field> inner =
+        context.call(
+            List.of(requestId),
+            () -> {
+              List<Field> fields = context.call(List.of(userId), context::fields);
+              assertThat(context.fields()).containsExactly(requestId);
+              return fields;
+            });
+
+    assertThat(inner).containsExactly(requestId, userId);
+    assertThat(context.fields()).isEmpty();
+  }
+
+  @Test
+  public void testRestoredWhenOperationThrows() {
+    try {
+      context.run(
+          List.of(requestId),
+          () -> {
+            throw new IllegalStateException("boom");
+          });
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("boom");
+    }
+    assertThat(context.fields()).isEmpty();
+  }
+
+  @Test
+  public void testFieldsAreNotVisibleToOtherThreads() throws Exception {
+    List<List<Field>> seen = new ArrayList<>();
+    context.run(
+        List.of(requestId),
+        () -> {
+          Thread thread = new Thread(() -> seen.add(context.fields()));
+          thread.start();
+          try {
+            thread.join();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+
+    assertThat(seen.get(0)).isEmpty();
+  }
+}
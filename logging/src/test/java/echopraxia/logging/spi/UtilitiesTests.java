@@ -0,0 +1,50 @@
+package echopraxia.logging.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class UtilitiesTests {
+
+  @Test
+  public void testCachedThreadContextReusesFieldsForSameMap() {
+    Map<String, String> contextMap = Collections.singletonMap("mdckey", "mdcvalue");
+    List<Field> first = Utilities.buildCachedThreadContext(contextMap);
+    List<Field> second = Utilities.buildCachedThreadContext(contextMap);
+    assertThat(second).isSameAs(first);
+    assertThat(first).containsExactly(Field.keyValue("mdckey", Value.string("mdcvalue")));
+  }
+
+  @Test
+  public void testCachedThreadContextReusesFieldsForEqualMap() {
+    Map<String, String> contextMap = new HashMap<>();
+    contextMap.put("mdckey", "mdcvalue");
+    List<Field> first = Utilities.buildCachedThreadContext(contextMap);
+    List<Field> second = Utilities.buildCachedThreadContext(new HashMap<>(contextMap));
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void testCachedThreadContextRebuildsWhenMapChanges() {
+    Map<String, String> contextMap = new HashMap<>();
+    contextMap.put("mdckey", "mdcvalue");
+    List<Field> first = Utilities.buildCachedThreadContext(new HashMap<>(contextMap));
+
+    contextMap.put("mdckey", "othervalue");
+    List<Field> second = Utilities.buildCachedThreadContext(new HashMap<>(contextMap));
+    assertThat(second).isNotSameAs(first);
+    assertThat(second).containsExactly(Field.keyValue("mdckey", Value.string("othervalue")));
+  }
+
+  @Test
+  public void testCachedThreadContextWithEmptyMap() {
+    assertThat(Utilities.buildCachedThreadContext(null)).isEmpty();
+    assertThat(Utilities.buildCachedThreadContext(Collections.emptyMap())).isEmpty();
+  }
+}
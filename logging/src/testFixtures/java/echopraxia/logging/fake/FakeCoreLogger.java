@@ -129,6 +129,11 @@ public class FakeCoreLogger implements CoreLogger {
     return new FakeCoreLogger(fqcn, context, this.condition.and(condition), executor, newSupplier);
   }
 
+  @Override
+  public @NotNull Supplier<Runnable> threadLocal() {
+    return tlsSupplier;
+  }
+
   @Override
   public @NotNull CoreLogger withCondition(@NotNull Condition condition) {
     return new FakeCoreLogger(fqcn, context, this.condition.and(condition), executor, tlsSupplier);
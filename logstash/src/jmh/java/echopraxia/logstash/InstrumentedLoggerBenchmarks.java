@@ -0,0 +1,67 @@
+package echopraxia.logstash;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.metrics.InstrumentedCoreLoggerFilter;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Compares a plain logger with instrumented loggers at different sample intervals. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class InstrumentedLoggerBenchmarks {
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> unsampledLogger = instrumented(0);
+
+  private static final Logger<FieldBuilder> sampledLogger = instrumented(16);
+
+  private static final Logger<FieldBuilder> alwaysSampledLogger = instrumented(1);
+
+  private static Logger<FieldBuilder> instrumented(int sampleInterval) {
+    InstrumentedCoreLoggerFilter filter =
+        new InstrumentedCoreLoggerFilter(sampleInterval, Collections.emptyList());
+    return LoggerFactory.getLogger(filter.apply(logger.core()), FieldBuilder.instance());
+  }
+
+  @Benchmark
+  public void info() {
+    logger.info("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void infoUnsampled() {
+    unsampledLogger.info("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void infoSampled() {
+    sampledLogger.info("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void infoAlwaysSampled() {
+    alwaysSampledLogger.info("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void traceDisabled() {
+    logger.trace("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public void traceDisabledSampled() {
+    sampledLogger.trace("Message {}", fb -> fb.string("name", "value"));
+  }
+
+  @Benchmark
+  public boolean isDebugEnabledSampled() {
+    return sampledLogger.core().isEnabled(Level.DEBUG);
+  }
+}
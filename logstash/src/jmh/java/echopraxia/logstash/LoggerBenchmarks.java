@@ -1,6 +1,7 @@
 package echopraxia.logstash;
 
 import echopraxia.api.FieldBuilder;
+import echopraxia.api.FieldBuilderResult;
 import echopraxia.logger.Logger;
 import echopraxia.logger.LoggerFactory;
 import echopraxia.logging.api.Condition;
@@ -14,6 +15,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
 @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
 @Fork(1)
+@State(Scope.Benchmark)
 public class LoggerBenchmarks {
   private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
   private static final Exception exception = new RuntimeException();
@@ -27,6 +29,10 @@ public class LoggerBenchmarks {
   private static final Logger<FieldBuilder> contextLogger =
       logger.withFields(fb -> fb.string("foo", "bar"));
 
+  // instance fields, so that a lambda using them has to capture them.
+  private String id = "user-1";
+  private Integer count = 42;
+
   @Benchmark
   public void info() {
     logger.info("Message");
@@ -100,4 +106,58 @@ public class LoggerBenchmarks {
   public void traceWithContextChain() {
     logger.withFields(fb -> fb.string("foo", "bar")).trace("Message");
   }
+
+  @Benchmark
+  public void infoWithArgument() {
+    logger.info("Message {}", LoggerBenchmarks::idField, id);
+  }
+
+  @Benchmark
+  public void traceWithCapturingLambda() {
+    // should never log, but the lambda capturing id is allocated before the level check
+    logger.trace("Message {}", fb -> fb.string("id", id));
+  }
+
+  @Benchmark
+  public void traceWithArgument() {
+    // should never log, and allocates nothing
+    logger.trace("Message {}", LoggerBenchmarks::idField, id);
+  }
+
+  @Benchmark
+  public void traceWithTwoArguments() {
+    // should never log, and allocates nothing
+    logger.trace("Message {} {}", LoggerBenchmarks::idAndCountFields, id, count);
+  }
+
+  @Benchmark
+  public void infoWithFieldList() {
+    logger.info(
+        "Message {} {} {}",
+        fb -> fb.list(fb.string("id", id), fb.number("count", count), fb.bool("admin", true)));
+  }
+
+  @Benchmark
+  public void infoWithEventBuilder() {
+    logger.atInfo().with("id", id).with("count", count).with("admin", true).log("Message {} {} {}");
+  }
+
+  @Benchmark
+  public void traceWithEventBuilder() {
+    // should never log, and allocates nothing
+    logger
+        .atTrace()
+        .with("id", id)
+        .with("count", count)
+        .with("admin", true)
+        .log("Message {} {} {}");
+  }
+
+  private static FieldBuilderResult idField(FieldBuilder fb, String id) {
+    return fb.string("id", id);
+  }
+
+  private static FieldBuilderResult idAndCountFields(FieldBuilder fb, String id, Integer count) {
+    return fb.list(fb.string("id", id), fb.number("count", count));
+  }
 }
@@ -0,0 +1,58 @@
+package echopraxia.logstash;
+
+import echopraxia.api.FieldBuilder;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ThreadContextBenchmarks {
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> threadContextLogger = logger.withThreadContext();
+
+  private int counter;
+
+  @Setup
+  public void setUp() {
+    // A typical request sets up MDC once at the start.
+    for (int i = 0; i < 8; i++) {
+      MDC.put("mdckey" + i, "mdcvalue" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    MDC.clear();
+  }
+
+  @Benchmark
+  public void withThreadContextInfo() {
+    logger.withThreadContext().info("Message");
+  }
+
+  @Benchmark
+  public void threadContextLoggerInfo() {
+    threadContextLogger.info("Message");
+  }
+
+  @Benchmark
+  public void threadContextLoggerInfoWithChangingMDC() {
+    // worst case, MDC changes between every statement.
+    MDC.put("counter", Integer.toString(counter++ & 0xff));
+    threadContextLogger.info("Message");
+  }
+
+  @Benchmark
+  public void withThreadContextTrace() {
+    // should never log
+    logger.withThreadContext().trace("Message");
+  }
+}
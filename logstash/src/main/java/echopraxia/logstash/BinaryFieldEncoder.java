@@ -0,0 +1,143 @@
+package echopraxia.logstash;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import echopraxia.api.Field;
+import echopraxia.api.FieldConstants;
+import echopraxia.api.ThrowableRenderer;
+import echopraxia.jackson.BinaryFormat;
+import echopraxia.jackson.BinaryFrameEncoder;
+import echopraxia.logback.DirectFieldMarker;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Marker;
+
+/**
+ * An encoder that writes each logging event as a binary Smile or CBOR document, followed by the
+ * event's fields from markers and arguments.
+ *
+ * <p>Frames are length prefixed by default, see {@link BinaryFrameEncoder#readFrame}. The matching
+ * {@code jackson-dataformat-smile} or {@code jackson-dataformat-cbor} jar must be on the classpath.
+ *
+ * <pre>{@code
+ * <encoder class="echopraxia.logstash.BinaryFieldEncoder">
+ *   <format>smile</format>
+ *   <lengthPrefixed>true</lengthPrefixed>
+ * </encoder>
+ * }</pre>
+ */
+public class BinaryFieldEncoder extends EncoderBase<ILoggingEvent> {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final BinaryFrameEncoder.EventWriter<ILoggingEvent> eventWriter = this::writeEvent;
+
+  private String format = BinaryFormat.SMILE.name();
+  private boolean lengthPrefixed = true;
+  private BinaryFrameEncoder frameEncoder;
+
+  public String getFormat() {
+    return format;
+  }
+
+  /**
+   * @param format "smile" or "cbor".
+   */
+  public void setFormat(String format) {
+    this.format = format;
+  }
+
+  public boolean isLengthPrefixed() {
+    return lengthPrefixed;
+  }
+
+  public void setLengthPrefixed(boolean lengthPrefixed) {
+    this.lengthPrefixed = lengthPrefixed;
+  }
+
+  @Override
+  public void start() {
+    try {
+      frameEncoder = new BinaryFrameEncoder(BinaryFormat.fromName(format), lengthPrefixed);
+      super.start();
+    } catch (IllegalArgumentException | LinkageError e) {
+      addError("Cannot create binary encoder for format " + format, e);
+    }
+  }
+
+  @Override
+  public byte[] headerBytes() {
+    return EMPTY;
+  }
+
+  @Override
+  public byte[] encode(ILoggingEvent event) {
+    if (!isStarted()) {
+      // start() has already reported why there is no frame encoder.
+      return EMPTY;
+    }
+    try {
+      return frameEncoder.encode(event, eventWriter);
+    } catch (IOException e) {
+      addError("Cannot encode event", e);
+      return EMPTY;
+    }
+  }
+
+  @Override
+  public byte[] footerBytes() {
+    return EMPTY;
+  }
+
+  protected void writeEvent(ILoggingEvent event, JsonGenerator generator) throws IOException {
+    generator.writeNumberField("@timestamp", event.getTimeStamp());
+    generator.writeStringField("level", event.getLevel().toString());
+    generator.writeStringField("logger_name", event.getLoggerName());
+    generator.writeStringField("thread_name", event.getThreadName());
+    generator.writeStringField("message", event.getFormattedMessage());
+
+    final List<Marker> markers = event.getMarkerList();
+    if (markers != null) {
+      for (Marker marker : markers) {
+        writeMarker(marker, generator);
+      }
+    }
+
+    final Object[] arguments = event.getArgumentArray();
+    if (arguments != null) {
+      for (Object argument : arguments) {
+        if (argument instanceof Field) {
+          frameEncoder.writeField((Field) argument, generator);
+        }
+      }
+    }
+
+    final IThrowableProxy throwableProxy = event.getThrowableProxy();
+    if (throwableProxy instanceof ThrowableProxy) {
+      final Throwable throwable = ((ThrowableProxy) throwableProxy).getThrowable();
+      generator.writeFieldName(FieldConstants.EXCEPTION);
+      frameEncoder.writeValue(ThrowableRenderer.defaultRenderer().render(throwable), generator);
+    } else if (throwableProxy != null) {
+      // deserialized events only have the proxy.
+      generator.writeStringField("stack_trace", ThrowableProxyUtil.asString(throwableProxy));
+    }
+  }
+
+  private void writeMarker(Marker marker, JsonGenerator generator) throws IOException {
+    if (marker instanceof Field) {
+      frameEncoder.writeField((Field) marker, generator);
+    } else if (marker instanceof DirectFieldMarker) {
+      frameEncoder.writeFields(((DirectFieldMarker) marker).getFields(), generator);
+    }
+    // aggregate markers hold the logger's context fields as references.
+    final Iterator<Marker> iterator = marker.iterator();
+    while (iterator.hasNext()) {
+      writeMarker(iterator.next(), generator);
+    }
+  }
+}
@@ -4,13 +4,18 @@ import static echopraxia.logging.spi.Utilities.joinFields;
 import static org.slf4j.event.EventConstants.*;
 
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
 import echopraxia.api.*;
 import echopraxia.logback.LogbackLoggerContext;
 import echopraxia.logback.LogbackLoggingContext;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
 import echopraxia.logging.api.LoggingContext;
+import echopraxia.logging.jfr.EventDispatched;
+import echopraxia.logging.jfr.FieldsBuilt;
+import echopraxia.logging.jfr.JfrEvents;
 import echopraxia.logging.spi.CoreLogger;
 import echopraxia.logging.spi.EchopraxiaService;
 import echopraxia.logging.spi.Utilities;
@@ -24,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.MDC;
 import org.slf4j.Marker;
+import org.slf4j.spi.MDCAdapter;
 
 /** The Logstash implementation of CoreLogger. */
 public class LogstashCoreLogger implements CoreLogger {
@@ -60,17 +66,38 @@ public class LogstashCoreLogger implements CoreLogger {
 
   private Supplier<Runnable> mdcContext() {
     return () -> {
-      // rendering thread (saving context from old thread)
-      final Map<String, String> copyOfContextMap = MDC.getCopyOfContextMap();
+      // rendering thread (saving context from old thread), logback's map is read-only
+      final Map<String, String> contextMap = getMDCPropertyMap();
       // function runs in executor thread (applying context to new thread)
       return () -> {
-        if (copyOfContextMap != null) {
-          MDC.setContextMap(copyOfContextMap);
+        final Map<String, String> currentMap = getMDCPropertyMap();
+        if (contextMap == currentMap) {
+          return; // nothing changed, don't copy the map
+        }
+        if (contextMap == null || contextMap.isEmpty()) {
+          MDC.clear();
+        } else if (!contextMap.equals(currentMap)) {
+          MDC.setContextMap(contextMap);
         }
       };
     };
   }
 
+  /**
+   * Returns the current MDC map without copying it if the MDC adapter is Logback's, which hands out
+   * a read-only map that is only replaced when MDC changes.
+   *
+   * @return the MDC map, may be null.
+   */
+  @Nullable
+  protected static Map<String, String> getMDCPropertyMap() {
+    final MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+    if (mdcAdapter instanceof LogbackMDCAdapter) {
+      return ((LogbackMDCAdapter) mdcAdapter).getPropertyMap();
+    }
+    return MDC.getCopyOfContextMap();
+  }
+
   /**
    * Returns the underlying SLF4J logger.
    *
@@ -119,7 +146,7 @@ public class LogstashCoreLogger implements CoreLogger {
   public <FB> @NotNull CoreLogger withFields(
       @NotNull Function<FB, FieldBuilderResult> f, @NotNull FB builder) {
     final LogstashMarkerContext contextWithFields =
-        this.context.withFields(() -> convertToFields(f.apply(builder)));
+        this.context.withFields(() -> buildFields(f, builder));
     return new LogstashCoreLogger(
         fqcn, logger, contextWithFields, condition, threadContextFunction);
   }
@@ -128,7 +155,7 @@ public class LogstashCoreLogger implements CoreLogger {
   public @NotNull CoreLogger withThreadContext(
       @NotNull Function<Supplier<Map<String, String>>, Supplier<List<Field>>> mapTransform) {
     LogstashMarkerContext newContext =
-        context.withFields(mapTransform.apply(MDC::getCopyOfContextMap));
+        context.withFields(mapTransform.apply(LogstashCoreLogger::getMDCPropertyMap));
     return new LogstashCoreLogger(fqcn, logger, newContext, condition, threadContextFunction);
   }
 
@@ -150,6 +177,11 @@ public class LogstashCoreLogger implements CoreLogger {
     return new LogstashCoreLogger(fqcn, logger, context, condition, joinedThreadContextFunction);
   }
 
+  @Override
+  public @NotNull Supplier<Runnable> threadLocal() {
+    return threadContextFunction;
+  }
+
   @Override
   public @NotNull CoreLogger withCondition(@NotNull Condition condition) {
     if (condition == Condition.always()) {
@@ -182,7 +214,7 @@ public class LogstashCoreLogger implements CoreLogger {
       Marker marker = context.resolveMarkers();
       if (logger.isEnabledFor(marker, convertLogbackLevel(level))) {
         LoggingContext snapshotContext = new LogbackLoggingContext(this, context);
-        return condition.test(level, snapshotContext);
+        return JfrEvents.test(condition, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -204,7 +236,7 @@ public class LogstashCoreLogger implements CoreLogger {
       Marker marker = context.resolveMarkers();
       if (logger.isEnabledFor(marker, convertLogbackLevel(level))) {
         LoggingContext snapshotContext = new LogbackLoggingContext(this, context);
-        return bothConditions.test(level, snapshotContext);
+        return JfrEvents.test(bothConditions, level, snapshotContext);
       }
       return false;
     } catch (Exception e) {
@@ -220,7 +252,7 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(marker, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
             new LogbackLoggingContext(this, context.withFields(extraFields));
-        return condition.test(level, snapshotContext);
+        return JfrEvents.test(condition, level, snapshotContext);
       } else {
         return false;
       }
@@ -240,7 +272,7 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(marker, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
             new LogbackLoggingContext(this, context.withFields(extraFields));
-        return this.condition.and(condition).test(level, snapshotContext);
+        return JfrEvents.test(this.condition.and(condition), level, snapshotContext);
       } else {
         return false;
       }
@@ -256,7 +288,8 @@ public class LogstashCoreLogger implements CoreLogger {
       Marker m = context.resolveMarkers();
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext snapshotContext = new LogbackLoggingContext(this, context);
-        if (condition.test(level, snapshotContext)) {
+        if (JfrEvents.test(condition, level, snapshotContext)) {
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, snapshotContext),
               fqcn,
@@ -264,6 +297,7 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               null,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -279,7 +313,8 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
             new LogbackLoggingContext(this, context.withFields(extraFields));
-        if (condition.test(level, snapshotContext)) {
+        if (JfrEvents.test(condition, level, snapshotContext)) {
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, snapshotContext),
               fqcn,
@@ -287,6 +322,7 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               null,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -304,11 +340,13 @@ public class LogstashCoreLogger implements CoreLogger {
       final Marker m = context.resolveMarkers();
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext ctx =
-            new LogbackLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+            new LogbackLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           final Object[] arguments = convertArguments(ctx.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, ctx), fqcn, convertLevel(level), message, arguments, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -328,11 +366,13 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext ctx =
             new LogbackLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (condition.test(level, ctx)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
           final Object[] arguments = convertArguments(ctx.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, ctx), fqcn, convertLevel(level), message, arguments, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -346,7 +386,8 @@ public class LogstashCoreLogger implements CoreLogger {
       final Marker m = context.resolveMarkers();
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext snapshotContext = new LogbackLoggingContext(this, context);
-        if (this.condition.and(condition).test(level, snapshotContext)) {
+        if (JfrEvents.test(this.condition.and(condition), level, snapshotContext)) {
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, snapshotContext),
               fqcn,
@@ -354,6 +395,7 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               null,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -372,7 +414,8 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
             new LogbackLoggingContext(this, context.withFields(extraFields));
-        if (this.condition.and(condition).test(level, snapshotContext)) {
+        if (JfrEvents.test(this.condition.and(condition), level, snapshotContext)) {
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, snapshotContext),
               fqcn,
@@ -380,6 +423,7 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               null,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -398,9 +442,10 @@ public class LogstashCoreLogger implements CoreLogger {
       final Marker m = context.resolveMarkers();
       if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
-            new LogbackLoggingContext(this, context, () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, snapshotContext)) {
+            new LogbackLoggingContext(this, context, () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, snapshotContext)) {
           final Object[] arguments = convertArguments(snapshotContext.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(m, snapshotContext),
               fqcn,
@@ -408,6 +453,7 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               arguments,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -428,9 +474,10 @@ public class LogstashCoreLogger implements CoreLogger {
       if (logger.isEnabledFor(marker, convertLogbackLevel(level))) {
         LoggingContext snapshotContext =
             new LogbackLoggingContext(
-                this, context.withFields(extraFields), () -> convertToFields(f.apply(builder)));
-        if (this.condition.and(condition).test(level, snapshotContext)) {
+                this, context.withFields(extraFields), () -> buildFields(f, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, snapshotContext)) {
           final Object[] arguments = convertArguments(snapshotContext.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(
               resolveLoggerFields(marker, snapshotContext),
               fqcn,
@@ -438,6 +485,60 @@ public class LogstashCoreLogger implements CoreLogger {
               message,
               arguments,
               null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final Marker m = context.resolveMarkers();
+      if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
+        LoggingContext ctx =
+            new LogbackLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(condition, level, ctx)) {
+          final Object[] arguments = convertArguments(ctx.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          logger.log(
+              resolveLoggerFields(m, ctx), fqcn, convertLevel(level), message, arguments, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
+        }
+      }
+    } catch (Exception e) {
+      handleException(e);
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    try {
+      final Marker m = context.resolveMarkers();
+      if (logger.isEnabledFor(m, convertLogbackLevel(level))) {
+        LoggingContext ctx =
+            new LogbackLoggingContext(this, context, () -> buildFields(f, a, b, builder));
+        if (JfrEvents.test(this.condition.and(condition), level, ctx)) {
+          final Object[] arguments = convertArguments(ctx.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
+          logger.log(
+              resolveLoggerFields(m, ctx), fqcn, convertLevel(level), message, arguments, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         }
       }
     } catch (Exception e) {
@@ -455,7 +556,9 @@ public class LogstashCoreLogger implements CoreLogger {
       public void log(@Nullable String message) {
         try {
           LoggingContext ctx = new LogbackLoggingContext(LogstashCoreLogger.this, context);
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(resolveLoggerFields(m, ctx), fqcn, logbackLevel, message, null, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         } catch (Exception e) {
           handleException(e);
         }
@@ -466,9 +569,11 @@ public class LogstashCoreLogger implements CoreLogger {
         try {
           LoggingContext ctx =
               new LogbackLoggingContext(
-                  LogstashCoreLogger.this, context, () -> convertToFields(f.apply(builder)));
+                  LogstashCoreLogger.this, context, () -> buildFields(f, builder));
           final Object[] arguments = convertArguments(ctx.getArgumentFields());
+          final EventDispatched dispatchEvent = JfrEvents.beginDispatch();
           logger.log(resolveLoggerFields(m, ctx), fqcn, logbackLevel, message, arguments, null);
+          JfrEvents.commitDispatch(dispatchEvent, getName(), level);
         } catch (Exception e) {
           handleException(e);
         }
@@ -515,7 +620,8 @@ public class LogstashCoreLogger implements CoreLogger {
     List<Object> arguments = new ArrayList<>(args.size() + 1);
     for (Field field : args) {
       final Value<?> value = field.value();
-      if (value.type() == Value.Type.EXCEPTION) {
+      // checking the type would compute a lazy value before the event is encoded.
+      if (value instanceof Value.ExceptionValue) {
         throwable = ((Value.ExceptionValue) value).raw();
       }
       arguments.add(new FieldMarker(field));
@@ -642,6 +748,21 @@ public class LogstashCoreLogger implements CoreLogger {
     }
   }
 
+  private <FB> List<Field> buildFields(Function<FB, FieldBuilderResult> f, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
+  private <FB, A, B> List<Field> buildFields(
+      FieldBuilderFunction2<FB, A, B> f, A a, B b, FB builder) {
+    final FieldsBuilt event = JfrEvents.beginFieldsBuilt();
+    final List<Field> fields = convertToFields(f.apply(builder, a, b));
+    JfrEvents.commitFieldsBuilt(event, getName(), fields);
+    return fields;
+  }
+
   private List<Field> convertToFields(FieldBuilderResult result) {
     if (result == null) {
       // XXX log an error
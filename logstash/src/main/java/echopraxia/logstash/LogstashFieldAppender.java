@@ -71,7 +71,7 @@ public class LogstashFieldAppender extends TransformingAppender<ILoggingEvent> {
 
   protected Throwable extractThrowable(Field field) {
     Value<?> value = field.value();
-    if (value.type() == Value.Type.EXCEPTION) {
+    if (value instanceof Value.ExceptionValue) {
       Value.ExceptionValue throwable = (Value.ExceptionValue) value;
       return throwable.raw();
     } else {
@@ -0,0 +1,65 @@
+package echopraxia.logstash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import echopraxia.jackson.BinaryFormat;
+import echopraxia.jackson.BinaryFrameEncoder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class BinaryFieldEncoderTest extends TestBase {
+
+  @Test
+  void testSmileFrame() throws IOException {
+    assertEncoded("smile");
+  }
+
+  @Test
+  void testCborFrame() throws IOException {
+    assertEncoded("cbor");
+  }
+
+  @Test
+  void testUnknownFormat() {
+    BinaryFieldEncoder encoder = new BinaryFieldEncoder();
+    encoder.setContext(loggerContext());
+    encoder.setFormat("protobuf");
+    encoder.start();
+    assertThat(encoder.isStarted()).isFalse();
+
+    getLogger().info("hello");
+    final ILoggingEvent event = getListAppender().list.get(0);
+    assertThat(encoder.encode(event)).isEmpty();
+  }
+
+  private void assertEncoded(String format) throws IOException {
+    var logger = getLogger().withFields(fb -> fb.string("book", "The Cask"));
+    logger.info("hello {}", fb -> fb.number("count", 3));
+    final ILoggingEvent event = getListAppender().list.get(0);
+
+    BinaryFieldEncoder encoder = new BinaryFieldEncoder();
+    encoder.setContext(loggerContext());
+    encoder.setFormat(format);
+    encoder.start();
+    assertThat(encoder.isStarted()).isTrue();
+
+    byte[] frame = BinaryFrameEncoder.readFrame(new ByteArrayInputStream(encoder.encode(event)));
+    BinaryFrameEncoder frameEncoder = new BinaryFrameEncoder(BinaryFormat.fromName(format), true);
+    Value<?> value = frameEncoder.mapper().readValue(frame, Value.class);
+
+    List<Field> fields = ((Value.ObjectValue) value).raw();
+    Map<String, Object> map =
+        fields.stream().collect(Collectors.toMap(Field::name, f -> f.value().raw()));
+    assertThat(map.get("message")).isEqualTo("hello count=3");
+    assertThat(map.get("level")).isEqualTo("INFO");
+    assertThat(map.get("book")).isEqualTo("The Cask");
+    assertThat(map.get("count")).isEqualTo(3);
+  }
+}
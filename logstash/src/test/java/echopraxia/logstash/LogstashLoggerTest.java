@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.logstash.logback.argument.StructuredArgument;
 import net.logstash.logback.marker.ObjectAppendingMarker;
 import org.junit.jupiter.api.Test;
@@ -112,6 +113,92 @@ class LogstashLoggerTest extends TestBase {
     assertThat(formattedMessage).isEqualTo("hello name=PERSON, you are age=13, citizen=true");
   }
 
+  @Test
+  void testArgumentFunction() {
+    var logger = getLogger();
+    logger.debug("hello {}", (fb, name) -> fb.string("name", name), "PERSON");
+
+    final ListAppender<ILoggingEvent> listAppender = getListAppender();
+    final ILoggingEvent event = listAppender.list.get(0);
+    final String formattedMessage = event.getFormattedMessage();
+    assertThat(formattedMessage).isEqualTo("hello name=PERSON");
+  }
+
+  @Test
+  void testTwoArgumentFunction() {
+    var logger = getLogger();
+    logger.debug(
+        "hello {}, you are {}",
+        (fb, name, age) -> fb.list(fb.string("name", name), fb.number("age", age)),
+        "PERSON",
+        13);
+
+    final ListAppender<ILoggingEvent> listAppender = getListAppender();
+    final ILoggingEvent event = listAppender.list.get(0);
+    final String formattedMessage = event.getFormattedMessage();
+    assertThat(formattedMessage).isEqualTo("hello name=PERSON, you are age=13");
+  }
+
+  @Test
+  void testDisabledArgumentFunction() {
+    var logger = getLogger();
+    var calls = new AtomicInteger();
+    logger.trace(
+        "hello {}",
+        (fb, counter) -> {
+          counter.incrementAndGet();
+          return fb.string("name", "PERSON");
+        },
+        calls);
+
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(getListAppender().list).isEmpty();
+  }
+
+  @Test
+  void testEventBuilder() {
+    var logger = getLogger();
+    logger.atDebug().with("name", "PERSON").with("age", 13).with("citizen", true).log("hello {}");
+
+    final ListAppender<ILoggingEvent> listAppender = getListAppender();
+    final ILoggingEvent event = listAppender.list.get(0);
+    assertThat(event.getFormattedMessage()).isEqualTo("hello name=PERSON");
+    assertThat(event.getArgumentArray()).hasSize(3);
+  }
+
+  @Test
+  void testEventBuilderWithoutMessage() {
+    var logger = getLogger();
+    logger.atDebug().with("name", "PERSON").with("age", 13).log();
+
+    final ListAppender<ILoggingEvent> listAppender = getListAppender();
+    final ILoggingEvent event = listAppender.list.get(0);
+    assertThat(event.getFormattedMessage()).isEqualTo("name=PERSON age=13");
+  }
+
+  @Test
+  void testEventBuilderIsReused() {
+    var logger = getLogger();
+    var first = logger.atDebug().with("name", "first");
+    first.log("hello {}");
+    var second = logger.atDebug().with("name", "second");
+    second.log("hello {}");
+
+    assertThat(second).isSameAs(first);
+    final ListAppender<ILoggingEvent> listAppender = getListAppender();
+    assertThat(listAppender.list.get(0).getFormattedMessage()).isEqualTo("hello name=first");
+    assertThat(listAppender.list.get(1).getFormattedMessage()).isEqualTo("hello name=second");
+  }
+
+  @Test
+  void testDisabledEventBuilder() {
+    var logger = getLogger();
+    assertThat(logger.atTrace()).isSameAs(logger.atTrace());
+    logger.atTrace().with("name", "PERSON").log("hello {}");
+
+    assertThat(getListAppender().list).isEmpty();
+  }
+
   @Test
   void testArrayOfStringsArgument() {
     var logger = getLogger();
@@ -4,6 +4,7 @@ import static echopraxia.logging.spi.Utilities.joinFields;
 
 import echopraxia.api.*;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggerHandle;
 import echopraxia.logging.spi.CoreLogger;
@@ -120,6 +121,11 @@ public class NoopCoreLogger implements CoreLogger {
     return new NoopCoreLogger(fqcn, context, this.condition.and(condition), newSupplier);
   }
 
+  @Override
+  public @NotNull Supplier<Runnable> threadLocal() {
+    return tlsSupplier;
+  }
+
   @Override
   public @NotNull CoreLogger withCondition(@NotNull Condition condition) {
     return new NoopCoreLogger(fqcn, context, this.condition.and(condition), tlsSupplier);
@@ -257,6 +263,45 @@ public class NoopCoreLogger implements CoreLogger {
     }
   }
 
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    List<Field> args = convert(f.apply(builder, a, b));
+    if (isEnabledFor(level)) {
+      NoopLoggingContext memo = new NoopLoggingContext(this, context::getLoggerFields, () -> args);
+      if (this.condition.test(level, memo)) {
+        List<Field> fields = memo.getFields();
+        System.out.printf("" + message + " level %s fields %s args %s\n", level, fields, args);
+      }
+    }
+  }
+
+  @Override
+  public <FB, A, B> void log(
+      @NotNull Level level,
+      @NotNull Condition condition,
+      @Nullable String message,
+      @NotNull FieldBuilderFunction2<FB, A, B> f,
+      A a,
+      B b,
+      @NotNull FB builder) {
+    NoopLoggingContext argContext =
+        new NoopLoggingContext(
+            NoopCoreLogger.this, context::getLoggerFields, () -> convert(f.apply(builder, a, b)));
+    if (isEnabledFor(level) && this.condition.and(condition).test(level, argContext)) {
+      System.out.printf(
+          "" + message + " level %s fields %s args %s\n",
+          level,
+          argContext.getLoggerFields(),
+          argContext.getArgumentFields());
+    }
+  }
+
   @Override
   public @NotNull <FB> LoggerHandle<FB> logHandle(@NotNull Level level, @NotNull FB builder) {
     return new LoggerHandle<FB>() {
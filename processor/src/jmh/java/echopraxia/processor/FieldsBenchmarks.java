@@ -0,0 +1,74 @@
+package echopraxia.processor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldsBenchmarks {
+  private static final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+  private final Person person =
+      new Person("Alice", 42, true, new Address("1 Main Street", "Springfield"));
+
+  private JsonGenerator generator;
+
+  @Setup
+  public void setup() throws IOException {
+    generator = mapper.createGenerator(Writer.nullWriter());
+  }
+
+  @Benchmark
+  public void handWritten(Blackhole blackhole) {
+    blackhole.consume(personValue(person));
+  }
+
+  @Benchmark
+  public void generated(Blackhole blackhole) {
+    blackhole.consume(FieldsBenchmarks_PersonFields.toObjectValue(person));
+  }
+
+  @Benchmark
+  public void generatedWriteValue() throws IOException {
+    mapper.writeValue(generator, FieldsBenchmarks_PersonFields.toObjectValue(person));
+  }
+
+  @Benchmark
+  public void generatedWriteTo() throws IOException {
+    FieldsBenchmarks_PersonFields.writeTo(person, generator);
+  }
+
+  // how a field builder extension usually maps a domain object.
+  private static Value<?> personValue(Person p) {
+    final List<Field> fields = new ArrayList<>();
+    fields.add(Field.keyValue("name", Value.string(p.name())));
+    fields.add(Field.keyValue("age", Value.number(p.age())));
+    fields.add(Field.keyValue("active", Value.bool(p.active())));
+    final Address a = p.address();
+    final List<Field> address = new ArrayList<>();
+    address.add(Field.keyValue("street", Value.string(a.street())));
+    address.add(Field.keyValue("city", Value.string(a.city())));
+    fields.add(Field.keyValue("address", Value.object(address)));
+    return Value.object(fields);
+  }
+
+  @EchopraxiaFields(writeTo = true)
+  public record Person(String name, int age, boolean active, Address address) {}
+
+  @EchopraxiaFields(writeTo = true)
+  public record Address(String street, String city) {}
+}
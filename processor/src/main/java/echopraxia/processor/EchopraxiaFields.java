@@ -0,0 +1,44 @@
+package echopraxia.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a mapper from a class or record to structured values at compile time.
+ *
+ * <p>For a type {@code Person}, {@link EchopraxiaFieldsProcessor} writes a {@code PersonFields}
+ * class in the same package, with a constant for each property name and static {@code
+ * toObjectValue}, {@code toValue} and {@code toField} methods. The properties of a record are its
+ * components, and the properties of a class are its public getters. Nested types are named with
+ * underscores, so {@code Order.Line} is mapped by {@code Order_LineFields}.
+ *
+ * <pre>{@code
+ * @EchopraxiaFields
+ * public record Person(String name, int age, Address address) {}
+ *
+ * logger.info("{}", fb -> PersonFields.toField("person", person));
+ * }</pre>
+ *
+ * <p>Strings, characters, numbers, booleans, enums, lists, arrays and optionals of these are mapped
+ * to the matching values, and properties whose type is also annotated are mapped with that type's
+ * generated class. Any other property is rendered with {@code toString}.
+ *
+ * @since 4.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface EchopraxiaFields {
+
+  /**
+   * Also generates a {@code writeTo(T, JsonGenerator)} method that writes the object straight to a
+   * Jackson generator, without building values. Requires {@code jackson-core} on the classpath, and
+   * annotated property types must set this as well.
+   *
+   * @return true if the Jackson writer should be generated.
+   */
+  boolean writeTo() default false;
+}
@@ -0,0 +1,76 @@
+package echopraxia.processor;
+
+import java.io.IOException;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Writes a mapper class for each type annotated with {@link EchopraxiaFields}.
+ *
+ * <p>Add this module to the annotation processor path, e.g. in Gradle:
+ *
+ * <pre>{@code
+ * compileOnly "com.tersesystems.echopraxia:processor:<version>"
+ * annotationProcessor "com.tersesystems.echopraxia:processor:<version>"
+ * }</pre>
+ */
+@SupportedAnnotationTypes("echopraxia.processor.EchopraxiaFields")
+public final class EchopraxiaFieldsProcessor extends AbstractProcessor {
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(EchopraxiaFields.class)) {
+      if (!isClassOrRecord(element)) {
+        error(element, "@EchopraxiaFields must be on a class or record");
+      } else if (!isAccessible(element)) {
+        error(element, "@EchopraxiaFields types must not be private or local");
+      } else {
+        try {
+          new FieldsWriter(processingEnv, (TypeElement) element).write();
+        } catch (IOException e) {
+          error(element, "Cannot write mapper: " + e.getMessage());
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isClassOrRecord(Element element) {
+    // ElementKind.RECORD is not in the JDK 11 API.
+    final ElementKind kind = element.getKind();
+    return kind == ElementKind.CLASS || kind.name().equals("RECORD");
+  }
+
+  private static boolean isAccessible(Element element) {
+    Element current = element;
+    while (current.getKind().isClass() || current.getKind().isInterface()) {
+      if (current.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      final Element enclosing = current.getEnclosingElement();
+      if (enclosing.getKind() == ElementKind.PACKAGE) {
+        return true;
+      }
+      current = enclosing;
+    }
+    // declared in a method.
+    return false;
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
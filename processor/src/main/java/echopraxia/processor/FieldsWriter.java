@@ -0,0 +1,628 @@
+package echopraxia.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Writes the mapper class for one annotated type.
+ *
+ * <p>The generated code refers to every type by its qualified name, so it does not clash with names
+ * in the annotated type's package. Each property is read into a local once, and mapped with
+ * straight-line code chosen from its static type here, so nothing is looked up at runtime.
+ */
+final class FieldsWriter {
+
+  private static final String VALUE = "echopraxia.api.Value";
+  private static final String FIELD = "echopraxia.api.Field";
+  private static final String GENERATOR = "com.fasterxml.jackson.core.JsonGenerator";
+  private static final String SERIALIZED_STRING = "com.fasterxml.jackson.core.io.SerializedString";
+  private static final String GENERATED = "javax.annotation.processing.Generated";
+
+  private static final Set<String> NUMBERS =
+      Set.of(
+          "java.lang.Byte",
+          "java.lang.Short",
+          "java.lang.Integer",
+          "java.lang.Long",
+          "java.lang.Float",
+          "java.lang.Double",
+          "java.math.BigInteger",
+          "java.math.BigDecimal");
+
+  private enum Kind {
+    BOOLEAN,
+    CHAR,
+    NUMBER,
+    STRING,
+    ENUM,
+    NESTED,
+    LIST,
+    ARRAY,
+    OPTIONAL,
+    OTHER
+  }
+
+  private final ProcessingEnvironment env;
+  private final Elements elements;
+  private final Types types;
+  private final TypeElement type;
+  private final boolean writeTo;
+  private final String packageName;
+  private final String mapperName;
+  private final List<Property> properties;
+
+  // primitive array types that need a helper to map to an array value.
+  private final Set<TypeKind> primitiveArrays = new LinkedHashSet<>();
+
+  FieldsWriter(ProcessingEnvironment env, TypeElement type) {
+    this.env = env;
+    this.elements = env.getElementUtils();
+    this.types = env.getTypeUtils();
+    this.type = type;
+    this.writeTo = type.getAnnotation(EchopraxiaFields.class).writeTo();
+    this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+    this.mapperName = mapperName(type);
+    this.properties = properties();
+  }
+
+  void write() throws IOException {
+    final String source = source();
+    final String qualifiedName = qualifiedName(packageName, mapperName);
+    final JavaFileObject file = env.getFiler().createSourceFile(qualifiedName, type);
+    try (Writer writer = file.openWriter()) {
+      writer.write(source);
+    }
+  }
+
+  private String source() {
+    final String typeName = typeName();
+    final StringBuilder out = new StringBuilder(4096);
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("/** Maps {@link ").append(type.getQualifiedName()).append("} to values. */\n");
+    if (elements.getTypeElement(GENERATED) != null) {
+      out.append('@')
+          .append(GENERATED)
+          .append("(\"")
+          .append(EchopraxiaFieldsProcessor.class.getName())
+          .append("\")\n");
+    }
+    out.append("public final class ").append(mapperName).append(" {\n\n");
+
+    for (Property property : properties) {
+      out.append("  public static final String ")
+          .append(property.constant)
+          .append(" = \"")
+          .append(property.name)
+          .append("\";\n");
+    }
+    if (writeTo) {
+      for (Property property : properties) {
+        out.append("  private static final ")
+            .append(SERIALIZED_STRING)
+            .append(' ')
+            .append(property.constant)
+            .append("_JSON = new ")
+            .append(SERIALIZED_STRING)
+            .append('(')
+            .append(property.constant)
+            .append(");\n");
+      }
+    }
+    if (!properties.isEmpty()) {
+      out.append('\n');
+    }
+    out.append("  private ").append(mapperName).append("() {}\n\n");
+
+    // toObjectValue, with the fields in an array sized to the number of properties.
+    out.append("  public static ")
+        .append(VALUE)
+        .append(".ObjectValue toObjectValue(")
+        .append(typeName)
+        .append(" value) {\n");
+    readProperties(out);
+    out.append("    return ").append(VALUE).append(".object(");
+    for (int i = 0; i < properties.size(); i++) {
+      final Property property = properties.get(i);
+      out.append(i == 0 ? "\n        " : ",\n        ")
+          .append(FIELD)
+          .append(".keyValue(")
+          .append(property.constant)
+          .append(", ")
+          .append(value(property.type, "p" + i, 0))
+          .append(')');
+    }
+    out.append(");\n  }\n\n");
+
+    out.append("  public static ")
+        .append(VALUE)
+        .append("<?> toValue(")
+        .append(typeName)
+        .append(" value) {\n    return value == null ? ")
+        .append(VALUE)
+        .append(".nullValue() : toObjectValue(value);\n  }\n\n");
+
+    out.append("  public static ")
+        .append(FIELD)
+        .append(" toField(String name, ")
+        .append(typeName)
+        .append(" value) {\n    return ")
+        .append(FIELD)
+        .append(".keyValue(name, toValue(value));\n  }\n");
+
+    if (writeTo) {
+      out.append("\n  public static void writeTo(")
+          .append(typeName)
+          .append(" value, ")
+          .append(GENERATOR)
+          .append(" generator)\n      throws java.io.IOException {\n")
+          .append("    if (value == null) {\n")
+          .append("      generator.writeNull();\n")
+          .append("      return;\n")
+          .append("    }\n");
+      readProperties(out);
+      out.append("    generator.writeStartObject();\n");
+      for (int i = 0; i < properties.size(); i++) {
+        final Property property = properties.get(i);
+        out.append("    generator.writeFieldName(").append(property.constant).append("_JSON);\n");
+        write(out, "    ", property.type, "p" + i, 0);
+      }
+      out.append("    generator.writeEndObject();\n  }\n");
+    }
+
+    for (TypeKind kind : primitiveArrays) {
+      final String component = kind.name().toLowerCase();
+      out.append("\n  private static ")
+          .append(VALUE)
+          .append(".ArrayValue toArrayValue(")
+          .append(component)
+          .append("[] values) {\n    final java.util.List<")
+          .append(VALUE)
+          .append("<?>> list = new java.util.ArrayList<>(values.length);\n")
+          .append("    for (final var e : values) {\n      list.add(")
+          .append(value(types.getPrimitiveType(kind), "e", 0))
+          .append(");\n    }\n    return ")
+          .append(VALUE)
+          .append(".array(list);\n  }\n");
+    }
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private void readProperties(StringBuilder out) {
+    for (int i = 0; i < properties.size(); i++) {
+      out.append("    final var p")
+          .append(i)
+          .append(" = value.")
+          .append(properties.get(i).accessor)
+          .append("();\n");
+    }
+  }
+
+  // An expression mapping the variable x of the given type to a value.
+  private String value(TypeMirror type, String x, int depth) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return VALUE + ".bool(" + x + ")";
+      case CHAR:
+        return VALUE + ".string(String.valueOf(" + x + "))";
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return VALUE + ".number(" + x + ")";
+      default:
+        break;
+    }
+    final Kind kind = kind(type);
+    if (kind == Kind.NESTED) {
+      // the nested mapper checks for null itself.
+      return nestedMapper(type) + ".toValue(" + x + ")";
+    }
+    final String nonNull = nonNullValue(kind, type, x, depth);
+    return "(" + x + " == null ? " + VALUE + ".nullValue() : " + nonNull + ")";
+  }
+
+  private String nonNullValue(Kind kind, TypeMirror type, String x, int depth) {
+    final String e = "e" + depth;
+    switch (kind) {
+      case STRING:
+        final String string = isType(type, "java.lang.String") ? x : x + ".toString()";
+        return VALUE + ".string(" + string + ")";
+      case NUMBER:
+        return VALUE + ".number(" + x + ")";
+      case BOOLEAN:
+        return VALUE + ".bool(" + x + ")";
+      case ENUM:
+        return VALUE + ".string(" + x + ".name())";
+      case LIST:
+        return VALUE
+            + ".array("
+            + e
+            + " -> "
+            + value(listElement(type), e, depth + 1)
+            + ", "
+            + x
+            + ")";
+      case ARRAY:
+        final TypeMirror component = ((ArrayType) type).getComponentType();
+        if (hasPrimitiveArrayValue(component.getKind())) {
+          // a copy backs the value, as the object may change before the value is written.
+          return VALUE + ".array(" + x + ".clone())";
+        }
+        if (component.getKind().isPrimitive()) {
+          primitiveArrays.add(component.getKind());
+          return "toArrayValue(" + x + ")";
+        }
+        return VALUE + ".array(" + e + " -> " + value(component, e, depth + 1) + ", " + x + ")";
+      case OPTIONAL:
+        return VALUE
+            + ".optional("
+            + x
+            + ".map("
+            + e
+            + " -> "
+            + value(typeArgument(type), e, depth + 1)
+            + "))";
+      default:
+        return VALUE + ".string(" + x + ".toString())";
+    }
+  }
+
+  // Statements writing the variable x of the given type to the generator.
+  private void write(StringBuilder out, String indent, TypeMirror type, String x, int depth) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        out.append(indent).append("generator.writeBoolean(").append(x).append(");\n");
+        return;
+      case CHAR:
+        out.append(indent)
+            .append("generator.writeString(String.valueOf(")
+            .append(x)
+            .append("));\n");
+        return;
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        out.append(indent).append("generator.writeNumber(").append(x).append(");\n");
+        return;
+      default:
+        break;
+    }
+    final Kind kind = kind(type);
+    if (kind == Kind.NESTED) {
+      checkWriteTo(type);
+      out.append(indent)
+          .append(nestedMapper(type))
+          .append(".writeTo(")
+          .append(x)
+          .append(", generator);\n");
+      return;
+    }
+    final String inner = indent + "  ";
+    out.append(indent).append("if (").append(x).append(" == null) {\n");
+    out.append(inner).append("generator.writeNull();\n");
+    out.append(indent).append("} else {\n");
+    writeNonNull(out, inner, kind, type, x, depth);
+    out.append(indent).append("}\n");
+  }
+
+  private void writeNonNull(
+      StringBuilder out, String indent, Kind kind, TypeMirror type, String x, int depth) {
+    final String e = "e" + depth;
+    switch (kind) {
+      case STRING:
+        final String string = isType(type, "java.lang.String") ? x : x + ".toString()";
+        out.append(indent).append("generator.writeString(").append(string).append(");\n");
+        return;
+      case NUMBER:
+        out.append(indent).append("generator.writeNumber(").append(x).append(");\n");
+        return;
+      case BOOLEAN:
+        out.append(indent).append("generator.writeBoolean(").append(x).append(");\n");
+        return;
+      case ENUM:
+        out.append(indent).append("generator.writeString(").append(x).append(".name());\n");
+        return;
+      case ARRAY:
+        final TypeMirror component = ((ArrayType) type).getComponentType();
+        final TypeKind componentKind = component.getKind();
+        if (componentKind == TypeKind.INT
+            || componentKind == TypeKind.LONG
+            || componentKind == TypeKind.DOUBLE) {
+          out.append(indent)
+              .append("generator.writeArray(")
+              .append(x)
+              .append(", 0, ")
+              .append(x)
+              .append(".length);\n");
+          return;
+        }
+        writeElements(out, indent, component, x, depth);
+        return;
+      case LIST:
+        writeElements(out, indent, listElement(type), x, depth);
+        return;
+      case OPTIONAL:
+        out.append(indent).append("if (").append(x).append(".isPresent()) {\n");
+        out.append(indent)
+            .append("  final var ")
+            .append(e)
+            .append(" = ")
+            .append(x)
+            .append(".get();\n");
+        write(out, indent + "  ", typeArgument(type), e, depth + 1);
+        out.append(indent).append("} else {\n");
+        out.append(indent).append("  generator.writeNull();\n");
+        out.append(indent).append("}\n");
+        return;
+      default:
+        out.append(indent).append("generator.writeString(").append(x).append(".toString());\n");
+    }
+  }
+
+  private void writeElements(
+      StringBuilder out, String indent, TypeMirror element, String x, int depth) {
+    final String e = "e" + depth;
+    out.append(indent).append("generator.writeStartArray();\n");
+    out.append(indent)
+        .append("for (final var ")
+        .append(e)
+        .append(" : ")
+        .append(x)
+        .append(") {\n");
+    write(out, indent + "  ", element, e, depth + 1);
+    out.append(indent).append("}\n");
+    out.append(indent).append("generator.writeEndArray();\n");
+  }
+
+  private void checkWriteTo(TypeMirror nested) {
+    final TypeElement element = (TypeElement) types.asElement(nested);
+    if (!element.getAnnotation(EchopraxiaFields.class).writeTo()) {
+      env.getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              element.getQualifiedName() + " must also set @EchopraxiaFields(writeTo = true)",
+              type);
+    }
+  }
+
+  private Kind kind(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return Kind.ARRAY;
+    }
+    if (type.getKind() != TypeKind.DECLARED) {
+      // type variables are only known to be objects.
+      return Kind.OTHER;
+    }
+    final TypeElement element = (TypeElement) types.asElement(type);
+    final String name = element.getQualifiedName().toString();
+    if (isSubtype(type, "java.lang.CharSequence")) {
+      return Kind.STRING;
+    }
+    if (name.equals("java.lang.Character")) {
+      return Kind.CHAR;
+    }
+    if (name.equals("java.lang.Boolean")) {
+      return Kind.BOOLEAN;
+    }
+    if (NUMBERS.contains(name)) {
+      return Kind.NUMBER;
+    }
+    if (element.getKind() == ElementKind.ENUM) {
+      return Kind.ENUM;
+    }
+    if (element.getAnnotation(EchopraxiaFields.class) != null) {
+      return Kind.NESTED;
+    }
+    if (name.equals("java.util.Optional")) {
+      return Kind.OPTIONAL;
+    }
+    if (isSubtype(type, "java.util.List")) {
+      return Kind.LIST;
+    }
+    return Kind.OTHER;
+  }
+
+  private TypeMirror listElement(TypeMirror type) {
+    if (isType(type, "java.util.List")) {
+      return typeArgument(type);
+    }
+    for (TypeMirror supertype : types.directSupertypes(type)) {
+      if (isSubtype(supertype, "java.util.List")) {
+        return listElement(supertype);
+      }
+    }
+    return objectType();
+  }
+
+  private TypeMirror typeArgument(TypeMirror type) {
+    final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+    if (arguments.isEmpty()) {
+      return objectType();
+    }
+    final TypeMirror argument = arguments.get(0);
+    if (argument.getKind() == TypeKind.WILDCARD) {
+      final TypeMirror bound = ((WildcardType) argument).getExtendsBound();
+      return bound == null ? objectType() : bound;
+    }
+    return argument;
+  }
+
+  private boolean isType(TypeMirror type, String name) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals(name);
+  }
+
+  private boolean isSubtype(TypeMirror type, String name) {
+    final TypeElement element = elements.getTypeElement(name);
+    return types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+  }
+
+  // the component types that Value.array has a primitive overload for.
+  private static boolean hasPrimitiveArrayValue(TypeKind kind) {
+    return kind == TypeKind.INT
+        || kind == TypeKind.LONG
+        || kind == TypeKind.DOUBLE
+        || kind == TypeKind.BOOLEAN;
+  }
+
+  private TypeMirror objectType() {
+    return elements.getTypeElement("java.lang.Object").asType();
+  }
+
+  private String nestedMapper(TypeMirror nested) {
+    final TypeElement element = (TypeElement) types.asElement(nested);
+    final String nestedPackage = elements.getPackageOf(element).getQualifiedName().toString();
+    return qualifiedName(nestedPackage, mapperName(element));
+  }
+
+  private static String qualifiedName(String packageName, String simpleName) {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  // the annotated type, with wildcards for any type parameters.
+  private String typeName() {
+    final StringBuilder name = new StringBuilder(type.getQualifiedName());
+    final int parameters = type.getTypeParameters().size();
+    if (parameters > 0) {
+      name.append('<');
+      for (int i = 0; i < parameters; i++) {
+        name.append(i == 0 ? "?" : ", ?");
+      }
+      name.append('>');
+    }
+    return name.toString();
+  }
+
+  private static String mapperName(TypeElement type) {
+    final StringBuilder name = new StringBuilder(type.getSimpleName()).append("Fields");
+    Element enclosing = type.getEnclosingElement();
+    while (enclosing.getKind() != ElementKind.PACKAGE) {
+      name.insert(0, enclosing.getSimpleName() + "_");
+      enclosing = enclosing.getEnclosingElement();
+    }
+    return name.toString();
+  }
+
+  private List<Property> properties() {
+    final List<Property> properties = new ArrayList<>();
+    if (type.getKind().name().equals("RECORD")) {
+      // RECORD_COMPONENT is not in the JDK 11 API either.
+      for (Element element : type.getEnclosedElements()) {
+        if (element.getKind().name().equals("RECORD_COMPONENT")) {
+          final String name = element.getSimpleName().toString();
+          properties.add(new Property(name, name, element.asType()));
+        }
+      }
+      return properties;
+    }
+
+    // public getters, including inherited ones, resolved against the annotated type.
+    final DeclaredType declaredType = (DeclaredType) type.asType();
+    final Set<String> names = new HashSet<>();
+    TypeElement current = type;
+    while (current != null) {
+      for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+        final String name = propertyName(method);
+        if (name != null && names.add(name)) {
+          final ExecutableType resolved = (ExecutableType) types.asMemberOf(declaredType, method);
+          final String accessor = method.getSimpleName().toString();
+          properties.add(new Property(name, accessor, resolved.getReturnType()));
+        }
+      }
+      final TypeMirror superclass = current.getSuperclass();
+      current =
+          superclass.getKind() == TypeKind.DECLARED && !isType(superclass, "java.lang.Object")
+              ? (TypeElement) types.asElement(superclass)
+              : null;
+    }
+    return properties;
+  }
+
+  private String propertyName(ExecutableElement method) {
+    if (!method.getModifiers().contains(Modifier.PUBLIC)
+        || method.getModifiers().contains(Modifier.STATIC)
+        || !method.getParameters().isEmpty()
+        || !method.getTypeParameters().isEmpty()) {
+      return null;
+    }
+    final String name = method.getSimpleName().toString();
+    final TypeMirror returnType = method.getReturnType();
+    if (name.startsWith("get")
+        && !name.equals("getClass")
+        && returnType.getKind() != TypeKind.VOID) {
+      return decapitalize(name, 3);
+    }
+    if (name.startsWith("is")
+        && (returnType.getKind() == TypeKind.BOOLEAN || isType(returnType, "java.lang.Boolean"))) {
+      return decapitalize(name, 2);
+    }
+    return null;
+  }
+
+  // as in java.beans.Introspector, "getURL" is "URL" and "getName" is "name".
+  private static String decapitalize(String name, int prefix) {
+    if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) {
+      return null;
+    }
+    if (name.length() > prefix + 1 && Character.isUpperCase(name.charAt(prefix + 1))) {
+      return name.substring(prefix);
+    }
+    return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+  }
+
+  private static String constantName(String name) {
+    final StringBuilder constant = new StringBuilder(name.length() + 4);
+    for (int i = 0; i < name.length(); i++) {
+      final char c = name.charAt(i);
+      if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) {
+        constant.append('_');
+      }
+      constant.append(Character.toUpperCase(c));
+    }
+    return constant.toString();
+  }
+
+  private static final class Property {
+    final String name;
+    final String accessor;
+    final TypeMirror type;
+    final String constant;
+
+    Property(String name, String accessor, TypeMirror type) {
+      this.name = name;
+      this.accessor = accessor;
+      this.type = type;
+      this.constant = constantName(name);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package echopraxia.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class EchopraxiaFieldsTests {
+
+  private static final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Test
+  void testRecordComponents() {
+    Value.ObjectValue value = EchopraxiaFieldsTests_PersonFields.toObjectValue(person());
+
+    List<Field> fields = value.raw();
+    assertThat(fields)
+        .extracting(Field::name)
+        .containsExactly("name", "age", "address", "interests", "mother", "color");
+    assertThat(fields.get(0).value().raw()).isEqualTo("Alice");
+    assertThat(fields.get(1).value().raw()).isEqualTo(42);
+    assertThat(fields.get(4).value().type()).isEqualTo(Value.Type.OBJECT);
+    assertThat(fields.get(5).value().raw()).isEqualTo("BLUE");
+  }
+
+  @Test
+  void testGetters() {
+    Value.ObjectValue value = EchopraxiaFieldsTests_AddressFields.toObjectValue(address());
+
+    assertThat(value.raw())
+        .extracting(Field::name)
+        .containsExactly("street", "verified", "location", "URL");
+    assertThat(EchopraxiaFieldsTests_AddressFields.STREET).isEqualTo("street");
+  }
+
+  @Test
+  void testNulls() {
+    Person person = new Person(null, 1, null, null, Optional.empty(), null);
+    Value.ObjectValue value = EchopraxiaFieldsTests_PersonFields.toObjectValue(person);
+
+    for (Field field : value.raw()) {
+      if (!field.name().equals("age")) {
+        assertThat(field.value().type()).as(field.name()).isEqualTo(Value.Type.NULL);
+      }
+    }
+    assertThat(EchopraxiaFieldsTests_PersonFields.toValue(null)).isEqualTo(Value.nullValue());
+  }
+
+  @Test
+  void testToField() {
+    Field field = EchopraxiaFieldsTests_PersonFields.toField("person", person());
+    assertThat(field.name()).isEqualTo("person");
+    assertThat(field.value().type()).isEqualTo(Value.Type.OBJECT);
+  }
+
+  @Test
+  void testWriteToMatchesValue() throws Exception {
+    Person person = person();
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = mapper.createGenerator(writer)) {
+      EchopraxiaFieldsTests_PersonFields.writeTo(person, generator);
+    }
+
+    Value<?> value = EchopraxiaFieldsTests_PersonFields.toValue(person);
+    assertThat(writer.toString()).isEqualTo(mapper.writeValueAsString(value));
+  }
+
+  @Test
+  void testWriteToNull() throws Exception {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = mapper.createGenerator(writer)) {
+      EchopraxiaFieldsTests_PersonFields.writeTo(null, generator);
+    }
+    assertThat(writer.toString()).isEqualTo("null");
+  }
+
+  private static Person person() {
+    Person mother = new Person("Carol", 70, null, List.of(), Optional.empty(), Color.RED);
+    return new Person(
+        "Alice", 42, address(), List.of("hiking", "chess"), Optional.of(mother), Color.BLUE);
+  }
+
+  private static Address address() {
+    return new Address("1 Main Street", true, new double[] {37.7, -122.4});
+  }
+
+  enum Color {
+    RED,
+    BLUE
+  }
+
+  @EchopraxiaFields(writeTo = true)
+  record Person(
+      String name,
+      int age,
+      Address address,
+      List<String> interests,
+      Optional<Person> mother,
+      Color color) {}
+
+  @EchopraxiaFields(writeTo = true)
+  static class Address {
+    private final String street;
+    private final boolean verified;
+    private final double[] location;
+
+    Address(String street, boolean verified, double[] location) {
+      this.street = street;
+      this.verified = verified;
+      this.location = location;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public boolean isVerified() {
+      return verified;
+    }
+
+    public double[] getLocation() {
+      return location;
+    }
+
+    public String getURL() {
+      return "https://example.com/" + street.replace(' ', '-');
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package echopraxia.scopedvalue;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilder;
+import echopraxia.api.Value;
+import echopraxia.logger.Logger;
+import echopraxia.logger.LoggerFactory;
+import echopraxia.logging.spi.ScopedContext;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+/** Binds a request id and logs once in each of 100k virtual threads. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview"})
+public class ScopedContextBenchmarks {
+  private static final int THREADS = 100_000;
+
+  private static final Logger<FieldBuilder> logger = LoggerFactory.getLogger();
+
+  private static final Logger<FieldBuilder> threadContextLogger = logger.withThreadContext();
+
+  private static final Logger<FieldBuilder> scopedContextLogger = logger.withScopedContext();
+
+  private static final ScopedContext scopedContext = ScopedContext.getInstance();
+
+  @Benchmark
+  public void mdc() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < THREADS; i++) {
+        final String requestId = Integer.toString(i);
+        executor.execute(
+            () -> {
+              MDC.put("request_id", requestId);
+              try {
+                threadContextLogger.info("Message");
+              } finally {
+                MDC.clear();
+              }
+            });
+      }
+    }
+  }
+
+  @Benchmark
+  public void scopedValue() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < THREADS; i++) {
+        final List<Field> fields =
+            List.of(Field.keyValue("request_id", Value.string(Integer.toString(i))));
+        executor.execute(
+            () -> scopedContext.run(fields, () -> scopedContextLogger.info("Message")));
+      }
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package echopraxia.scopedvalue;
+
+import echopraxia.api.Field;
+import echopraxia.logging.spi.ScopedContext;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A scoped context backed by a {@code ScopedValue}.
+ *
+ * <p>Bound fields are read without copying, and are inherited by threads forked in a {@code
+ * StructuredTaskScope}. {@code ScopedValue} is a preview API in JDK 21, so this module must be run
+ * with {@code --enable-preview}, and only loads on JDK 21: other releases reject preview classes.
+ */
+public final class ScopedValueContext implements ScopedContext {
+
+  private static final ScopedValue<List<Field>> FIELDS = ScopedValue.newInstance();
+
+  @Override
+  public @NotNull List<Field> fields() {
+    return FIELDS.orElse(Collections.emptyList());
+  }
+
+  @Override
+  public void run(@NotNull List<Field> fields, @NotNull Runnable op) {
+    ScopedValue.where(FIELDS, ScopedContext.join(fields(), fields)).run(op);
+  }
+
+  @Override
+  public <R> R call(@NotNull List<Field> fields, @NotNull Callable<R> op) throws Exception {
+    return ScopedValue.where(FIELDS, ScopedContext.join(fields(), fields)).call(op);
+  }
+}
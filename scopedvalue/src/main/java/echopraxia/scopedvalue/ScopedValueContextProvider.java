@@ -0,0 +1,14 @@
+package echopraxia.scopedvalue;
+
+import echopraxia.logging.spi.ScopedContext;
+import echopraxia.logging.spi.ScopedContextProvider;
+
+public class ScopedValueContextProvider implements ScopedContextProvider {
+
+  private static final ScopedValueContext scopedContext = new ScopedValueContext();
+
+  @Override
+  public ScopedContext getScopedContext() {
+    return scopedContext;
+  }
+}
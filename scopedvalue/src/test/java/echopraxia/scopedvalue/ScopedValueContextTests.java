@@ -0,0 +1,51 @@
+package echopraxia.scopedvalue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.Value;
+import echopraxia.logging.spi.ScopedContext;
+import java.util.List;
+import java.util.concurrent.StructuredTaskScope;
+import org.junit.jupiter.api.Test;
+
+public class ScopedValueContextTests {
+
+  private final Field requestId = Field.keyValue("request_id", Value.string("1234"));
+  private final Field userId = Field.keyValue("user_id", Value.string("user"));
+
+  @Test
+  public void testServiceLoaderFindsScopedValueContext() {
+    assertThat(ScopedContext.getInstance()).isInstanceOf(ScopedValueContext.class);
+  }
+
+  @Test
+  public void testUnboundIsEmpty() {
+    assertThat(ScopedContext.getInstance().fields()).isEmpty();
+  }
+
+  @Test
+  public void testNestedBindingsAddFields() throws Exception {
+    ScopedContext context = ScopedContext.getInstance();
+    List<Field> fields =
+        context.call(List.of(requestId), () -> context.call(List.of(userId), context::fields));
+    assertThat(fields).containsExactly(requestId, userId);
+    assertThat(context.fields()).isEmpty();
+  }
+
+  @Test
+  public void testForkedTasksInheritFields() throws Exception {
+    ScopedContext context = ScopedContext.getInstance();
+    List<Field> fields =
+        context.call(
+            List.of(requestId),
+            () -> {
+              try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+                StructuredTaskScope.Subtask<List<Field>> subtask = scope.fork(context::fields);
+                scope.join().throwIfFailed();
+                return subtask.get();
+              }
+            });
+    assertThat(fields).containsExactly(requestId);
+  }
+}
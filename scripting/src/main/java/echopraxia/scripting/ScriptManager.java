@@ -11,6 +11,8 @@ import com.twineworks.tweakflow.lang.values.*;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.api.LoggingContext;
 import echopraxia.logging.api.LoggingContextWithFindPathMethods;
+import echopraxia.logging.jfr.ConditionEvaluated;
+import echopraxia.logging.jfr.JfrEvents;
 import java.util.*;
 import java.util.function.Function;
 
@@ -72,6 +74,8 @@ public class ScriptManager {
    }
   */
   public boolean execute(boolean df, Level level, LoggingContextWithFindPathMethods context) {
+    final ConditionEvaluated event = JfrEvents.beginCondition();
+    boolean result = df;
     try {
       Value levelV = getLevelV(level);
       List<ValueMapEntry> functionMapList = new ArrayList<>(userFunctions.apply(context));
@@ -84,10 +88,15 @@ public class ScriptManager {
             "Your function needs to return a boolean value!  Invalid return type: "
                 + retValue.type());
       }
-      return retValue.bool();
+      result = retValue.bool();
+      return result;
     } catch (Exception e) {
       handle.report(e);
       return df; // pass the default through on exception.
+    } finally {
+      if (event != null) {
+        JfrEvents.commitCondition(event, context.getCore().getName(), level, result, handle.path());
+      }
     }
   }
 
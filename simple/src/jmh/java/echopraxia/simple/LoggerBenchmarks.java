@@ -0,0 +1,73 @@
+package echopraxia.simple;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilder;
+import echopraxia.logging.api.Condition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class LoggerBenchmarks {
+  private static final Logger logger = LoggerFactory.getLogger();
+  private static final Logger neverLogger = logger.withCondition(Condition.never());
+
+  private static final FieldBuilder fb = FieldBuilder.instance();
+  private static final Field name = fb.string("name", "value");
+  private static final Field age = fb.number("age", 13);
+  private static final Field citizen = fb.bool("citizen", true);
+  private static final Field status = fb.string("status", "active");
+
+  @Benchmark
+  public void info() {
+    logger.info("Message");
+  }
+
+  @Benchmark
+  public void infoWithField() {
+    logger.info("Message {}", name);
+  }
+
+  @Benchmark
+  public void infoWithFourFields() {
+    logger.info("Message {} {} {} {}", name, age, citizen, status);
+  }
+
+  @Benchmark
+  public void infoWithFieldList() {
+    logger.info("Message {} {} {} {}", fb.list(name, age, citizen, status));
+  }
+
+  @Benchmark
+  public void isInfoEnabled(Blackhole blackhole) {
+    blackhole.consume(logger.isInfoEnabled());
+  }
+
+  @Benchmark
+  public void traceWithField() {
+    // should never log, and allocates nothing
+    logger.trace("Message {}", name);
+  }
+
+  @Benchmark
+  public void traceWithTwoFields() {
+    // should never log, and allocates nothing
+    logger.trace("Message {} {}", name, age);
+  }
+
+  @Benchmark
+  public void traceWithFourFields() {
+    // should never log, and allocates nothing
+    logger.trace("Message {} {} {} {}", name, age, citizen, status);
+  }
+
+  @Benchmark
+  public void infoWithNever() {
+    // should never log, and allocates nothing
+    neverLogger.info("Message {} {} {} {}", name, age, citizen, status);
+  }
+}
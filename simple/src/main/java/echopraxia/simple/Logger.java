@@ -4,14 +4,20 @@ import echopraxia.api.Field;
 import echopraxia.api.FieldBuilder;
 import echopraxia.api.FieldBuilderResult;
 import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
 import echopraxia.logging.api.Level;
 import echopraxia.logging.spi.CoreLogger;
+import echopraxia.logging.spi.ScopedContext;
 import echopraxia.logging.spi.Utilities;
+import java.util.function.BiFunction;
 import org.jetbrains.annotations.NotNull;
 
 public class Logger {
   @NotNull private final CoreLogger core;
 
+  // true if the core logger has no conditions, so isEnabled(level) is only a level check.
+  private final boolean levelOnly;
+
   @NotNull private static final FieldBuilder FIELD_BUILDER = FieldBuilder.instance();
 
   @NotNull
@@ -26,66 +32,392 @@ public class Logger {
 
   public Logger(@NotNull CoreLogger logger) {
     this.core = logger;
+    this.levelOnly = logger.condition() == Condition.always();
   }
 
   public void trace(String template, FieldBuilderResult... results) {
-    core.log(Level.TRACE, template, fb -> FieldBuilderResult.list(results), FIELD_BUILDER);
+    core.log(Level.TRACE, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void trace(String template, Field... fields) {
-    core.log(Level.TRACE, template, fb -> FieldBuilderResult.list(fields), FIELD_BUILDER);
+    core.log(Level.TRACE, template, Logger::fields, fields, null, FIELD_BUILDER);
   }
 
   public void trace(String template, Throwable throwable) {
-    core.log(Level.TRACE, template, fb -> fb.exception(throwable), FIELD_BUILDER);
+    core.log(Level.TRACE, template, Logger::exception, throwable, null, FIELD_BUILDER);
+  }
+
+  public <A> void trace(String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    core.log(Level.TRACE, template, Logger::apply, f, arg, FIELD_BUILDER);
+  }
+
+  public <A, B> void trace(String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+    core.log(Level.TRACE, template, f, a, b, FIELD_BUILDER);
+  }
+
+  public void trace(String template, Field field) {
+    core.log(Level.TRACE, template, Logger::field, field, null, FIELD_BUILDER);
+  }
+
+  public void trace(String template, Field field1, Field field2) {
+    core.log(Level.TRACE, template, Logger::twoFields, field1, field2, FIELD_BUILDER);
+  }
+
+  public void trace(String template, Field field1, Field field2, Field field3) {
+    if (isDisabled(Level.TRACE)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3};
+    core.log(Level.TRACE, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void trace(String template, Field field1, Field field2, Field field3, Field field4) {
+    if (isDisabled(Level.TRACE)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3, field4};
+    core.log(Level.TRACE, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void trace(String template, FieldBuilderResult result) {
+    core.log(Level.TRACE, template, Logger::result, result, null, FIELD_BUILDER);
+  }
+
+  public void trace(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+    core.log(Level.TRACE, template, Logger::twoResults, result1, result2, FIELD_BUILDER);
+  }
+
+  public void trace(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3) {
+    if (isDisabled(Level.TRACE)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3};
+    core.log(Level.TRACE, template, Logger::results, results, null, FIELD_BUILDER);
+  }
+
+  public void trace(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3,
+      FieldBuilderResult result4) {
+    if (isDisabled(Level.TRACE)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3, result4};
+    core.log(Level.TRACE, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void debug(String template, FieldBuilderResult... results) {
-    core.log(Level.DEBUG, template, fb -> FieldBuilderResult.list(results), FIELD_BUILDER);
+    core.log(Level.DEBUG, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void debug(String template, Field... fields) {
-    core.log(Level.DEBUG, template, fb -> FieldBuilderResult.list(fields), FIELD_BUILDER);
+    core.log(Level.DEBUG, template, Logger::fields, fields, null, FIELD_BUILDER);
   }
 
   public void debug(String template, Throwable throwable) {
-    core.log(Level.DEBUG, template, fb -> fb.exception(throwable), FIELD_BUILDER);
+    core.log(Level.DEBUG, template, Logger::exception, throwable, null, FIELD_BUILDER);
+  }
+
+  public <A> void debug(String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    core.log(Level.DEBUG, template, Logger::apply, f, arg, FIELD_BUILDER);
+  }
+
+  public <A, B> void debug(String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+    core.log(Level.DEBUG, template, f, a, b, FIELD_BUILDER);
+  }
+
+  public void debug(String template, Field field) {
+    core.log(Level.DEBUG, template, Logger::field, field, null, FIELD_BUILDER);
+  }
+
+  public void debug(String template, Field field1, Field field2) {
+    core.log(Level.DEBUG, template, Logger::twoFields, field1, field2, FIELD_BUILDER);
+  }
+
+  public void debug(String template, Field field1, Field field2, Field field3) {
+    if (isDisabled(Level.DEBUG)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3};
+    core.log(Level.DEBUG, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void debug(String template, Field field1, Field field2, Field field3, Field field4) {
+    if (isDisabled(Level.DEBUG)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3, field4};
+    core.log(Level.DEBUG, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void debug(String template, FieldBuilderResult result) {
+    core.log(Level.DEBUG, template, Logger::result, result, null, FIELD_BUILDER);
+  }
+
+  public void debug(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+    core.log(Level.DEBUG, template, Logger::twoResults, result1, result2, FIELD_BUILDER);
+  }
+
+  public void debug(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3) {
+    if (isDisabled(Level.DEBUG)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3};
+    core.log(Level.DEBUG, template, Logger::results, results, null, FIELD_BUILDER);
+  }
+
+  public void debug(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3,
+      FieldBuilderResult result4) {
+    if (isDisabled(Level.DEBUG)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3, result4};
+    core.log(Level.DEBUG, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void info(String template, FieldBuilderResult... results) {
-    core.log(Level.INFO, template, fb -> FieldBuilderResult.list(results), FIELD_BUILDER);
+    core.log(Level.INFO, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void info(String template, Field... fields) {
-    core.log(Level.INFO, template, fb -> FieldBuilderResult.list(fields), FIELD_BUILDER);
+    core.log(Level.INFO, template, Logger::fields, fields, null, FIELD_BUILDER);
   }
 
   public void info(String template, Throwable throwable) {
-    core.log(Level.INFO, template, fb -> fb.exception(throwable), FIELD_BUILDER);
+    core.log(Level.INFO, template, Logger::exception, throwable, null, FIELD_BUILDER);
+  }
+
+  public <A> void info(String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    core.log(Level.INFO, template, Logger::apply, f, arg, FIELD_BUILDER);
+  }
+
+  public <A, B> void info(String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+    core.log(Level.INFO, template, f, a, b, FIELD_BUILDER);
+  }
+
+  public void info(String template, Field field) {
+    core.log(Level.INFO, template, Logger::field, field, null, FIELD_BUILDER);
+  }
+
+  public void info(String template, Field field1, Field field2) {
+    core.log(Level.INFO, template, Logger::twoFields, field1, field2, FIELD_BUILDER);
+  }
+
+  public void info(String template, Field field1, Field field2, Field field3) {
+    if (isDisabled(Level.INFO)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3};
+    core.log(Level.INFO, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void info(String template, Field field1, Field field2, Field field3, Field field4) {
+    if (isDisabled(Level.INFO)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3, field4};
+    core.log(Level.INFO, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void info(String template, FieldBuilderResult result) {
+    core.log(Level.INFO, template, Logger::result, result, null, FIELD_BUILDER);
+  }
+
+  public void info(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+    core.log(Level.INFO, template, Logger::twoResults, result1, result2, FIELD_BUILDER);
+  }
+
+  public void info(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3) {
+    if (isDisabled(Level.INFO)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3};
+    core.log(Level.INFO, template, Logger::results, results, null, FIELD_BUILDER);
+  }
+
+  public void info(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3,
+      FieldBuilderResult result4) {
+    if (isDisabled(Level.INFO)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3, result4};
+    core.log(Level.INFO, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void warn(String template, FieldBuilderResult... results) {
-    core.log(Level.WARN, template, fb -> FieldBuilderResult.list(results), FIELD_BUILDER);
+    core.log(Level.WARN, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void warn(String template, Field... fields) {
-    core.log(Level.WARN, template, fb -> FieldBuilderResult.list(fields), FIELD_BUILDER);
+    core.log(Level.WARN, template, Logger::fields, fields, null, FIELD_BUILDER);
   }
 
   public void warn(String template, Throwable throwable) {
-    core.log(Level.WARN, template, fb -> fb.exception(throwable), FIELD_BUILDER);
+    core.log(Level.WARN, template, Logger::exception, throwable, null, FIELD_BUILDER);
+  }
+
+  public <A> void warn(String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    core.log(Level.WARN, template, Logger::apply, f, arg, FIELD_BUILDER);
+  }
+
+  public <A, B> void warn(String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+    core.log(Level.WARN, template, f, a, b, FIELD_BUILDER);
+  }
+
+  public void warn(String template, Field field) {
+    core.log(Level.WARN, template, Logger::field, field, null, FIELD_BUILDER);
+  }
+
+  public void warn(String template, Field field1, Field field2) {
+    core.log(Level.WARN, template, Logger::twoFields, field1, field2, FIELD_BUILDER);
+  }
+
+  public void warn(String template, Field field1, Field field2, Field field3) {
+    if (isDisabled(Level.WARN)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3};
+    core.log(Level.WARN, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void warn(String template, Field field1, Field field2, Field field3, Field field4) {
+    if (isDisabled(Level.WARN)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3, field4};
+    core.log(Level.WARN, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void warn(String template, FieldBuilderResult result) {
+    core.log(Level.WARN, template, Logger::result, result, null, FIELD_BUILDER);
+  }
+
+  public void warn(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+    core.log(Level.WARN, template, Logger::twoResults, result1, result2, FIELD_BUILDER);
+  }
+
+  public void warn(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3) {
+    if (isDisabled(Level.WARN)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3};
+    core.log(Level.WARN, template, Logger::results, results, null, FIELD_BUILDER);
+  }
+
+  public void warn(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3,
+      FieldBuilderResult result4) {
+    if (isDisabled(Level.WARN)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3, result4};
+    core.log(Level.WARN, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void error(String template, FieldBuilderResult... results) {
-    core.log(Level.ERROR, template, fb -> FieldBuilderResult.list(results), FIELD_BUILDER);
+    core.log(Level.ERROR, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public void error(String template, Field... fields) {
-    core.log(Level.ERROR, template, fb -> FieldBuilderResult.list(fields), FIELD_BUILDER);
+    core.log(Level.ERROR, template, Logger::fields, fields, null, FIELD_BUILDER);
   }
 
   public void error(String template, Throwable throwable) {
-    core.log(Level.ERROR, template, fb -> fb.exception(throwable), FIELD_BUILDER);
+    core.log(Level.ERROR, template, Logger::exception, throwable, null, FIELD_BUILDER);
+  }
+
+  public <A> void error(String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    core.log(Level.ERROR, template, Logger::apply, f, arg, FIELD_BUILDER);
+  }
+
+  public <A, B> void error(String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+    core.log(Level.ERROR, template, f, a, b, FIELD_BUILDER);
+  }
+
+  public void error(String template, Field field) {
+    core.log(Level.ERROR, template, Logger::field, field, null, FIELD_BUILDER);
+  }
+
+  public void error(String template, Field field1, Field field2) {
+    core.log(Level.ERROR, template, Logger::twoFields, field1, field2, FIELD_BUILDER);
+  }
+
+  public void error(String template, Field field1, Field field2, Field field3) {
+    if (isDisabled(Level.ERROR)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3};
+    core.log(Level.ERROR, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void error(String template, Field field1, Field field2, Field field3, Field field4) {
+    if (isDisabled(Level.ERROR)) {
+      return;
+    }
+    final Field[] fields = {field1, field2, field3, field4};
+    core.log(Level.ERROR, template, Logger::fields, fields, null, FIELD_BUILDER);
+  }
+
+  public void error(String template, FieldBuilderResult result) {
+    core.log(Level.ERROR, template, Logger::result, result, null, FIELD_BUILDER);
+  }
+
+  public void error(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+    core.log(Level.ERROR, template, Logger::twoResults, result1, result2, FIELD_BUILDER);
+  }
+
+  public void error(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3) {
+    if (isDisabled(Level.ERROR)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3};
+    core.log(Level.ERROR, template, Logger::results, results, null, FIELD_BUILDER);
+  }
+
+  public void error(
+      String template,
+      FieldBuilderResult result1,
+      FieldBuilderResult result2,
+      FieldBuilderResult result3,
+      FieldBuilderResult result4) {
+    if (isDisabled(Level.ERROR)) {
+      return;
+    }
+    final FieldBuilderResult[] results = {result1, result2, result3, result4};
+    core.log(Level.ERROR, template, Logger::results, results, null, FIELD_BUILDER);
   }
 
   public boolean isTraceEnabled() {
@@ -116,6 +448,12 @@ public class Logger {
     return new Logger(core.withThreadContext(Utilities.threadContext()));
   }
 
+  public @NotNull Logger withScopedContext() {
+    return new Logger(
+        core.withFields(
+            fb -> FieldBuilderResult.list(ScopedContext.getInstance().fields()), FIELD_BUILDER));
+  }
+
   public @NotNull Logger withFields(@NotNull FieldBuilderResult... results) {
     return new Logger(core.withFields(fb -> FieldBuilderResult.list(results), FIELD_BUILDER));
   }
@@ -125,6 +463,500 @@ public class Logger {
   }
 
   public @NotNull Logger withCondition(@NotNull Condition condition) {
-    return new Logger(core.withCondition(condition));
+    if (condition == Condition.always()) {
+      return this;
+    } else if (condition == Condition.never()) {
+      return new NeverLogger(core.withCondition(Condition.never()));
+    } else {
+      return new Logger(core.withCondition(condition));
+    }
+  }
+
+  // The statements above pass their arguments through the core logger rather than capturing them
+  // in a lambda. Statements with more than two fields put them in a small array, so they return
+  // early at a disabled level when that is a level check only. When the logger has conditions,
+  // the checks are left to the core logger so that conditions are only evaluated once.
+
+  private boolean isDisabled(Level level) {
+    return levelOnly && !core.isEnabled(level);
+  }
+
+  private static FieldBuilderResult results(
+      FieldBuilder fb, FieldBuilderResult[] results, Object unused) {
+    return FieldBuilderResult.list(results);
+  }
+
+  private static FieldBuilderResult fields(FieldBuilder fb, Field[] fields, Object unused) {
+    return FieldBuilderResult.list(fields);
+  }
+
+  private static FieldBuilderResult field(FieldBuilder fb, Field field, Object unused) {
+    return field;
+  }
+
+  private static FieldBuilderResult twoFields(FieldBuilder fb, Field field1, Field field2) {
+    return FieldBuilderResult.list(new Field[] {field1, field2});
+  }
+
+  private static FieldBuilderResult result(
+      FieldBuilder fb, FieldBuilderResult result, Object unused) {
+    return result;
+  }
+
+  private static FieldBuilderResult twoResults(
+      FieldBuilder fb, FieldBuilderResult result1, FieldBuilderResult result2) {
+    return FieldBuilderResult.list(new FieldBuilderResult[] {result1, result2});
+  }
+
+  private static FieldBuilderResult exception(FieldBuilder fb, Throwable throwable, Object unused) {
+    return fb.exception(throwable);
+  }
+
+  private static <A> FieldBuilderResult apply(
+      FieldBuilder fb, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+    return f.apply(fb, arg);
+  }
+
+  /** An optimized logger for use with {@code Condition.never()}. */
+  public static class NeverLogger extends Logger {
+
+    protected NeverLogger(@NotNull CoreLogger core) {
+      super(core);
+    }
+
+    @Override
+    public void trace(String template, FieldBuilderResult... results) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Field... fields) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Throwable throwable) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void trace(
+        String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void trace(
+        String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Field field) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Field field1, Field field2) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Field field1, Field field2, Field field3) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, Field field1, Field field2, Field field3, Field field4) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, FieldBuilderResult result) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3) {
+      // do nothing
+    }
+
+    @Override
+    public void trace(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3,
+        FieldBuilderResult result4) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, FieldBuilderResult... results) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Field... fields) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Throwable throwable) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void debug(
+        String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void debug(
+        String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Field field) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Field field1, Field field2) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Field field1, Field field2, Field field3) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, Field field1, Field field2, Field field3, Field field4) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, FieldBuilderResult result) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3) {
+      // do nothing
+    }
+
+    @Override
+    public void debug(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3,
+        FieldBuilderResult result4) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, FieldBuilderResult... results) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Field... fields) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Throwable throwable) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void info(
+        String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void info(
+        String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Field field) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Field field1, Field field2) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Field field1, Field field2, Field field3) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, Field field1, Field field2, Field field3, Field field4) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, FieldBuilderResult result) {
+      // do nothing
+    }
+
+    @Override
+    public void info(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+      // do nothing
+    }
+
+    @Override
+    public void info(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3) {
+      // do nothing
+    }
+
+    @Override
+    public void info(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3,
+        FieldBuilderResult result4) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, FieldBuilderResult... results) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Field... fields) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Throwable throwable) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void warn(
+        String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void warn(
+        String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Field field) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Field field1, Field field2) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Field field1, Field field2, Field field3) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, Field field1, Field field2, Field field3, Field field4) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, FieldBuilderResult result) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3) {
+      // do nothing
+    }
+
+    @Override
+    public void warn(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3,
+        FieldBuilderResult result4) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, FieldBuilderResult... results) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Field... fields) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Throwable throwable) {
+      // do nothing
+    }
+
+    @Override
+    public <A> void error(
+        String template, BiFunction<FieldBuilder, A, FieldBuilderResult> f, A arg) {
+      // do nothing
+    }
+
+    @Override
+    public <A, B> void error(
+        String template, FieldBuilderFunction2<FieldBuilder, A, B> f, A a, B b) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Field field) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Field field1, Field field2) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Field field1, Field field2, Field field3) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, Field field1, Field field2, Field field3, Field field4) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, FieldBuilderResult result) {
+      // do nothing
+    }
+
+    @Override
+    public void error(String template, FieldBuilderResult result1, FieldBuilderResult result2) {
+      // do nothing
+    }
+
+    @Override
+    public void error(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3) {
+      // do nothing
+    }
+
+    @Override
+    public void error(
+        String template,
+        FieldBuilderResult result1,
+        FieldBuilderResult result2,
+        FieldBuilderResult result3,
+        FieldBuilderResult result4) {
+      // do nothing
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+      return false;
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+      return false;
+    }
+
+    @Override
+    public @NotNull Logger withThreadContext() {
+      return this;
+    }
+
+    @Override
+    public @NotNull Logger withScopedContext() {
+      return this;
+    }
+
+    @Override
+    public @NotNull Logger withFields(@NotNull FieldBuilderResult... results) {
+      return this;
+    }
+
+    @Override
+    public @NotNull Logger withFields(@NotNull Field... fields) {
+      return this;
+    }
+
+    @Override
+    public @NotNull Logger withCondition(@NotNull Condition condition) {
+      return this;
+    }
   }
 }
@@ -0,0 +1,168 @@
+package echopraxia.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import echopraxia.api.Field;
+import echopraxia.api.FieldBuilderResult;
+import echopraxia.api.Value;
+import echopraxia.logging.api.Condition;
+import echopraxia.logging.api.FieldBuilderFunction2;
+import echopraxia.logging.api.Level;
+import echopraxia.logging.fake.FakeCoreLogger;
+import echopraxia.logging.fake.FakeLoggerContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class LoggerTests {
+
+  private final Field a = Field.keyValue("a", Value.number(1));
+  private final Field b = Field.keyValue("b", Value.number(2));
+  private final Field c = Field.keyValue("c", Value.number(3));
+  private final Field d = Field.keyValue("d", Value.number(4));
+
+  // the argument field names of each statement that got past the condition.
+  private final List<List<String>> statements = new ArrayList<>();
+  private int conditionCalls;
+
+  @Test
+  public void testFields() {
+    Logger logger = newLogger(Condition.always());
+
+    logger.info("one", a);
+    logger.info("two", a, b);
+    logger.info("three", a, b, c);
+    logger.info("four", a, b, c, d);
+
+    assertThat(statements)
+        .containsExactly(
+            List.of("a"), List.of("a", "b"), List.of("a", "b", "c"), List.of("a", "b", "c", "d"));
+    // the condition is only evaluated by the core logger, once per statement.
+    assertThat(conditionCalls).isEqualTo(4);
+  }
+
+  @Test
+  public void testResults() {
+    Logger logger = newLogger(Condition.always());
+    FieldBuilderResult ra = a;
+    FieldBuilderResult rb = b;
+    FieldBuilderResult rc = FieldBuilderResult.list(new Field[] {c, d});
+    FieldBuilderResult rd = FieldBuilderResult.empty();
+
+    logger.warn("one", ra);
+    logger.warn("two", ra, rb);
+    logger.warn("three", ra, rb, rc);
+    logger.warn("four", ra, rb, rc, rd);
+
+    assertThat(statements)
+        .containsExactly(
+            List.of("a"),
+            List.of("a", "b"),
+            List.of("a", "b", "c", "d"),
+            List.of("a", "b", "c", "d"));
+    assertThat(conditionCalls).isEqualTo(4);
+  }
+
+  @Test
+  public void testDisabledLevel() {
+    Logger logger = newLogger((level, ctx) -> level != Level.DEBUG);
+
+    logger.debug("one", a);
+    logger.debug("two", a, b);
+    logger.debug("three", a, b, c);
+    logger.debug("four", a, b, c, d);
+    logger.error("enabled", a);
+
+    assertThat(statements).containsExactly(List.of("a"));
+    assertThat(conditionCalls).isEqualTo(5);
+  }
+
+  @Test
+  public void testDisabledLevelWithoutConditions() {
+    AtomicInteger levelChecks = new AtomicInteger();
+    AtomicInteger logged = new AtomicInteger();
+    FakeCoreLogger core =
+        new FakeCoreLogger(getClass().getName()) {
+          @Override
+          public boolean isEnabled(@NotNull Level level) {
+            levelChecks.incrementAndGet();
+            return level != Level.DEBUG;
+          }
+
+          @Override
+          public <FB, A, B> void log(
+              @NotNull Level level,
+              @Nullable String message,
+              @NotNull FieldBuilderFunction2<FB, A, B> f,
+              A a,
+              B b,
+              @NotNull FB builder) {
+            logged.incrementAndGet();
+          }
+        };
+    Logger logger = new Logger(core);
+
+    logger.debug("three", a, b, c);
+    logger.debug("four", a, b, c, d);
+    logger.debug("results", (FieldBuilderResult) a, b, c, d);
+    assertThat(levelChecks.get()).isEqualTo(3);
+    // the statements return before their fields are put in an array and passed on.
+    assertThat(logged.get()).isZero();
+
+    logger.info("three", a, b, c);
+    assertThat(logged.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testConditionNever() {
+    Logger logger = newLogger(Condition.always());
+    Logger never = logger.withCondition(Condition.never());
+
+    never.info("one", a);
+    never.info("two", a, b);
+    never.info("three", a, b, c);
+    never.info("four", a, b, c, d);
+    never.info("results", (FieldBuilderResult) a, b, c, d);
+
+    assertThat(never).isInstanceOf(Logger.NeverLogger.class);
+    assertThat(statements).isEmpty();
+    assertThat(conditionCalls).isZero();
+  }
+
+  @Test
+  public void testNeverLogger() {
+    Logger logger = newLogger(Condition.always());
+    Logger never = logger.withCondition(Condition.never());
+
+    assertThat(logger.withCondition(Condition.always())).isSameAs(logger);
+    assertThat(never.isInfoEnabled()).isFalse();
+    assertThat(never.isEnabled(Level.ERROR)).isFalse();
+    assertThat(never.withFields(a)).isSameAs(never);
+    assertThat(never.withCondition(Condition.always())).isSameAs(never);
+  }
+
+  private Logger newLogger(Condition enabled) {
+    Condition condition =
+        (level, ctx) -> {
+          conditionCalls++;
+          if (!enabled.test(level, ctx)) {
+            return false;
+          }
+          statements.add(
+              ctx.getArgumentFields().stream().map(Field::name).collect(Collectors.toList()));
+          return true;
+        };
+    return new Logger(
+        new FakeCoreLogger(
+            getClass().getName(),
+            FakeLoggerContext.empty(),
+            condition,
+            ForkJoinPool.commonPool(),
+            () -> () -> {}));
+  }
+}